@@ -180,7 +180,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
       String description = MessageFormatter.instance().format(info.description(), info.representation(), "");
       assertionError = new AssertionError(description + errorMessage.formatted(arguments));
     }
-    Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    Failures.instance().removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
     removeCustomAssertRelatedElementsFromStackTraceIfNeeded(assertionError);
     return assertionError;
   }
@@ -248,7 +248,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
                                   .orElse(errorMessageFormat.formatted(arguments));
     String description = MessageFormatter.instance().format(info.description(), info.representation(), errorMessage);
     AssertionError assertionError = assertionErrorCreator.assertionError(description, actual, expected, info.representation());
-    Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    Failures.instance().removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
     removeCustomAssertRelatedElementsFromStackTraceIfNeeded(assertionError);
     return assertionError;
   }
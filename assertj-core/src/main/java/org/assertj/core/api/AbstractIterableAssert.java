@@ -46,6 +46,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -72,6 +74,7 @@ import org.assertj.core.internal.ExtendedByTypesComparator;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.ObjectArrays;
 import org.assertj.core.internal.Objects;
+import org.assertj.core.internal.ParallelEvaluation;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.presentation.PredicateDescription;
 import org.assertj.core.util.IterableUtil;
@@ -117,6 +120,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   private TypeComparators comparatorsForElementPropertyOrFieldTypes;
 
   protected Iterables iterables = Iterables.instance();
+  // null when the elements are evaluated sequentially
+  private ParallelEvaluation parallelEvaluation;
 
   protected AbstractIterableAssert(ACTUAL actual, Class<?> selfType) {
     super(actual, selfType);
@@ -3299,13 +3304,82 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return internalFilteredOn(predicate);
   }
 
+  /**
+   * Evaluates the elements in parallel in the subsequent {@code allMatch}, {@code allSatisfy}, {@code anySatisfy} and
+   * {@code noneSatisfy} assertions, the elements are evaluated by the {@link ForkJoinPool#commonPool() common pool}.
+   * <p>
+   * This is meant for large iterables checked against costly requirements, the given requirements must be thread safe.
+   * The elements not meeting the requirements are reported in the iterable order.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(rows).inParallel()
+   *                 .allSatisfy(row -&gt; assertThat(row.getDate()).matches(ISO_DATE_PATTERN));</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @see #inParallel(Executor, int)
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel() {
+    return inParallel(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Evaluates the elements in parallel in the subsequent {@code allMatch}, {@code allSatisfy}, {@code anySatisfy} and
+   * {@code noneSatisfy} assertions, the elements are evaluated by the given {@link Executor}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ExecutorService executor = Executors.newFixedThreadPool(8);
+   *
+   * // assertion will pass
+   * assertThat(rows).inParallel(executor)
+   *                 .allSatisfy(row -&gt; assertThat(row.getDate()).matches(ISO_DATE_PATTERN));</code></pre>
+   *
+   * @param executor the {@link Executor} evaluating the elements.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given executor is {@code null}.
+   * @see #inParallel(Executor, int)
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel(Executor executor) {
+    return inParallel(executor, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Evaluates the elements in parallel in the subsequent {@code allMatch}, {@code allSatisfy}, {@code anySatisfy} and
+   * {@code noneSatisfy} assertions, the elements are evaluated by the given {@link Executor} and at most
+   * {@code maxReportedFailures} elements not meeting the requirements are reported.
+   * <p>
+   * The first elements not meeting the requirements in the iterable order are reported, the elements that would not be
+   * reported are not evaluated when possible.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Integer&gt; numbers = IntStream.range(0, 1_000_000).boxed().collect(toList());
+   *
+   * // assertion fails reporting 0, 2 and 4 only
+   * assertThat(numbers).inParallel(executor, 3)
+   *                    .allMatch(number -&gt; number % 2 == 1);</code></pre>
+   *
+   * @param executor the {@link Executor} evaluating the elements.
+   * @param maxReportedFailures the maximum number of elements not meeting the requirements to report.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given executor is {@code null}.
+   * @throws IllegalArgumentException if the given maximum number of reported failures is not greater than 0.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF inParallel(Executor executor, int maxReportedFailures) {
+    return withParallelEvaluation(new ParallelEvaluation(executor, maxReportedFailures));
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate) {
-    iterables.assertAllMatch(info, actual, predicate, PredicateDescription.GIVEN);
-    return myself;
+    return internalAllMatch(predicate, PredicateDescription.GIVEN);
   }
 
   /**
@@ -3313,7 +3387,12 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
    */
   @Override
   public SELF allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
-    iterables.assertAllMatch(info, actual, predicate, new PredicateDescription(predicateDescription));
+    return internalAllMatch(predicate, new PredicateDescription(predicateDescription));
+  }
+
+  private SELF internalAllMatch(Predicate<? super ELEMENT> predicate, PredicateDescription predicateDescription) {
+    if (parallelEvaluation == null) iterables.assertAllMatch(info, actual, predicate, predicateDescription);
+    else iterables.assertAllMatch(info, actual, predicate, predicateDescription, parallelEvaluation);
     return myself;
   }
 
@@ -3334,7 +3413,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalAllSatisfy(Consumer<? super ELEMENT> requirements) {
-    iterables.assertAllSatisfy(info, actual, requirements);
+    if (parallelEvaluation == null) iterables.assertAllSatisfy(info, actual, requirements);
+    else iterables.assertAllSatisfy(info, actual, requirements, parallelEvaluation);
     return myself;
   }
 
@@ -3407,7 +3487,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalAnySatisfy(Consumer<? super ELEMENT> requirements) {
-    iterables.assertAnySatisfy(info, actual, requirements);
+    if (parallelEvaluation == null) iterables.assertAnySatisfy(info, actual, requirements);
+    else iterables.assertAnySatisfy(info, actual, requirements, parallelEvaluation);
     return myself;
   }
 
@@ -3428,7 +3509,8 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   }
 
   private SELF internalNoneSatisfy(Consumer<? super ELEMENT> restrictions) {
-    iterables.assertNoneSatisfy(info, actual, restrictions);
+    if (parallelEvaluation == null) iterables.assertNoneSatisfy(info, actual, restrictions);
+    else iterables.assertNoneSatisfy(info, actual, restrictions, parallelEvaluation);
     return myself;
   }
 
@@ -3758,6 +3840,7 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
   SELF withAssertionState(AbstractAssert assertInstance) {
     if (assertInstance instanceof AbstractIterableAssert iterableAssert) {
       return (SELF) super.withAssertionState(assertInstance).withIterables(iterableAssert.iterables)
+                                                            .withParallelEvaluation(iterableAssert.parallelEvaluation)
                                                             .withTypeComparators(iterableAssert.comparatorsByType)
                                                             .withComparatorsForElementPropertyOrFieldNames(iterableAssert.comparatorsForElementPropertyOrFieldNames)
                                                             .withComparatorsForElementPropertyOrFieldTypes(iterableAssert.comparatorsForElementPropertyOrFieldTypes);
@@ -3777,6 +3860,11 @@ public abstract class AbstractIterableAssert<SELF extends AbstractIterableAssert
     return myself;
   }
 
+  SELF withParallelEvaluation(ParallelEvaluation parallelEvaluation) {
+    this.parallelEvaluation = parallelEvaluation;
+    return myself;
+  }
+
   SELF withTypeComparators(TypeComparators comparatorsByType) {
     this.comparatorsByType = comparatorsByType;
     return myself;
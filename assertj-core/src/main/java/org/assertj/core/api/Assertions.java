@@ -1811,6 +1811,23 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets how many characters at most are printed in error messages when representing an iterable, an array or a map,
+   * including the elements nested in it. Once reached, the remaining elements are not represented and replaced by
+   * {@code ...}, an element whose representation is too long is truncated.
+   * <p>
+   * Example with a value of {@code 20}:
+   * <pre><code class='java'> List&lt;String&gt; greatBooks = list("A Game of Thrones", "The Lord of the Rings", "Assassin's Apprentice");
+   * // formatted as:
+   * ["A Game of Thrones", "The ..., ...]</code></pre>
+   *
+   * @param maxCharactersForPrinting the maximum number of characters printed for iterables, arrays and maps.
+   * @since 4.0.0
+   */
+  public static void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    StandardRepresentation.setMaxCharactersForPrinting(maxCharactersForPrinting);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
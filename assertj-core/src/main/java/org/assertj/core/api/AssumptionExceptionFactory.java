@@ -15,7 +15,13 @@
  */
 package org.assertj.core.api;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
@@ -29,9 +35,12 @@ public class AssumptionExceptionFactory {
 
   private static PreferredAssumptionException preferredAssumptionException = Configuration.PREFERRED_ASSUMPTION_EXCEPTION;
 
+  // the assumption exception class is resolved (and its constructor looked up) once per preferred assumption exception
+  private static final Map<PreferredAssumptionException, MethodHandle> ASSUMPTION_EXCEPTION_CONSTRUCTORS = new ConcurrentHashMap<>();
+
   static RuntimeException assumptionNotMet(AssertionError assertionError) throws ReflectiveOperationException {
-    Class<?> assumptionExceptionClass = preferredAssumptionException.getAssumptionExceptionClass();
-    return buildAssumptionException(assumptionExceptionClass, assertionError);
+    MethodHandle assumptionExceptionConstructor = assumptionExceptionConstructor(preferredAssumptionException);
+    return buildAssumptionException(assumptionExceptionConstructor, assertionError);
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -45,11 +54,30 @@ public class AssumptionExceptionFactory {
     AssumptionExceptionFactory.preferredAssumptionException = preferredAssumptionException;
   }
 
-  private static RuntimeException buildAssumptionException(Class<?> assumptionExceptionClass,
+  private static MethodHandle assumptionExceptionConstructor(PreferredAssumptionException preferredAssumptionException)
+    throws ReflectiveOperationException {
+    MethodHandle constructor = ASSUMPTION_EXCEPTION_CONSTRUCTORS.get(preferredAssumptionException);
+    if (constructor != null) return constructor;
+    Class<?> assumptionExceptionClass = preferredAssumptionException.getAssumptionExceptionClass();
+    constructor = MethodHandles.publicLookup()
+                               .findConstructor(assumptionExceptionClass,
+                                                MethodType.methodType(void.class, String.class, Throwable.class))
+                               .asType(MethodType.methodType(RuntimeException.class, String.class, Throwable.class));
+    ASSUMPTION_EXCEPTION_CONSTRUCTORS.put(preferredAssumptionException, constructor);
+    return constructor;
+  }
+
+  private static RuntimeException buildAssumptionException(MethodHandle assumptionExceptionConstructor,
                                                            AssertionError assertionError) throws ReflectiveOperationException {
-    return (RuntimeException) assumptionExceptionClass.getConstructor(String.class, Throwable.class)
-                                                      .newInstance("assumption was not met due to: "
-                                                                   + assertionError.getMessage(), assertionError);
+    try {
+      return (RuntimeException) assumptionExceptionConstructor.invokeExact("assumption was not met due to: "
+                                                                           + assertionError.getMessage(),
+                                                                           (Throwable) assertionError);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
   }
 
 }
@@ -26,8 +26,9 @@ import static org.assertj.core.util.Arrays.array;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -59,6 +60,7 @@ import java.util.Spliterator;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -74,6 +76,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.DoublePredicate;
+import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
@@ -118,8 +121,116 @@ public class Assumptions {
 
   private static final Implementation ASSUMPTION = MethodDelegation.to(AssumptionMethodInterceptor.class);
 
+  // assumption classes are generated on first use rather than at build time: they have to be defined with the class loading
+  // strategy of the assert class they extend (see ClassLoadingStrategyFactory), which is only known at runtime.
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
+  // the assumption created for an assert is the one of the first factory whose assert type matches, the order matters
+  // @format:off
+  private static final List<AssumptionFactory> ASSUMPTION_FACTORIES = List.of(
+    assumptionFactory(AbstractObjectArrayAssert.class, ObjectArrayAssert.class, Object[].class),
+    assumptionFactory(AtomicBooleanAssert.class, AtomicBooleanAssert.class, AtomicBoolean.class),
+    assumptionFactory(AtomicIntegerAssert.class, AtomicIntegerAssert.class, AtomicInteger.class),
+    assumptionFactory(AtomicIntegerArrayAssert.class, AtomicIntegerArrayAssert.class, AtomicIntegerArray.class),
+    assumptionFactory(AtomicIntegerFieldUpdaterAssert.class, AtomicIntegerFieldUpdaterAssert.class, AtomicIntegerFieldUpdater.class),
+    assumptionFactory(AtomicLongAssert.class, AtomicLongAssert.class, AtomicLong.class),
+    assumptionFactory(AtomicLongArrayAssert.class, AtomicLongArrayAssert.class, AtomicLongArray.class),
+    assumptionFactory(AtomicLongFieldUpdaterAssert.class, AtomicLongFieldUpdaterAssert.class, AtomicLongFieldUpdater.class),
+    assumptionFactory(AtomicMarkableReferenceAssert.class, AtomicMarkableReferenceAssert.class, AtomicMarkableReference.class),
+    assumptionFactory(AtomicReferenceAssert.class, AtomicReferenceAssert.class, AtomicReference.class),
+    assumptionFactory(AtomicReferenceArrayAssert.class, AtomicReferenceArrayAssert.class, AtomicReferenceArray.class),
+    assumptionFactory(AtomicReferenceFieldUpdaterAssert.class, AtomicReferenceFieldUpdaterAssert.class, AtomicReferenceFieldUpdater.class),
+    assumptionFactory(AtomicStampedReferenceAssert.class, AtomicStampedReferenceAssert.class, AtomicStampedReference.class),
+    assumptionFactory(BigDecimalAssert.class, BigDecimalAssert.class, BigDecimal.class),
+    assumptionFactory(BigDecimalScaleAssert.class, Assumptions::asBigDecimalScaleAssumption),
+    assumptionFactory(BigIntegerAssert.class, BigIntegerAssert.class, BigInteger.class),
+    assumptionFactory(BooleanAssert.class, BooleanAssert.class, Boolean.class),
+    assumptionFactory(Boolean2DArrayAssert.class, Boolean2DArrayAssert.class, boolean[][].class),
+    assumptionFactory(BooleanArrayAssert.class, BooleanArrayAssert.class, boolean[].class),
+    assumptionFactory(ByteAssert.class, ByteAssert.class, Byte.class),
+    assumptionFactory(Byte2DArrayAssert.class, Byte2DArrayAssert.class, byte[][].class),
+    assumptionFactory(ByteArrayAssert.class, ByteArrayAssert.class, byte[].class),
+    assumptionFactory(CharacterAssert.class, CharacterAssert.class, char.class),
+    assumptionFactory(Char2DArrayAssert.class, Char2DArrayAssert.class, char[][].class),
+    assumptionFactory(CharArrayAssert.class, CharArrayAssert.class, char[].class),
+    assumptionFactory(CharSequenceAssert.class, CharSequenceAssert.class, CharSequence.class),
+    assumptionFactory(ClassAssert.class, ClassAssert.class, Class.class),
+    assumptionFactory(CollectionAssert.class, CollectionAssert.class, Collection.class),
+    assumptionFactory(CompletableFutureAssert.class, CompletableFutureAssert.class, CompletableFuture.class),
+    assumptionFactory(DateAssert.class, DateAssert.class, Date.class),
+    assumptionFactory(DoubleAssert.class, DoubleAssert.class, Double.class),
+    assumptionFactory(Double2DArrayAssert.class, Double2DArrayAssert.class, double[][].class),
+    assumptionFactory(DoubleArrayAssert.class, DoubleArrayAssert.class, double[].class),
+    assumptionFactory(DoublePredicateAssert.class, DoublePredicateAssert.class, DoublePredicate.class),
+    assumptionFactory(DurationAssert.class, DurationAssert.class, Duration.class),
+    assumptionFactory(FactoryBasedNavigableListAssert.class, ListAssert.class, List.class),
+    assumptionFactory(FileAssert.class, FileAssert.class, File.class),
+    assumptionFactory(FileSizeAssert.class, Assumptions::asFileSizeAssumption),
+    assumptionFactory(FloatAssert.class, FloatAssert.class, Float.class),
+    assumptionFactory(Float2DArrayAssert.class, Float2DArrayAssert.class, float[][].class),
+    assumptionFactory(FloatArrayAssert.class, FloatArrayAssert.class, float[].class),
+    assumptionFactory(FutureAssert.class, FutureAssert.class, Future.class),
+    assumptionFactory(InputStreamAssert.class, InputStreamAssert.class, InputStream.class),
+    assumptionFactory(HashSetAssert.class, HashSetAssert.class, HashSet.class),
+    assumptionFactory(InstantAssert.class, InstantAssert.class, Instant.class),
+    assumptionFactory(IntegerAssert.class, IntegerAssert.class, Integer.class),
+    assumptionFactory(Int2DArrayAssert.class, Int2DArrayAssert.class, int[][].class),
+    assumptionFactory(IntArrayAssert.class, IntArrayAssert.class, int[].class),
+    assumptionFactory(IntPredicateAssert.class, IntPredicateAssert.class, IntPredicate.class),
+    assumptionFactory(IterableAssert.class, IterableAssert.class, Iterable.class),
+    assumptionFactory(IterableSizeAssert.class, Assumptions::asIterableSizeAssumption),
+    assumptionFactory(IteratorAssert.class, IteratorAssert.class, Iterator.class),
+    assumptionFactory(LocalDateAssert.class, LocalDateAssert.class, LocalDate.class),
+    assumptionFactory(LocalDateTimeAssert.class, LocalDateTimeAssert.class, LocalDateTime.class),
+    assumptionFactory(LocalTimeAssert.class, LocalTimeAssert.class, LocalTime.class),
+    assumptionFactory(LongAdderAssert.class, LongAdderAssert.class, LongAdder.class),
+    assumptionFactory(LongArrayAssert.class, LongArrayAssert.class, long[].class),
+    assumptionFactory(Long2DArrayAssert.class, Long2DArrayAssert.class, long[][].class),
+    assumptionFactory(LongAssert.class, LongAssert.class, Long.class),
+    assumptionFactory(LongPredicateAssert.class, LongPredicateAssert.class, LongPredicate.class),
+    assumptionFactory(MapAssert.class, MapAssert.class, Map.class),
+    assumptionFactory(MapSizeAssert.class, Assumptions::asMapSizeAssumption),
+    assumptionFactory(OffsetDateTimeAssert.class, OffsetDateTimeAssert.class, OffsetDateTime.class),
+    assumptionFactory(OffsetTimeAssert.class, OffsetTimeAssert.class, OffsetTime.class),
+    assumptionFactory(ObjectAssert.class, ObjectAssert.class, Object.class),
+    assumptionFactory(OptionalAssert.class, OptionalAssert.class, Optional.class),
+    assumptionFactory(OptionalDoubleAssert.class, OptionalDoubleAssert.class, OptionalDouble.class),
+    assumptionFactory(OptionalIntAssert.class, OptionalIntAssert.class, OptionalInt.class),
+    assumptionFactory(OptionalLongAssert.class, OptionalLongAssert.class, OptionalLong.class),
+    assumptionFactory(PathAssert.class, PathAssert.class, Path.class),
+    assumptionFactory(PeriodAssert.class, PeriodAssert.class, Period.class),
+    assumptionFactory(PredicateAssert.class, PredicateAssert.class, Predicate.class),
+    assumptionFactory(RecursiveComparisonAssert.class, Assumptions::asRecursiveComparisonAssumption),
+    assumptionFactory(ShortAssert.class, ShortAssert.class, Short.class),
+    assumptionFactory(Short2DArrayAssert.class, Short2DArrayAssert.class, short[][].class),
+    assumptionFactory(ShortArrayAssert.class, ShortArrayAssert.class, short[].class),
+    assumptionFactory(SpliteratorAssert.class, SpliteratorAssert.class, Spliterator.class),
+    assumptionFactory(StringAssert.class, StringAssert.class, String.class),
+    assumptionFactory(ThrowableAssert.class, ThrowableAssert.class, Throwable.class),
+    assumptionFactory(UriAssert.class, UriAssert.class, URI.class),
+    assumptionFactory(UrlAssert.class, UrlAssert.class, URL.class),
+    assumptionFactory(ZonedDateTimeAssert.class, ZonedDateTimeAssert.class, ZonedDateTime.class),
+    // should be last of 2D array assertions type to avoid shadowing Boolean2DArrayAssert and co
+    assumptionFactory(Abstract2DArrayAssert.class, Object2DArrayAssert.class, Object[][].class));
+  // @format:on
+
+  // assumption factories are looked up once per assert type
+  private static final ClassValue<Function<AbstractAssert<?, ?>, AbstractAssert<?, ?>>> ASSUMPTION_FACTORIES_BY_ASSERT_TYPE = //
+      new ClassValue<>() {
+        @Override
+        protected Function<AbstractAssert<?, ?>, AbstractAssert<?, ?>> computeValue(Class<?> assertType) {
+          return assumptionFactoryFor(assertType);
+        }
+      };
+
+  // assumption constructors are looked up once per assumption class and parameter types
+  private static final ClassValue<Map<MethodType, MethodHandle>> ASSUMPTION_CONSTRUCTORS = new ClassValue<>() {
+    @Override
+    protected Map<MethodType, MethodHandle> computeValue(Class<?> assumptionType) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private static final class AssumptionMethodInterceptor {
 
     @RuntimeType
@@ -1593,15 +1704,29 @@ public class Assumptions {
   private static <ASSERTION> ASSERTION asAssumption(Class<ASSERTION> assertionType,
                                                     Class<?>[] constructorTypes,
                                                     Object... constructorParams) {
+    Class<? extends ASSERTION> type = createAssumptionClass(assertionType);
+    MethodHandle constructor = assumptionConstructor(type, constructorTypes);
     try {
-      Class<? extends ASSERTION> type = createAssumptionClass(assertionType);
-      Constructor<? extends ASSERTION> constructor = type.getConstructor(constructorTypes);
-      return constructor.newInstance(constructorParams);
-    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | InstantiationException e) {
+      return assertionType.cast(constructor.invokeExact(constructorParams));
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
+  // returns the assumption constructor taking the given parameter types, adapted to take its parameters as an array
+  static MethodHandle assumptionConstructor(Class<?> assumptionType, Class<?>[] constructorTypes) {
+    MethodType constructorType = MethodType.methodType(void.class, constructorTypes);
+    return ASSUMPTION_CONSTRUCTORS.get(assumptionType).computeIfAbsent(constructorType, unused -> {
+      try {
+        MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(assumptionType.getConstructor(constructorTypes));
+        return constructor.asSpreader(Object[].class, constructorTypes.length)
+                          .asType(MethodType.methodType(Object.class, Object[].class));
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @SuppressWarnings("unchecked")
   private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
     SimpleKey cacheKey = new SimpleKey(assertClass);
@@ -1621,96 +1746,34 @@ public class Assumptions {
   }
 
   // for method that change the object under test (e.g. extracting)
-  private static AbstractAssert<?, ?> asAssumption(AbstractAssert<?, ?> assertion) {
-    // @format:off
-    Object actual = assertion.actual;
-    if (assertion instanceof AbstractObjectArrayAssert) return asAssumption(ObjectArrayAssert.class, Object[].class, actual);
-    if (assertion instanceof AtomicBooleanAssert) return asAssumption(AtomicBooleanAssert.class, AtomicBoolean.class, actual);
-    if (assertion instanceof AtomicIntegerAssert) return asAssumption(AtomicIntegerAssert.class, AtomicInteger.class, actual);
-    if (assertion instanceof AtomicIntegerArrayAssert) return asAssumption(AtomicIntegerArrayAssert.class, AtomicIntegerArray.class, actual);
-    if (assertion instanceof AtomicIntegerFieldUpdaterAssert) return asAssumption(AtomicIntegerFieldUpdaterAssert.class, AtomicIntegerFieldUpdater.class, actual);
-    if (assertion instanceof AtomicLongAssert) return asAssumption(AtomicLongAssert.class, AtomicLong.class, actual);
-    if (assertion instanceof AtomicLongArrayAssert) return asAssumption(AtomicLongArrayAssert.class, AtomicLongArray.class, actual);
-    if (assertion instanceof AtomicLongFieldUpdaterAssert) return asAssumption(AtomicLongFieldUpdaterAssert.class, AtomicLongFieldUpdater.class, actual);
-    if (assertion instanceof AtomicMarkableReferenceAssert) return asAssumption(AtomicMarkableReferenceAssert.class, AtomicMarkableReference.class, actual);
-    if (assertion instanceof AtomicReferenceAssert) return asAssumption(AtomicReferenceAssert.class, AtomicReference.class, actual);
-    if (assertion instanceof AtomicReferenceArrayAssert) return asAssumption(AtomicReferenceArrayAssert.class, AtomicReferenceArray.class, actual);
-    if (assertion instanceof AtomicReferenceFieldUpdaterAssert) return asAssumption(AtomicReferenceFieldUpdaterAssert.class, AtomicReferenceFieldUpdater.class, actual);
-    if (assertion instanceof AtomicStampedReferenceAssert) return asAssumption(AtomicStampedReferenceAssert.class, AtomicStampedReference.class, actual);
-    if (assertion instanceof BigDecimalAssert) return asAssumption(BigDecimalAssert.class, BigDecimal.class, actual);
-    if (assertion instanceof BigDecimalScaleAssert) return asBigDecimalScaleAssumption(assertion);
-    if (assertion instanceof BigIntegerAssert) return asAssumption(BigIntegerAssert.class, BigInteger.class, actual);
-    if (assertion instanceof BooleanAssert) return asAssumption(BooleanAssert.class, Boolean.class, actual);
-    if (assertion instanceof Boolean2DArrayAssert) return asAssumption(Boolean2DArrayAssert.class, boolean[][].class, actual);
-    if (assertion instanceof BooleanArrayAssert) return asAssumption(BooleanArrayAssert.class, boolean[].class, actual);
-    if (assertion instanceof ByteAssert) return asAssumption(ByteAssert.class, Byte.class, actual);
-    if (assertion instanceof Byte2DArrayAssert) return asAssumption(Byte2DArrayAssert.class, byte[][].class, actual);
-    if (assertion instanceof ByteArrayAssert) return asAssumption(ByteArrayAssert.class, byte[].class, actual);
-    if (assertion instanceof CharacterAssert) return asAssumption(CharacterAssert.class, char.class, actual);
-    if (assertion instanceof Char2DArrayAssert) return asAssumption(Char2DArrayAssert.class, char[][].class, actual);
-    if (assertion instanceof CharArrayAssert) return asAssumption(CharArrayAssert.class, char[].class, actual);
-    if (assertion instanceof CharSequenceAssert) return asAssumption(CharSequenceAssert.class, CharSequence.class, actual);
-    if (assertion instanceof ClassAssert) return asAssumption(ClassAssert.class, Class.class, actual);
-    if (assertion instanceof CollectionAssert) return asAssumption(CollectionAssert.class, Collection.class, actual);
-    if (assertion instanceof CompletableFutureAssert) return asAssumption(CompletableFutureAssert.class, CompletableFuture.class, actual);
-    if (assertion instanceof DateAssert) return asAssumption(DateAssert.class, Date.class, actual);
-    if (assertion instanceof DoubleAssert) return asAssumption(DoubleAssert.class, Double.class, actual);
-    if (assertion instanceof Double2DArrayAssert) return asAssumption(Double2DArrayAssert.class, double[][].class, actual);
-    if (assertion instanceof DoubleArrayAssert) return asAssumption(DoubleArrayAssert.class, double[].class, actual);
-    if (assertion instanceof DoublePredicateAssert) return asAssumption(DoublePredicateAssert.class, DoublePredicate.class, actual);
-    if (assertion instanceof DurationAssert) return asAssumption(DurationAssert.class, Duration.class, actual);
-    if (assertion instanceof FactoryBasedNavigableListAssert) return asAssumption(ListAssert.class, List.class, actual);
-    if (assertion instanceof FileAssert) return asAssumption(FileAssert.class, File.class, actual);
-    if (assertion instanceof FileSizeAssert) return asFileSizeAssumption(assertion);
-    if (assertion instanceof FloatAssert) return asAssumption(FloatAssert.class, Float.class, actual);
-    if (assertion instanceof Float2DArrayAssert) return asAssumption(Float2DArrayAssert.class, float[][].class, actual);
-    if (assertion instanceof FloatArrayAssert) return asAssumption(FloatArrayAssert.class, float[].class, actual);
-    if (assertion instanceof FutureAssert) return asAssumption(FutureAssert.class, Future.class, actual);
-    if (assertion instanceof InputStreamAssert) return asAssumption(InputStreamAssert.class, InputStream.class, actual);
-    if (assertion instanceof HashSetAssert) return asAssumption(HashSetAssert.class, HashSet.class, actual);
-    if (assertion instanceof InstantAssert) return asAssumption(InstantAssert.class, Instant.class, actual);
-    if (assertion instanceof IntegerAssert) return asAssumption(IntegerAssert.class, Integer.class, actual);
-    if (assertion instanceof Int2DArrayAssert) return asAssumption(Int2DArrayAssert.class, int[][].class, actual);
-    if (assertion instanceof IntArrayAssert) return asAssumption(IntArrayAssert.class, int[].class, actual);
-    if (assertion instanceof IntPredicateAssert) return asAssumption(IntPredicateAssert.class, IntPredicate.class, actual);
-    if (assertion instanceof IterableAssert) return asAssumption(IterableAssert.class, Iterable.class, actual);
-    if (assertion instanceof IterableSizeAssert) return asIterableSizeAssumption(assertion);
-    if (assertion instanceof IteratorAssert) return asAssumption(IteratorAssert.class, Iterator.class, actual);
-    if (assertion instanceof LocalDateAssert) return asAssumption(LocalDateAssert.class, LocalDate.class, actual);
-    if (assertion instanceof LocalDateTimeAssert) return asAssumption(LocalDateTimeAssert.class, LocalDateTime.class, actual);
-    if (assertion instanceof LocalTimeAssert) return asAssumption(LocalTimeAssert.class, LocalTime.class, actual);
-    if (assertion instanceof LongAdderAssert) return asAssumption(LongAdderAssert.class, LongAdder.class, actual);
-    if (assertion instanceof LongArrayAssert) return asAssumption(LongArrayAssert.class, long[].class, actual);
-    if (assertion instanceof Long2DArrayAssert) return asAssumption(Long2DArrayAssert.class, long[][].class, actual);
-    if (assertion instanceof LongAssert) return asAssumption(LongAssert.class, Long.class, actual);
-    if (assertion instanceof LongPredicateAssert) return asAssumption(LongPredicateAssert.class, LongPredicate.class, actual);
-    if (assertion instanceof MapAssert) return asAssumption(MapAssert.class, Map.class, actual);
-    if (assertion instanceof MapSizeAssert) return asMapSizeAssumption(assertion);
-    if (assertion instanceof OffsetDateTimeAssert) return asAssumption(OffsetDateTimeAssert.class, OffsetDateTime.class, actual);
-    if (assertion instanceof OffsetTimeAssert) return asAssumption(OffsetTimeAssert.class, OffsetTime.class, actual);
-    if (assertion instanceof ObjectAssert) return asAssumption(ObjectAssert.class, Object.class, actual);
-    if (assertion instanceof OptionalAssert) return asAssumption(OptionalAssert.class, Optional.class, actual);
-    if (assertion instanceof OptionalDoubleAssert) return asAssumption(OptionalDoubleAssert.class, OptionalDouble.class, actual);
-    if (assertion instanceof OptionalIntAssert) return asAssumption(OptionalIntAssert.class, OptionalInt.class, actual);
-    if (assertion instanceof OptionalLongAssert) return asAssumption(OptionalLongAssert.class, OptionalLong.class, actual);
-    if (assertion instanceof PathAssert) return asAssumption(PathAssert.class, Path.class, actual);
-    if (assertion instanceof PeriodAssert) return asAssumption(PeriodAssert.class, Period.class, actual);
-    if (assertion instanceof PredicateAssert) return asAssumption(PredicateAssert.class, Predicate.class, actual);
-    if (assertion instanceof RecursiveComparisonAssert) return asRecursiveComparisonAssumption(assertion);
-    if (assertion instanceof ShortAssert) return asAssumption(ShortAssert.class, Short.class, actual);
-    if (assertion instanceof Short2DArrayAssert) return asAssumption(Short2DArrayAssert.class, short[][].class, actual);
-    if (assertion instanceof ShortArrayAssert) return asAssumption(ShortArrayAssert.class, short[].class, actual);
-    if (assertion instanceof SpliteratorAssert) return asAssumption(SpliteratorAssert.class, Spliterator.class, actual);
-    if (assertion instanceof StringAssert) return asAssumption(StringAssert.class, String.class, actual);
-    if (assertion instanceof ThrowableAssert) return asAssumption(ThrowableAssert.class, Throwable.class, actual);
-    if (assertion instanceof UriAssert) return asAssumption(UriAssert.class, URI.class, actual);
-    if (assertion instanceof UrlAssert) return asAssumption(UrlAssert.class, URL.class, actual);
-    if (assertion instanceof ZonedDateTimeAssert) return asAssumption(ZonedDateTimeAssert.class, ZonedDateTime.class, actual);
-    // should be last of 2D array assertions type to acoid shadowing Boolean2DArrayAssert and co
-    if (assertion instanceof Abstract2DArrayAssert) return asAssumption(Object2DArrayAssert.class, Object[][].class, actual);
-    // @format:on
+  static AbstractAssert<?, ?> asAssumption(AbstractAssert<?, ?> assertion) {
+    return ASSUMPTION_FACTORIES_BY_ASSERT_TYPE.get(assertion.getClass()).apply(assertion);
+  }
+
+  static List<Class<?>> assertTypesWithAssumptionFactory() {
+    return ASSUMPTION_FACTORIES.stream().<Class<?>> map(AssumptionFactory::assertType).toList();
+  }
+
+  private static Function<AbstractAssert<?, ?>, AbstractAssert<?, ?>> assumptionFactoryFor(Class<?> assertType) {
+    for (AssumptionFactory assumptionFactory : ASSUMPTION_FACTORIES) {
+      if (assumptionFactory.assertType().isAssignableFrom(assertType)) return assumptionFactory.create();
+    }
     // should not arrive here
-    throw new IllegalArgumentException("Unsupported assumption creation for " + assertion.getClass());
+    return assertion -> {
+      throw new IllegalArgumentException("Unsupported assumption creation for " + assertion.getClass());
+    };
+  }
+
+  private static AssumptionFactory assumptionFactory(Class<?> assertType, Class<?> assumptionType, Class<?> actualType) {
+    return assumptionFactory(assertType, assertion -> (AbstractAssert<?, ?>) asAssumption(assumptionType, actualType, assertion.actual));
+  }
+
+  private static AssumptionFactory assumptionFactory(Class<?> assertType,
+                                                     Function<AbstractAssert<?, ?>, AbstractAssert<?, ?>> create) {
+    return new AssumptionFactory(assertType, create);
+  }
+
+  private record AssumptionFactory(Class<?> assertType, Function<AbstractAssert<?, ?>, AbstractAssert<?, ?>> create) {
   }
 
   private static AbstractAssert<?, ?> asRecursiveComparisonAssumption(AbstractAssert<?, ?> assertion) {
@@ -15,21 +15,26 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
 import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
 
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behavior), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // errors can be collected concurrently without locking, the queue keeps them in the order they were collected
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
+
+  // callbacks are rarely changed but iterated each time an error is collected
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -73,7 +78,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null
         ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : unmodifiableList(new ArrayList<>(collectedAssertionErrors));
     return decorateErrorsCollected(errors);
   }
 
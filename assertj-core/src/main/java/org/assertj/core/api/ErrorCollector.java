@@ -16,7 +16,6 @@
 package org.assertj.core.api;
 
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.concurrent.Callable;
 
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
@@ -33,6 +32,7 @@ public class ErrorCollector {
 
   private static final String INTERCEPT_METHOD_NAME = "intercept";
   private static final String CLASS_NAME = ErrorCollector.class.getName();
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
   private AssertionErrorCollector assertionErrorCollector;
 
@@ -83,13 +83,14 @@ public class ErrorCollector {
   }
 
   private static boolean isNestedErrorCollectorProxyCall() {
-    return countErrorCollectorProxyCalls() > 1;
+    // walk the frames lazily, it stops at the second intercept call instead of capturing the whole stack trace
+    return STACK_WALKER.walk(frames -> frames.filter(ErrorCollector::isInterceptCall)
+                                             .skip(1)
+                                             .findFirst()
+                                             .isPresent());
   }
 
-  private static long countErrorCollectorProxyCalls() {
-    return Arrays.stream(Thread.currentThread().getStackTrace())
-                 .filter(stackTraceElement -> CLASS_NAME.equals(stackTraceElement.getClassName())
-                                              && stackTraceElement.getMethodName().startsWith(INTERCEPT_METHOD_NAME))
-                 .count();
+  private static boolean isInterceptCall(StackWalker.StackFrame frame) {
+    return CLASS_NAME.equals(frame.getClassName()) && frame.getMethodName().startsWith(INTERCEPT_METHOD_NAME);
   }
 }
@@ -2000,6 +2000,39 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Compares the elements of large ordered collections and arrays and the values of large maps in parallel in the common
+   * {@link java.util.concurrent.ForkJoinPool}, the elements are split for the given number of threads, this speeds up the
+   * comparison of big object graphs like lists of thousands of records.
+   * <p>
+   * The elements are compared in independent sub-comparisons whose differences are merged, the reported differences are
+   * the same as the ones of a sequential comparison. When elements of different sub-comparisons share the same object, the
+   * sub-comparison merged last is performed again, so that the shared object is reported as an already visited node as in
+   * a sequential comparison.
+   * <p>
+   * Registered comparators, equals predicates and the introspection strategy are called from several threads and thus
+   * must be thread safe. The comparison is performed sequentially when comparing only the fields of given types (see
+   * {@link #comparingOnlyFieldsOfTypes(Class[])}).
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; actual = loadPersons();
+   * List&lt;Person&gt; expected = loadExpectedPersons();
+   *
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withParallelism(4)
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param parallelism the number of threads the comparison of large containers elements is split for.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   * @since 4.0.0
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
   @SuppressWarnings({ "rawtypes", "unchecked" })
   SELF withTypeComparators(TypeComparators newTypeComparators) {
     if (newTypeComparators != null) {
@@ -23,8 +23,11 @@ import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair;
@@ -89,6 +92,7 @@ class SoftProxies {
                                                                                     .or(named("getWritableAssertionInfo"))
                                                                                     .or(named("inBinary"))
                                                                                     .or(named("inHexadecimal"))
+                                                                                    .or(named("inParallel"))
                                                                                     .or(named("newAbstractIterableAssert"))
                                                                                     .or(named("newObjectArrayAssert"))
                                                                                     .or(named("overridingErrorMessage"))
@@ -104,6 +108,7 @@ class SoftProxies {
                                                                                     .or(named("withComparatorsForElementPropertyOrFieldTypes"))
                                                                                     .or(named("withFailMessage"))
                                                                                     .or(named("withIterables"))
+                                                                                    .or(named("withParallelEvaluation"))
                                                                                     .or(named("withRepresentation"))
                                                                                     .or(named("withThreadDumpOnError"))
                                                                                     .or(named("withTypeComparators"));
@@ -116,6 +121,16 @@ class SoftProxies {
 
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
+  // a proxy is created for each soft assertion, proxy constructors are looked up once per proxy class and parameter types.
+  // Proxy classes are still generated on first use rather than at build time: they have to be defined with the class loading
+  // strategy of the proxied assert class (see ClassLoadingStrategyFactory), which is only known at runtime.
+  private static final ClassValue<Map<MethodType, MethodHandle>> PROXY_CONSTRUCTORS = new ClassValue<>() {
+    @Override
+    protected Map<MethodType, MethodHandle> computeValue(Class<?> proxyClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private ErrorCollector collector;
 
   public SoftProxies(AssertionErrorCollector assertionErrorCollector) {
@@ -125,16 +140,11 @@ class SoftProxies {
   <SELF extends Assert<? extends SELF, ? extends ACTUAL>, ACTUAL> SELF createSoftAssertionProxy(Class<SELF> assertClass,
                                                                                                 Class<ACTUAL> actualClass,
                                                                                                 ACTUAL actual) {
-    try {
-      Class<? extends SELF> proxyClass = createSoftAssertionProxyClass(assertClass);
-      Constructor<? extends SELF> constructor = proxyClass.getConstructor(actualClass);
-      SELF proxiedAssert = constructor.newInstance(actual);
-      // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-      throw new RuntimeException(e);
-    }
+    Class<? extends SELF> proxyClass = createSoftAssertionProxyClass(assertClass);
+    SELF proxiedAssert = assertClass.cast(newInstance(proxyClass, actualClass, actual));
+    // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
   }
 
   @SuppressWarnings("unchecked")
@@ -146,67 +156,78 @@ class SoftProxies {
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
     Class<?> proxyClass = createSoftAssertionProxyClass(FileSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractFileAssert.class);
-      FileSizeAssert<?> proxiedAssert = (FileSizeAssert<?>) constructor.newInstance(fileSizeAssert.returnToFile());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    FileSizeAssert<?> proxiedAssert = (FileSizeAssert<?>) newInstance(proxyClass, AbstractFileAssert.class,
+                                                                      fileSizeAssert.returnToFile());
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
   }
 
   BigDecimalScaleAssert<?> createBigDecimalScaleAssertProxy(BigDecimalScaleAssert<?> bigDecimalScaleAssert) {
     Class<?> proxyClass = createSoftAssertionProxyClass(BigDecimalScaleAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractBigDecimalAssert.class);
-      BigDecimalScaleAssert<?> proxiedAssert = (BigDecimalScaleAssert<?>) constructor.newInstance(bigDecimalScaleAssert.returnToBigDecimal());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    BigDecimalScaleAssert<?> proxiedAssert = (BigDecimalScaleAssert<?>) newInstance(proxyClass, AbstractBigDecimalAssert.class,
+                                                                                    bigDecimalScaleAssert.returnToBigDecimal());
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
     Class<?> proxyClass = createSoftAssertionProxyClass(IterableSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractIterableAssert.class, Integer.class);
-      IterableSizeAssert<?> proxiedAssert = (IterableSizeAssert<?>) constructor.newInstance(iterableSizeAssert.returnToIterable(),
-                                                                                            iterableSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    IterableSizeAssert<?> proxiedAssert = (IterableSizeAssert<?>) newInstance(proxyClass, AbstractIterableAssert.class,
+                                                                              Integer.class,
+                                                                              iterableSizeAssert.returnToIterable(),
+                                                                              iterableSizeAssert.actual);
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
   }
 
   MapSizeAssert<?, ?> createMapSizeAssertProxy(MapSizeAssert<?, ?> mapSizeAssert) {
     Class<?> proxyClass = createSoftAssertionProxyClass(MapSizeAssert.class);
+    MapSizeAssert<?, ?> proxiedAssert = (MapSizeAssert<?, ?>) newInstance(proxyClass, AbstractMapAssert.class, Integer.class,
+                                                                          mapSizeAssert.returnToMap(), mapSizeAssert.actual);
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
+  }
+
+  RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
+    Class<?> proxyClass = createSoftAssertionProxyClass(RecursiveComparisonAssert.class);
+    RecursiveComparisonAssert<?> proxiedAssert = (RecursiveComparisonAssert<?>) newInstance(proxyClass, Object.class,
+                                                                                            RecursiveComparisonConfiguration.class,
+                                                                                            recursiveComparisonAssert.actual,
+                                                                                            recursiveComparisonAssert.getRecursiveComparisonConfiguration());
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
+    return proxiedAssert;
+  }
+
+  private static Object newInstance(Class<?> proxyClass, Class<?> parameterType, Object argument) {
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractMapAssert.class, Integer.class);
-      MapSizeAssert<?, ?> proxiedAssert = (MapSizeAssert<?, ?>) constructor.newInstance(mapSizeAssert.returnToMap(),
-                                                                                        mapSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      return proxyConstructor(proxyClass, parameterType).invokeExact(argument);
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
-  RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(RecursiveComparisonAssert.class);
+  private static Object newInstance(Class<?> proxyClass, Class<?> firstParameterType, Class<?> secondParameterType,
+                                    Object firstArgument, Object secondArgument) {
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(Object.class, RecursiveComparisonConfiguration.class);
-      RecursiveComparisonAssert<?> proxiedAssert = (RecursiveComparisonAssert<?>) constructor.newInstance(recursiveComparisonAssert.actual,
-                                                                                                          recursiveComparisonAssert.getRecursiveComparisonConfiguration());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      return proxyConstructor(proxyClass, firstParameterType, secondParameterType).invokeExact(firstArgument, secondArgument);
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
   }
 
+  // returns the proxy constructor taking the given parameter types, adapted to take and return Object
+  static MethodHandle proxyConstructor(Class<?> proxyClass, Class<?>... parameterTypes) {
+    MethodType constructorType = MethodType.methodType(void.class, parameterTypes);
+    return PROXY_CONSTRUCTORS.get(proxyClass).computeIfAbsent(constructorType, unused -> {
+      try {
+        MethodHandle constructor = MethodHandles.lookup().unreflectConstructor(proxyClass.getConstructor(parameterTypes));
+        return constructor.asType(constructor.type().generic());
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
     return BYTE_BUDDY.subclass(assertClass)
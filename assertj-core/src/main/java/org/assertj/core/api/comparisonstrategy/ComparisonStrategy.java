@@ -157,6 +157,21 @@ public interface ComparisonStrategy {
    */
   boolean isStandard();
 
+  /**
+   * Returns true if two values considered equal by this comparison strategy are guaranteed to have the same hash code
+   * (arrays being hashed by content), false otherwise.
+   * <p>
+   * Hash consistent strategies let AssertJ match elements of large groups of objects with hash based lookups instead of
+   * comparing every element with each other, the default implementation returns false as a comparator based strategy
+   * usually does not give any guarantee on hash codes.
+   *
+   * @return true if equal values according to this comparison strategy have the same hash code, false otherwise.
+   * @since 4.0.0
+   */
+  default boolean isHashConsistent() {
+    return false;
+  }
+
   /**
    * Used in error messages when a custom comparison strategy was used to compare values.
    * <p>
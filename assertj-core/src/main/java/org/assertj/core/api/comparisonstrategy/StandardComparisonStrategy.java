@@ -213,4 +213,15 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     return true;
   }
 
+  /**
+   * Returns true for this class only, subclasses usually redefine {@link #areEqual(Object, Object)} and must opt in
+   * explicitly.
+   *
+   * @return true if this is the {@link StandardComparisonStrategy} itself, false for subclasses.
+   */
+  @Override
+  public boolean isHashConsistent() {
+    return getClass() == StandardComparisonStrategy.class;
+  }
+
 }
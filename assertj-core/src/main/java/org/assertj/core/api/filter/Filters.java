@@ -22,6 +22,7 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.List;
+import java.util.function.Function;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
@@ -326,8 +327,9 @@ public class Filters<E> {
   public <T> Filters<E> matching(Condition<T> condition) {
     checkPropertyNameToFilterOnIsNotNull();
     checkArgument(condition != null, "The filter condition should not be null");
+    Function<Object, Object> propertyOrFieldToFilterOn = PROPERTY_OR_FIELD_SUPPORT.compilePath(propertyOrFieldNameToFilterOn);
     this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
+      Object propertyValueOfCurrentElement = propertyOrFieldToFilterOn.apply(element);
       try {
         return condition.matches((T) propertyValueOfCurrentElement);
       } catch (ClassCastException e) {
@@ -355,8 +357,9 @@ public class Filters<E> {
    */
   public Filters<E> in(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
+    Function<Object, Object> propertyOrFieldToFilterOn = PROPERTY_OR_FIELD_SUPPORT.compilePath(propertyOrFieldNameToFilterOn);
     this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
+      Object propertyValueOfCurrentElement = propertyOrFieldToFilterOn.apply(element);
       return isItemInArray(propertyValueOfCurrentElement, propertyValues);
     }).collect(toList());
     return this;
@@ -375,8 +378,9 @@ public class Filters<E> {
    */
   public Filters<E> notIn(Object... propertyValues) {
     checkPropertyNameToFilterOnIsNotNull();
+    Function<Object, Object> propertyOrFieldToFilterOn = PROPERTY_OR_FIELD_SUPPORT.compilePath(propertyOrFieldNameToFilterOn);
     this.filteredIterable = filteredIterable.stream().filter(element -> {
-      Object propertyValueOfCurrentElement = PROPERTY_OR_FIELD_SUPPORT.getValueOf(propertyOrFieldNameToFilterOn, element);
+      Object propertyValueOfCurrentElement = propertyOrFieldToFilterOn.apply(element);
       return !isItemInArray(propertyValueOfCurrentElement, propertyValues);
     }).collect(toList());
     return this;
@@ -168,11 +168,13 @@ public class SoftAssertionsExtension
 
   static class ThreadLocalErrorCollector implements AssertionErrorCollector {
 
-    InheritableThreadLocal<AssertionErrorCollector> threadLocal = new InheritableThreadLocal<>();
+    // inheritable so that errors collected by the threads the test starts go to the test collector, this includes virtual
+    // threads as they inherit these values unless they are built with inheritInheritableThreadLocals(false)
+    private final InheritableThreadLocal<AssertionErrorCollector> threadLocal = new InheritableThreadLocal<>();
 
     @Override
     public Optional<AssertionErrorCollector> getDelegate() {
-      return Optional.of(threadLocal.get());
+      return Optional.ofNullable(threadLocal.get());
     }
 
     @Override
@@ -186,22 +188,28 @@ public class SoftAssertionsExtension
 
     @Override
     public void collectAssertionError(AssertionError assertionError) {
-      threadLocal.get().collectAssertionError(assertionError);
+      delegate().collectAssertionError(assertionError);
     }
 
     @Override
     public List<AssertionError> assertionErrorsCollected() {
-      return threadLocal.get().assertionErrorsCollected();
+      return delegate().assertionErrorsCollected();
+    }
+
+    private AssertionErrorCollector delegate() {
+      return getDelegate().orElseThrow(() -> new IllegalStateException("No soft assertions error collector is bound to thread "
+                                                                       + Thread.currentThread()
+                                                                       + ", it must be the test thread or a thread started by it"));
     }
 
     @Override
     public void succeeded() {
-      threadLocal.get().succeeded();
+      delegate().succeeded();
     }
 
     @Override
     public boolean wasSuccess() {
-      return threadLocal.get().wasSuccess();
+      return delegate().wasSuccess();
     }
   }
 
@@ -59,6 +59,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    ignoredFieldsOrTypesChanged();
   }
 
   /**
@@ -80,6 +81,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredFieldsRegexes.addAll(patterns);
+    ignoredFieldsOrTypesChanged();
   }
 
   public List<Pattern> getIgnoredFieldsRegexes() {
@@ -98,6 +100,7 @@ public abstract class AbstractRecursiveOperationConfiguration {
    */
   public void ignoreFieldsOfTypes(Class<?>... types) {
     stream(types).map(AbstractRecursiveOperationConfiguration::asWrapperIfPrimitiveType).forEach(ignoredTypes::add);
+    ignoredFieldsOrTypesChanged();
   }
 
   /**
@@ -123,8 +126,14 @@ public abstract class AbstractRecursiveOperationConfiguration {
   public void ignoreFieldsOfTypesMatchingRegexes(String... regexes) {
     List<Pattern> patterns = toPatterns(regexes);
     ignoredTypesRegexes.addAll(patterns);
+    ignoredFieldsOrTypesChanged();
   }
 
+  /**
+   * Called when fields or types to ignore are added, does nothing by default.
+   */
+  protected void ignoredFieldsOrTypesChanged() {}
+
   protected static Class<?> asWrapperIfPrimitiveType(Class<?> type) {
     if (!type.isPrimitive()) return type;
     if (type.equals(boolean.class)) return Boolean.class;
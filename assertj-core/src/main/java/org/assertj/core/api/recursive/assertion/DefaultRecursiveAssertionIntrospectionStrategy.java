@@ -15,22 +15,22 @@
  */
 package org.assertj.core.api.recursive.assertion;
 
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.EXTRACTION;
 
 import java.lang.reflect.Field;
 import java.util.List;
-import java.util.Optional;
+
+import org.assertj.core.internal.DeclaredFields;
 
 public class DefaultRecursiveAssertionIntrospectionStrategy implements RecursiveAssertionIntrospectionStrategy {
 
   @Override
   public List<RecursiveAssertionNode> getChildNodesOf(Object node) {
-    return getDeclaredFieldsIncludingInherited(node.getClass()).stream()
-                                                               .map(field -> toNode(field, node))
-                                                               .collect(toList());
+    List<Field> fields = DeclaredFields.of(node.getClass()).includingInherited();
+    return fields.stream()
+                 .map(field -> toNode(field, node))
+                 .collect(toList());
   }
 
   @Override
@@ -51,9 +51,8 @@ public class DefaultRecursiveAssertionIntrospectionStrategy implements Recursive
 
   private static Class<?> getFieldType(String fieldName, Class<?> objectClass) {
     try {
-      Optional<Field> potentialField = stream(objectClass.getDeclaredFields()).filter(field -> fieldName.equals(field.getName()))
-                                                                              .findAny();
-      if (potentialField.isPresent()) return potentialField.get().getType();
+      Field field = DeclaredFields.of(objectClass).named(fieldName);
+      if (field != null) return field.getType();
       Class<?> superclass = objectClass.getSuperclass();
       if (superclass != null) return getFieldType(fieldName, superclass);
       throw new NoSuchFieldException();
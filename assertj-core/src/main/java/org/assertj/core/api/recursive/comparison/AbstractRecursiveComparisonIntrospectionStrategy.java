@@ -15,17 +15,14 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Arrays.stream;
-import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toSet;
-import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.function.Predicate;
+
+import org.assertj.core.internal.DeclaredFields;
 
 public abstract class AbstractRecursiveComparisonIntrospectionStrategy implements RecursiveComparisonIntrospectionStrategy {
 
@@ -40,32 +37,12 @@ public abstract class AbstractRecursiveComparisonIntrospectionStrategy implement
     return ignoreTransientFields;
   }
 
-  private Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
-    requireNonNull(clazz, "expecting Class parameter not to be null");
-    Set<Field> declaredFields = getDeclaredFields(clazz);
-    // get fields declared in superClass
-    Class<?> superClass = clazz.getSuperclass();
-    while (!isInJavaLangPackage(superClass)) {
-      declaredFields.addAll(getDeclaredFields(superClass));
-      superClass = superClass.getSuperclass();
-    }
-    return declaredFields;
-  }
-
   protected Set<String> getFieldsNames(Class<?> clazz) {
-    return getDeclaredFieldsIncludingInherited(clazz).stream()
-                                                     .map(Field::getName)
-                                                     .collect(toSet());
-  }
-
-  private Set<Field> getDeclaredFields(Class<?> clazz) {
-    Field[] declaredFields = clazz.getDeclaredFields();
-    Predicate<Field> fieldPredicate = field -> !(field.isSynthetic() || Modifier.isStatic(field.getModifiers()));
-    if (ignoreTransientFields) {
-      fieldPredicate = fieldPredicate.and(field -> !Modifier.isTransient(field.getModifiers()));
-    }
-    return stream(declaredFields).filter(fieldPredicate)
-                                 .collect(toCollection(LinkedHashSet::new));
+    List<Field> fields = DeclaredFields.of(clazz).includingInherited();
+    return fields.stream()
+                 .filter(field -> !(ignoreTransientFields && Modifier.isTransient(field.getModifiers())))
+                 .map(Field::getName)
+                 .collect(toSet());
   }
 
 }
@@ -21,9 +21,15 @@ import java.util.LinkedList;
 // special deque that can ignore DualValue according to RecursiveComparisonConfiguration.
 class DualValueDeque extends LinkedList<DualValue> {
   private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  private final FieldLocationRules fieldLocationRules;
 
   public DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this(recursiveComparisonConfiguration, recursiveComparisonConfiguration.getFieldLocationRules());
+  }
+
+  DualValueDeque(RecursiveComparisonConfiguration recursiveComparisonConfiguration, FieldLocationRules fieldLocationRules) {
     this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+    this.fieldLocationRules = fieldLocationRules;
   }
 
   @Override
@@ -65,7 +71,7 @@ class DualValueDeque extends LinkedList<DualValue> {
    * @return true if we want to register the value for evaluation, false otherwise
    */
   private boolean shouldNotEvaluate(DualValue dualValue) {
-    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue);
+    return recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldLocationRules);
   }
 
   private boolean shouldAddDualValue(DualValue dualValue) {
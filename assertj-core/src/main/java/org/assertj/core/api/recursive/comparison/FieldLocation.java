@@ -23,7 +23,9 @@ import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -37,23 +39,53 @@ import java.util.regex.Pattern;
 public final class FieldLocation implements Comparable<FieldLocation> {
 
   public static final String FIELD_SEPARATOR = ".";
-  private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  // a location is linked to its parent location instead of copying its path, the root location has no parent
+  private final FieldLocation parent;
+  private final String fieldName;
+  // derived from the path
+  private final boolean root;
+  private final int hashCode;
+  // lazily computed as they are not needed for most locations visited by the recursive comparison, locations being shared by
+  // parallel comparisons, these immutable values are published through volatile fields (racing threads compute equal values)
+  private volatile List<String> decomposedPath;
+  private volatile String pathToUseInRules;
+  private volatile Set<String> pathsHierarchyToUseInRules;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentLocationOf(requireNonNull(path, "path cannot be null")), path.isEmpty() ? "" : path.get(path.size() - 1));
+    decomposedPath = unmodifiableList(path);
+    pathToUseInRules = pathToUseInRules(path);
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    // array elements don't change the path used in rules, so the elements of a root array are roots too
+    root = parent == null || parent.root && (isElementPath(fieldName) || fieldName.isEmpty());
+    hashCode = computeHashCode();
+  }
+
+  private static FieldLocation parentLocationOf(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parentLocation = rootFieldLocation();
+    for (String parentFieldName : path.subList(0, path.size() - 1)) {
+      parentLocation = parentLocation.field(parentFieldName);
+    }
+    return parentLocation;
+  }
+
+  // same value as getDecomposedPath().hashCode() without building the path
+  private int computeHashCode() {
+    return parent == null ? 1 : 31 * parent.hashCode + Objects.hashCode(fieldName);
+  }
+
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -61,42 +93,55 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    return hashCode == that.hashCode && hasSamePathAs(that);
+  }
+
+  private boolean hasSamePathAs(FieldLocation other) {
+    // compare locations field by field up to a common parent, paths are not built
+    FieldLocation location = this;
+    FieldLocation otherLocation = other;
+    while (location != otherLocation) {
+      if (location == null || otherLocation == null) return false;
+      if (location.hashCode != otherLocation.hashCode || !Objects.equals(location.fieldName, otherLocation.fieldName))
+        return false;
+      location = location.parent;
+      otherLocation = otherLocation.parent;
+    }
+    return true;
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
-    return result;
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    return "<%s>".formatted(pathToUseInRules);
+    return "<%s>".formatted(getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
   private static String pathToUseInRules(List<String> path) {
     // remove the array sub-path, so person.children.[2].name -> person.children.name
     // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
     return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
+               .filter(subpath -> !isElementPath(subpath))
                .collect(joining(FIELD_SEPARATOR));
   }
 
+  private static boolean isElementPath(String subpath) {
+    return subpath.startsWith("[");
+  }
+
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -123,7 +168,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    return getPathsHierarchyToUseInRules().contains(fieldPath);
   }
 
   /**
@@ -151,48 +196,90 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    return getPathsHierarchyToUseInRules().stream().anyMatch(path -> regex.matcher(path).matches());
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      // walk up to the closest location whose path is known, a location without parent is the root
+      Deque<String> fieldNames = new ArrayDeque<>();
+      FieldLocation location = this;
+      while (location.decomposedPath == null && location.parent != null) {
+        fieldNames.push(location.fieldName);
+        location = location.parent;
+      }
+      List<String> ancestorPath = location.decomposedPath == null ? emptyList() : location.decomposedPath;
+      List<String> fullPath = new ArrayList<>(ancestorPath.size() + fieldNames.size());
+      fullPath.addAll(ancestorPath);
+      fullPath.addAll(fieldNames);
+      path = unmodifiableList(fullPath);
+      decomposedPath = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRules() {
-    return pathToUseInRules;
+    String path = pathToUseInRules;
+    if (path == null) {
+      // walk up to the closest location whose path is known, a location without parent is the root
+      Deque<String> fieldNames = new ArrayDeque<>();
+      FieldLocation location = this;
+      while (location.pathToUseInRules == null && location.parent != null) {
+        // remove the array sub-path, so person.children.[2].name -> person.children.name
+        if (!isElementPath(location.fieldName)) fieldNames.push(location.fieldName);
+        location = location.parent;
+      }
+      StringBuilder fullPath = new StringBuilder(location.pathToUseInRules == null ? "" : location.pathToUseInRules);
+      for (String pathFieldName : fieldNames) {
+        if (!fullPath.isEmpty()) fullPath.append(FIELD_SEPARATOR);
+        fullPath.append(pathFieldName);
+      }
+      path = fullPath.toString();
+      pathToUseInRules = path;
+    }
+    return path;
   }
 
   public String getPathToUseInRulesForChildField(String fieldName) {
-    return pathToUseInRules.isEmpty() ? fieldName : pathToUseInRules + FIELD_SEPARATOR + fieldName;
+    String path = getPathToUseInRules();
+    return path.isEmpty() ? fieldName : path + FIELD_SEPARATOR + fieldName;
   }
 
+  /**
+   * Returns the location of the given child field of this location.
+   * <p>
+   * A new location is returned on each call, it is linked to this one instead of copying its path, its path is only built
+   * when requested.
+   *
+   * @param field the child field name
+   * @return the location of the given child field.
+   */
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, field);
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(FIELD_SEPARATOR, decomposedPath);
+    return String.join(FIELD_SEPARATOR, getDecomposedPath());
   }
 
   public String getFieldName() {
-    return decomposedPath.isEmpty() ? "" : decomposedPath.get(decomposedPath.size() - 1);
+    return fieldName;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
+    return root;
   }
 
-  private boolean isRootPath(String pathToUseInRules) {
+  private static boolean isRootPath(String pathToUseInRules) {
     return pathToUseInRules.isEmpty();
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(FIELD_SEPARATOR);
+    return !isRoot() && !getPathToUseInRules().contains(FIELD_SEPARATOR);
   }
 
   public static FieldLocation rootFieldLocation() {
@@ -221,7 +308,7 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // FIELD_SEPARATOR guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + FIELD_SEPARATOR);
+    return getPathToUseInRules().startsWith(parent.getPathToUseInRules() + FIELD_SEPARATOR);
   }
 
   /**
@@ -249,16 +336,21 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
-    // using LinkedHashSet to maintain leaf to root iteration order
-    // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
-    Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
-    while (!isRootPath(currentPath)) {
-      fieldAndParentFields.add(currentPath);
-      currentPath = parent(currentPath);
+  private Set<String> getPathsHierarchyToUseInRules() {
+    Set<String> pathsHierarchy = pathsHierarchyToUseInRules;
+    if (pathsHierarchy == null) {
+      // using LinkedHashSet to maintain leaf to root iteration order
+      // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
+      Set<String> fieldAndParentFields = newLinkedHashSet();
+      String currentPath = getPathToUseInRules();
+      while (!isRootPath(currentPath)) {
+        fieldAndParentFields.add(currentPath);
+        currentPath = parent(currentPath);
+      }
+      pathsHierarchy = unmodifiableSet(fieldAndParentFields);
+      pathsHierarchyToUseInRules = pathsHierarchy;
     }
-    return unmodifiableSet(fieldAndParentFields);
+    return pathsHierarchy;
   }
 
   private String parent(String currentPath) {
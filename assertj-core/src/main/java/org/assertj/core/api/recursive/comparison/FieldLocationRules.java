@@ -0,0 +1,191 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.FieldLocation.FIELD_SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * The field location rules of a {@link RecursiveComparisonConfiguration} compiled once per configuration.
+ * <p>
+ * Rules apply to field locations paths without element indexes (see {@link FieldLocation#getPathToUseInRules()}), all the
+ * elements of a collection share the same path, the rules used by a comparison (see {@link #forComparison()}) thus memoize
+ * the decisions taken for a path to avoid evaluating the same regexes again and again for each element, decisions depending
+ * on a type are memoized by type.
+ * <p>
+ * A field is ignored if itself or any of its parents is ignored, the ignored decision of a path reuses the memoized one of
+ * its parent path, each path segment is evaluated only once whatever the depth of the compared graph is.
+ * <p>
+ * Paths contain the compared map keys and types can be loaded by any class loader, decisions are thus only memoized for a
+ * single comparison and not by the rules compiled for the configuration which can be shared by many comparisons.
+ * Decisions are memoized in concurrent maps as the rules are shared by parallel comparisons, the configuration must not be
+ * changed during the comparison.
+ */
+final class FieldLocationRules {
+
+  private final Set<String> ignoredFields;
+  private final List<Pattern> ignoredFieldsRegexes;
+  private final Set<FieldLocation> comparedFields;
+  private final boolean ignoreCollectionOrder;
+  private final Set<String> ignoredCollectionOrderInFields;
+  private final List<Pattern> ignoredCollectionOrderInFieldsRegexes;
+  private final Set<String> ignoredOverriddenEqualsForFields;
+  private final List<Pattern> ignoredOverriddenEqualsForFieldsRegexes;
+  private final FieldComparators fieldComparators;
+  private final Set<Class<?>> ignoredTypes;
+  private final List<Pattern> ignoredTypesRegexes;
+
+  // null when decisions are not memoized
+  private final Map<String, FieldRules> fieldRulesByPath;
+  private final Map<Class<?>, Boolean> ignoredTypeByType;
+
+  FieldLocationRules(RecursiveComparisonConfiguration configuration) {
+    ignoredFields = new HashSet<>(configuration.getIgnoredFields());
+    ignoredFieldsRegexes = new ArrayList<>(configuration.getIgnoredFieldsRegexes());
+    comparedFields = new HashSet<>(configuration.getComparedFields());
+    ignoreCollectionOrder = configuration.getIgnoreCollectionOrder();
+    ignoredCollectionOrderInFields = new HashSet<>(configuration.getIgnoredCollectionOrderInFields());
+    ignoredCollectionOrderInFieldsRegexes = new ArrayList<>(configuration.getIgnoredCollectionOrderInFieldsMatchingRegexes());
+    ignoredOverriddenEqualsForFields = new HashSet<>(configuration.getIgnoredOverriddenEqualsForFields());
+    ignoredOverriddenEqualsForFieldsRegexes = new ArrayList<>(configuration.getIgnoredOverriddenEqualsForFieldsMatchingRegexes());
+    fieldComparators = configuration.getFieldComparators();
+    ignoredTypes = new HashSet<>(configuration.getIgnoredTypes());
+    ignoredTypesRegexes = new ArrayList<>(configuration.getIgnoredTypesRegexes());
+    fieldRulesByPath = null;
+    ignoredTypeByType = null;
+  }
+
+  private FieldLocationRules(FieldLocationRules compiledRules) {
+    ignoredFields = compiledRules.ignoredFields;
+    ignoredFieldsRegexes = compiledRules.ignoredFieldsRegexes;
+    comparedFields = compiledRules.comparedFields;
+    ignoreCollectionOrder = compiledRules.ignoreCollectionOrder;
+    ignoredCollectionOrderInFields = compiledRules.ignoredCollectionOrderInFields;
+    ignoredCollectionOrderInFieldsRegexes = compiledRules.ignoredCollectionOrderInFieldsRegexes;
+    ignoredOverriddenEqualsForFields = compiledRules.ignoredOverriddenEqualsForFields;
+    ignoredOverriddenEqualsForFieldsRegexes = compiledRules.ignoredOverriddenEqualsForFieldsRegexes;
+    fieldComparators = compiledRules.fieldComparators;
+    ignoredTypes = compiledRules.ignoredTypes;
+    ignoredTypesRegexes = compiledRules.ignoredTypesRegexes;
+    fieldRulesByPath = new ConcurrentHashMap<>();
+    ignoredTypeByType = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the rules to use for a single comparison, they share these compiled rules and memoize their decisions until the
+   * comparison is over.
+   *
+   * @return the rules to use for a single comparison
+   */
+  FieldLocationRules forComparison() {
+    return new FieldLocationRules(this);
+  }
+
+  int memoizedDecisionsCount() {
+    return fieldRulesByPath == null ? 0 : fieldRulesByPath.size() + ignoredTypeByType.size();
+  }
+
+  boolean isIgnored(FieldLocation fieldLocation) {
+    return rulesFor(fieldLocation).ignored();
+  }
+
+  boolean isCompared(FieldLocation fieldLocation) {
+    return rulesFor(fieldLocation).compared();
+  }
+
+  boolean isCollectionOrderIgnored(FieldLocation fieldLocation) {
+    return ignoreCollectionOrder || rulesFor(fieldLocation).collectionOrderIgnored();
+  }
+
+  boolean isOverriddenEqualsIgnored(FieldLocation fieldLocation) {
+    return rulesFor(fieldLocation).overriddenEqualsIgnored();
+  }
+
+  Comparator<?> getComparatorFor(FieldLocation fieldLocation) {
+    return rulesFor(fieldLocation).comparator();
+  }
+
+  boolean isIgnoredType(Class<?> type) {
+    if (ignoredTypeByType == null) return isIgnored(type);
+    Boolean ignored = ignoredTypeByType.get(type);
+    if (ignored == null) {
+      ignored = isIgnored(type);
+      ignoredTypeByType.put(type, ignored);
+    }
+    return ignored;
+  }
+
+  private boolean isIgnored(Class<?> type) {
+    return ignoredTypes.contains(type) || anyMatches(ignoredTypesRegexes, type.getName());
+  }
+
+  private FieldRules rulesFor(FieldLocation fieldLocation) {
+    return rulesFor(fieldLocation.getPathToUseInRules());
+  }
+
+  private FieldRules rulesFor(String path) {
+    if (fieldRulesByPath == null) return compile(path);
+    FieldRules fieldRules = fieldRulesByPath.get(path);
+    if (fieldRules == null) {
+      // not using computeIfAbsent as computing the rules of a path computes the rules of its parent path
+      fieldRules = compile(path);
+      fieldRulesByPath.put(path, fieldRules);
+    }
+    return fieldRules;
+  }
+
+  private FieldRules compile(String path) {
+    // root is never ignored, compared fields are relative to it
+    if (path.isEmpty()) return new FieldRules(false, true, false, false, fieldComparators.getComparatorForField(path));
+    int lastSeparatorIndex = path.lastIndexOf(FIELD_SEPARATOR);
+    String parentPath = lastSeparatorIndex < 0 ? "" : path.substring(0, lastSeparatorIndex);
+    boolean ignored = rulesFor(parentPath).ignored() || ignoredFields.contains(path) || anyMatches(ignoredFieldsRegexes, path);
+    return new FieldRules(ignored,
+                          isCompared(path),
+                          ignoredCollectionOrderInFields.contains(path) || anyMatches(ignoredCollectionOrderInFieldsRegexes, path),
+                          ignoredOverriddenEqualsForFields.contains(path) || anyMatches(ignoredOverriddenEqualsForFieldsRegexes, path),
+                          fieldComparators.getComparatorForField(path));
+  }
+
+  private boolean isCompared(String path) {
+    // no compared fields <=> no restriction on compared fields => everything must be compared
+    if (comparedFields.isEmpty()) return true;
+    // a field must be compared if any compared field is the field itself, a parent or a child of it
+    FieldLocation fieldLocation = new FieldLocation(path);
+    return comparedFields.stream().anyMatch(comparedField -> fieldLocation.exactlyMatches(comparedField)
+                                                             || fieldLocation.hasParent(comparedField)
+                                                             || fieldLocation.hasChild(comparedField));
+  }
+
+  private static boolean anyMatches(List<Pattern> regexes, String path) {
+    for (Pattern regex : regexes) {
+      if (regex.matcher(path).matches()) return true;
+    }
+    return false;
+  }
+
+  private record FieldRules(boolean ignored, boolean compared, boolean collectionOrderIgnored, boolean overriddenEqualsIgnored,
+                            Comparator<?> comparator) {
+  }
+}
@@ -27,6 +27,7 @@ import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.lang.reflect.Array;
@@ -42,7 +43,6 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
-import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -107,6 +107,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int parallelism = 1;
+
+  // compiled on first use, reset when the rules it is compiled from change
+  private volatile FieldLocationRules fieldLocationRules;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -134,6 +139,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
     this.representation = builder.representation != null ? builder.representation : STANDARD_REPRESENTATION;
     this.treatNullAndEmptyIterablesAsEqual = builder.treatNullAndEmptyIterablesAsEqual;
+    this.parallelism = builder.parallelism;
   }
 
   public RecursiveComparisonConfiguration(Representation representation) {
@@ -310,6 +316,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void compareOnlyFields(String... fieldNamesToCompare) {
     Stream.of(fieldNamesToCompare).map(FieldLocation::new).forEach(comparedFields::add);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -382,6 +389,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -395,6 +403,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .toList());
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -440,6 +449,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void ignoreCollectionOrder(boolean ignoreCollectionOrder) {
     this.ignoreCollectionOrder = ignoreCollectionOrder;
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -456,6 +466,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -478,6 +489,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .toList());
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -588,6 +600,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   public void registerComparatorForFields(Comparator<?> comparator, String... fieldLocations) {
     requireNonNull(comparator, "Expecting a non null Comparator");
     Stream.of(fieldLocations).forEach(fieldLocation -> fieldComparators.registerComparator(fieldLocation, comparator));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -638,6 +651,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
    */
   public void registerEqualsForFieldsMatchingRegexes(BiPredicate<?, ?> equals, String... regexes) {
     fieldComparators.registerComparatorForFieldsMatchingRegexes(regexes, toComparator(equals));
+    fieldLocationRulesChanged();
   }
 
   /**
@@ -735,6 +749,38 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets the number of threads the comparison of the elements of large ordered collections and arrays and the values of
+   * large maps is split for, default to 1 which means the whole comparison is performed by the calling thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for details.
+   *
+   * @param parallelism the number of threads the comparison of large containers elements is split for.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   * @since 4.0.0
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * Returns the number of threads the comparison of the elements of large ordered collections and arrays and the values of
+   * large maps is split for.
+   *
+   * @return the number of threads the comparison of large containers elements is split for.
+   * @since 4.0.0
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  boolean shouldCompareInParallel() {
+    // comparing only some types requires tracking the locations of these types in the configuration while traversing the
+    // graph, this is not thread safe and thus only done sequentially.
+    return parallelism > 1 && !hasComparedTypes();
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -748,7 +794,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, ignoreArrayOrder, parallelism);
   }
 
   @Override
@@ -780,7 +826,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && parallelism == other.parallelism;
   }
 
   public String multiLineDescription(Representation representation) {
@@ -809,39 +856,70 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelism(description);
     return description.toString();
   }
 
+  /**
+   * Returns the field location rules of this configuration, they are compiled once and shared by the comparisons using this
+   * configuration until one of the rules changes, each comparison memoizing its decisions in its own
+   * {@link FieldLocationRules#forComparison() rules}.
+   *
+   * @return the field location rules of this configuration
+   */
+  FieldLocationRules getFieldLocationRules() {
+    FieldLocationRules rules = fieldLocationRules;
+    if (rules == null) {
+      rules = new FieldLocationRules(this);
+      fieldLocationRules = rules;
+    }
+    return rules;
+  }
+
+  @Override
+  protected void ignoredFieldsOrTypesChanged() {
+    fieldLocationRulesChanged();
+  }
+
+  private void fieldLocationRulesChanged() {
+    fieldLocationRules = null;
+  }
+
   public boolean shouldNotEvaluate(DualValue dualValue) {
+    return shouldNotEvaluate(dualValue, getFieldLocationRules());
+  }
+
+  boolean shouldNotEvaluate(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     // if we have some compared types, we can't discard any values since they could have fields we need to compare.
     if (hasComparedTypes()) return false;
-    return shouldIgnore(dualValue);
+    return shouldIgnore(dualValue, fieldLocationRules);
   }
 
   public boolean shouldIgnore(DualValue dualValue) {
-    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation)
-           || shouldIgnoreFieldBasedOnFieldValue(dualValue);
+    return shouldIgnore(dualValue, getFieldLocationRules());
   }
 
-  private boolean shouldBeCompared(DualValue dualValue) {
+  boolean shouldIgnore(DualValue dualValue, FieldLocationRules fieldLocationRules) {
+    return fieldLocationRules.isIgnored(dualValue.fieldLocation)
+           || shouldIgnoreFieldBasedOnFieldValue(dualValue, fieldLocationRules);
+  }
+
+  private boolean shouldBeCompared(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     // no comparedFields nor comparedTypes <=> no restriction on compared fields => everything must be compared
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (hasComparedTypes()) return true;
-    return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
-  }
-
-  private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
     // a field f must be compared if any compared fields is f itself (obviously), a parent of f or a child of f.
     // - "name.first" must be compared if "name" is a compared field so will other "name" subfields like "name.last"
     // - "name" must be compared if "name.first" is a compared field otherwise "name" is ignored and "name.first" too
-    return comparedField -> field.isRoot() // always compare root!
-                            || field.exactlyMatches(comparedField)
-                            || field.hasParent(comparedField) // ex: field "name.first" and "name" compared field
-                            || field.hasChild(comparedField); // ex: field "name" and "name.first" compared field
+    return fieldLocationRules.isCompared(dualValue.fieldLocation);
   }
 
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodeNamesToCompare(dualValue, getFieldLocationRules());
+  }
+
+  Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
     // if we have some compared types, we can't discard any fields since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
@@ -850,24 +928,14 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       registerFieldLocationOfFieldsOfTypesToCompare(dualValue);
       return actualChildrenNodeNames;
     }
-    // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
-    // - we filter first ignored nodes by names that don't need building DualValues
-    // - then we filter field DualValues with the remaining criteria that need to get the node value
-    // DualValues are built by introspecting node values which is expensive.
-    return actualChildrenNodeNames.stream()
-                                  // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
-                                  .map(fieldName -> dualValueForField(dualValue, fieldName))
-                                  // evaluate field value ignoring criteria
-                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
-                                  // back to field name
-                                  .map(DualValue::getFieldName)
-                                  .filter(fieldName -> !fieldName.isEmpty())
-                                  .collect(toSet());
+    return childrenNodeNamesToCompare(dualValue, actualChildrenNodeNames, fieldLocationRules);
   }
 
   public Set<String> getExpectedChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getExpectedChildrenNodeNamesToCompare(dualValue, getFieldLocationRules());
+  }
+
+  Set<String> getExpectedChildrenNodeNamesToCompare(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     Set<String> expectedChildrenNodeNames = getChildrenNodeNamesOf(dualValue.expected);
     // if we have some compared types, we can't discard any fields since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
@@ -876,21 +944,26 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       // don't register fieldLocation of fields of types to compare since we do it for actual;
       return expectedChildrenNodeNames;
     }
+    return childrenNodeNamesToCompare(dualValue, expectedChildrenNodeNames, fieldLocationRules);
+  }
+
+  private Set<String> childrenNodeNamesToCompare(DualValue dualValue, Set<String> childrenNodeNames,
+                                                 FieldLocationRules fieldLocationRules) {
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored nodes by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the node value
     // DualValues are built by introspecting node values which is expensive.
-    return expectedChildrenNodeNames.stream()
-                                    // evaluate field name ignoring criteria on dualValue field location + field name
-                                    .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
-                                    .map(fieldName -> dualValueForField(dualValue, fieldName))
-                                    // evaluate field value ignoring criteria
-                                    .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                    .filter(this::shouldBeCompared)
-                                    // back to field name
-                                    .map(DualValue::getFieldName)
-                                    .filter(fieldName -> !fieldName.isEmpty())
-                                    .collect(toSet());
+    return childrenNodeNames.stream()
+                            // evaluate field name ignoring criteria on dualValue field location + field name
+                            .filter(fieldName -> !fieldLocationRules.isIgnored(dualValue.fieldLocation.field(fieldName)))
+                            .map(fieldName -> dualValueForField(dualValue, fieldName))
+                            // evaluate field value ignoring criteria
+                            .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue, fieldLocationRules))
+                            .filter(fieldDualValue -> shouldBeCompared(fieldDualValue, fieldLocationRules))
+                            // back to field name
+                            .map(DualValue::getFieldName)
+                            .filter(fieldName -> !fieldName.isEmpty())
+                            .collect(toSet());
   }
 
   Set<String> getChildrenNodeNamesOf(Object instance) {
@@ -903,16 +976,12 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   // non accessible stuff
 
-  private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue) {
+  private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     return matchesAnIgnoredNullField(dualValue)
-           || matchesAnIgnoredFieldType(dualValue)
+           || matchesAnIgnoredFieldType(dualValue, fieldLocationRules)
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
-  }
-
   private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
     Object actualFieldValue = getValue(fieldName, parentDualValue.actual);
     // no guarantees we have a field in expected named as fieldName
@@ -928,9 +997,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return new DualValue(fieldLocation, actualFieldValue, expectedFieldValue);
   }
 
-  boolean hasCustomComparator(DualValue dualValue) {
-    String fieldName = dualValue.getConcatenatedPath();
-    if (hasComparatorForField(fieldName)) return true;
+  boolean hasCustomComparator(DualValue dualValue, FieldLocationRules fieldLocationRules) {
+    if (fieldLocationRules.getComparatorFor(dualValue.fieldLocation) != null) return true;
     if (dualValue.actual == null && dualValue.expected == null) return false;
     Class<?> expectedType = dualValue.expected != null ? dualValue.expected.getClass() : null;
     // use expected type when actual is null, we assume here as best effort that actual and expected have the same type
@@ -950,6 +1018,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean shouldHonorOverriddenEquals(DualValue dualValue) {
+    return shouldHonorOverriddenEquals(dualValue, getFieldLocationRules());
+  }
+
+  boolean shouldHonorOverriddenEquals(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     // root objects are not compared with equals as it makes the recursive comparison pointless (use isEqualsTo instead)
     if (dualValue.fieldLocation.isRoot()) return false;
     // we must only honor overridden equals on compared fields if any, we need to introspect recursively non compared
@@ -958,7 +1030,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return false;
     }
     return !ignoreAllOverriddenEquals
-           && !matchesAnIgnoredOverriddenEqualsField(dualValue)
+           && !fieldLocationRules.isOverriddenEqualsIgnored(dualValue.fieldLocation)
            && !shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass());
   }
 
@@ -967,9 +1039,11 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   }
 
   public boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return shouldIgnoreCollectionOrder(fieldLocation, getFieldLocationRules());
+  }
+
+  boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation, FieldLocationRules fieldLocationRules) {
+    return fieldLocationRules.isCollectionOrderIgnored(fieldLocation);
   }
 
   public boolean shouldIgnoreArrayOrder() {
@@ -1093,22 +1167,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n".formatted());
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
-    if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredOverriddenEqualsForFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append("- the elements of large containers were compared with a parallelism of %s%n".formatted(parallelism));
   }
 
   private boolean matchesAnIgnoredOverriddenEqualsType(Class<?> clazz) {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  boolean matchesAnIgnoredOverriddenEqualsField(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::exactlyMatches)
-           || matchesAnIgnoredOverriddenEqualsRegex(fieldLocation);
-  }
-
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
     return (ignoreAllActualNullFields && dualValue.actual == null)
            || (ignoreAllExpectedNullFields && dualValue.expected == null);
@@ -1118,23 +1185,17 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return ignoreAllActualEmptyOptionalFields && dualValue.isActualAnEmptyOptionalOfAnyType();
   }
 
-  private boolean matchesAnIgnoredFieldType(DualValue dualValue) {
+  private boolean matchesAnIgnoredFieldType(DualValue dualValue, FieldLocationRules fieldLocationRules) {
     Object actual = dualValue.actual;
-    if (actual != null) return matchesAnIgnoredType(actual);
+    if (actual != null) return fieldLocationRules.isIgnoredType(actual.getClass());
     Object expected = dualValue.expected;
     // actual is null => we can't evaluate its type, we can only reliably check dualValue.expected's type if
     // strictTypeChecking is enabled which guarantees expected is of the same type.
-    if (strictTypeChecking && expected != null) return matchesAnIgnoredType(expected);
+    if (strictTypeChecking && expected != null) return fieldLocationRules.isIgnoredType(expected.getClass());
     // if strictTypeChecking is disabled, we can't safely ignore the field (if we did, we would ignore all null fields!).
     return false;
   }
 
-  private boolean matchesAnIgnoredType(Object actual) {
-    Class<?> actualType = actual.getClass();
-    return getIgnoredTypes().contains(actualType)
-           || getIgnoredTypesRegexes().stream().anyMatch(regex -> regex.matcher(actualType.getName()).matches());
-  }
-
   private void registerFieldLocationOfFieldsOfTypesToCompare(DualValue dualValue) {
     if (comparedTypes.isEmpty()) return;
     // We check actual type against the types to compare or expected type in case actual was null assuming expected
@@ -1145,15 +1206,6 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     }
   }
 
-  private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::exactlyMatches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private String describeComparedFields() {
     return join(comparedFields.stream().map(FieldLocation::shortDescription).collect(toList()));
   }
@@ -1402,6 +1454,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private final FieldMessages fieldMessages = new FieldMessages();
     private final TypeMessages typeMessages = new TypeMessages();
     private boolean treatNullAndEmptyIterablesAsEqual = DEFAULT_TREAT_NULL_AND_EMPTY_COLLECTIONS_AS_EQUAL;
+    private int parallelism = 1;
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
 
@@ -1822,6 +1875,23 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of threads the comparison of the elements of large ordered collections and arrays and the values of
+     * large maps is split for, default to 1 which means the whole comparison is performed by the calling thread.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for details.
+     *
+     * @param parallelism the number of threads the comparison of large containers elements is split for.
+     * @return this builder.
+     * @throws IllegalArgumentException if parallelism is less than 1.
+     * @since 4.0.0
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
@@ -17,10 +17,7 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Objects.deepEquals;
-import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.DualValue.rootDualValue;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -38,10 +35,12 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -49,6 +48,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collector;
@@ -84,6 +84,10 @@ public class RecursiveComparisonDifferenceCalculator {
                                                                 +
                                                                 "- actual value had more fields to compare than expected value, these actual fields could not be found in expected: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // containers with fewer elements are compared sequentially, splitting their comparison would cost more than it saves
+  private static final int PARALLEL_COMPARISON_THRESHOLD = 256;
+  // split the elements in more chunks than threads to balance the work when some elements are more expensive to compare
+  private static final int CHUNKS_PER_THREAD = 4;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -91,12 +95,28 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // shared with the comparisons of unordered collection elements to evaluate the field rules once per field location
+    FieldLocationRules fieldLocationRules;
+    // 1 when the comparison is sequential
+    int parallelism;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
-                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           FieldLocationRules fieldLocationRules,
+                           int parallelism) {
       this.visitedDualValues = visitedDualValues;
-      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
+      this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration, fieldLocationRules);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.fieldLocationRules = fieldLocationRules;
+      this.parallelism = parallelism;
+    }
+
+    ComparisonState nestedComparisonState(VisitedDualValues visitedDualValues) {
+      return new ComparisonState(visitedDualValues, recursiveComparisonConfiguration, fieldLocationRules, parallelism);
+    }
+
+    boolean shouldCompareInParallel(int dualValuesCount) {
+      return parallelism > 1 && dualValuesCount >= PARALLEL_COMPARISON_THRESHOLD;
     }
 
     void addDifference(ComparisonDifference comparisonDifference) {
@@ -121,7 +141,7 @@ public class RecursiveComparisonDifferenceCalculator {
           // was not a field we had to compared
           return;
         // check if the value was meant to be ignored, if it is the case simply skip the difference
-        if (recursiveComparisonConfiguration.shouldIgnore(dualValue)) return;
+        if (recursiveComparisonConfiguration.shouldIgnore(dualValue, fieldLocationRules)) return;
       }
 
       String customErrorMessage = getCustomErrorMessage(dualValue);
@@ -158,7 +178,7 @@ public class RecursiveComparisonDifferenceCalculator {
       if (dualValue.fieldLocation.isRoot() && recursiveComparisonConfiguration.someComparedFieldsWereSpecified()) {
         recursiveComparisonConfiguration.checkComparedFieldsExist(dualValue.actual);
       }
-      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue)) return;
+      if (recursiveComparisonConfiguration.shouldNotEvaluate(dualValue, fieldLocationRules)) return;
       registerForComparison(dualValue);
     }
 
@@ -210,11 +230,41 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, new VisitedDualValues(), recursiveComparisonConfiguration);
+  }
+
+  /**
+   * Compare two objects like {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} and also
+   * report the number of dual values (pairs of actual and expected values) visited during the comparison, this is useful
+   * to understand the cost of comparing large object graphs.
+   *
+   * @param actual                           Object one to compare
+   * @param expected                         Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return the {@link RecursiveComparisonResult} with the differences found and the number of visited dual values.
+   * @since 4.0.0
+   */
+  public RecursiveComparisonResult compare(Object actual, Object expected,
+                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    List<ComparisonDifference> differences = determineDifferences(actual, expected, visitedDualValues,
+                                                                  recursiveComparisonConfiguration);
+    return new RecursiveComparisonResult(differences, visitedDualValues.visitedDualValuesCount());
+  }
+
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                                 VisitedDualValues visitedDualValues,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     DualValue rootDualValue = rootDualValue(actual, expected);
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && typesDiffer(rootDualValue)) {
       return list(typeDifference(rootDualValue));
     }
-    return determineDifferences(rootDualValue, new VisitedDualValues(), recursiveComparisonConfiguration);
+    FieldLocationRules fieldLocationRules = recursiveComparisonConfiguration.getFieldLocationRules().forComparison();
+    int parallelism = recursiveComparisonConfiguration.shouldCompareInParallel()
+        ? recursiveComparisonConfiguration.getParallelism()
+        : 1;
+    return determineDifferences(rootDualValue, new ComparisonState(visitedDualValues, recursiveComparisonConfiguration,
+                                                                   fieldLocationRules, parallelism));
   }
 
   private static ComparisonDifference typeDifference(DualValue dualValue) {
@@ -224,15 +274,19 @@ public class RecursiveComparisonDifferenceCalculator {
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
-  private static List<ComparisonDifference> determineDifferences(DualValue dualValue,
-                                                                 VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+  private static List<ComparisonDifference> determineDifferences(DualValue dualValue, ComparisonState comparisonState) {
     comparisonState.initDualValuesToCompare(dualValue);
+    return compareDualValuesToCompare(comparisonState);
+  }
+
+  private static List<ComparisonDifference> compareDualValuesToCompare(ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    FieldLocationRules fieldLocationRules = comparisonState.fieldLocationRules;
 
     while (comparisonState.hasDualValuesToCompare()) {
 
-      dualValue = comparisonState.pickDualValueToCompare();
+      DualValue dualValue = comparisonState.pickDualValueToCompare();
+      comparisonState.visitedDualValues.countVisitedDualValue();
       if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
         // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
         // only compare the Person type, we must compare the Person fields too even though they are not of type Person
@@ -265,8 +319,9 @@ public class RecursiveComparisonDifferenceCalculator {
       }
 
       // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue, fieldLocationRules)) {
+        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration, fieldLocationRules))
+          comparisonState.addDifference(dualValue);
         // since we used a custom comparator we don't need to inspect the nested fields any further
         continue;
       }
@@ -321,7 +376,7 @@ public class RecursiveComparisonDifferenceCalculator {
       // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
       // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
       if (dualValue.isExpectedAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation, fieldLocationRules)) {
         compareOrderedCollections(dualValue, comparisonState);
         continue;
       }
@@ -406,7 +461,7 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
       // both actual and expected are not java types, we compare them recursively unless we were told to use equals
-      boolean shouldHonorOverriddenEquals = recursiveComparisonConfiguration.shouldHonorOverriddenEquals(dualValue);
+      boolean shouldHonorOverriddenEquals = recursiveComparisonConfiguration.shouldHonorOverriddenEquals(dualValue, fieldLocationRules);
       if (shouldHonorOverriddenEquals && hasOverriddenEquals(dualValue.actual.getClass())) {
         if (!dualValue.actual.equals(dualValue.expected)) {
           comparisonState.addDifference(dualValue,
@@ -420,7 +475,8 @@ public class RecursiveComparisonDifferenceCalculator {
         continue;
       }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
+      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue,
+                                                                                                                       fieldLocationRules);
       if (reportActualHasMissingOrExtraFields(dualValue, actualChildrenNodeNamesToCompare, comparisonState)) {
         continue;
       }
@@ -563,12 +619,14 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register each pair of actual/expected elements for recursive comparison
     FieldLocation arrayFieldLocation = dualValue.fieldLocation;
+    List<DualValue> elementDualValues = new ArrayList<>(actualArrayLength);
     for (int i = 0; i < actualArrayLength; i++) {
       Object actualElement = Array.get(dualValue.actual, i);
       Object expectedElement = Array.get(dualValue.expected, i);
       FieldLocation elementFieldLocation = arrayFieldLocation.field("[%d]".formatted(i));
-      comparisonState.registerForComparison(new DualValue(elementFieldLocation, actualElement, expectedElement));
+      elementDualValues.add(new DualValue(elementFieldLocation, actualElement, expectedElement));
     }
+    registerForComparison(elementDualValues, comparisonState);
   }
 
   private static void compareUnorderedArrays(DualValue dualValue, ComparisonState comparisonState) {
@@ -613,13 +671,81 @@ public class RecursiveComparisonDifferenceCalculator {
     }
     // register a pair of elements with same index for later comparison as we compare elements in order
     Iterator<?> expectedIterator = expectedCollection.iterator();
+    List<DualValue> elementDualValues = new ArrayList<>(actualCollection.size());
     int i = 0;
     for (Object element : actualCollection) {
       FieldLocation elementFieldLocation = dualValue.fieldLocation.field("[%d]".formatted(i));
-      DualValue elementDualValue = new DualValue(elementFieldLocation, element, expectedIterator.next());
-      comparisonState.registerForComparison(elementDualValue);
+      elementDualValues.add(new DualValue(elementFieldLocation, element, expectedIterator.next()));
       i++;
     }
+    registerForComparison(elementDualValues, comparisonState);
+  }
+
+  /**
+   * Registers the given dual values for comparison, large groups of dual values are compared in parallel in the common
+   * {@link ForkJoinPool} if the recursive comparison was configured to do so, the differences found are then merged in the
+   * comparison state.
+   */
+  private static void registerForComparison(List<DualValue> dualValues, ComparisonState comparisonState) {
+    if (!comparisonState.shouldCompareInParallel(dualValues.size())) {
+      dualValues.forEach(comparisonState::registerForComparison);
+      return;
+    }
+    int chunksCount = comparisonState.parallelism * CHUNKS_PER_THREAD;
+    int chunkSize = (dualValues.size() + chunksCount - 1) / chunksCount;
+    List<ParallelComparison> parallelComparisons = new ArrayList<>();
+    for (int from = 0; from < dualValues.size(); from += chunkSize) {
+      List<DualValue> chunk = dualValues.subList(from, Math.min(from + chunkSize, dualValues.size()));
+      parallelComparisons.add(new ParallelComparison(chunk, comparisonState));
+    }
+    if (ForkJoinTask.inForkJoinPool()) {
+      // nested containers are compared by the pool threads already comparing their parent container
+      ForkJoinTask.invokeAll(parallelComparisons);
+    } else {
+      ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(parallelComparisons)));
+    }
+    // merge in the order the sequential comparison visits the elements (last registered first), this gives the same
+    // differences whatever the order in which the chunk comparisons completed.
+    for (int i = parallelComparisons.size() - 1; i >= 0; i--) {
+      ParallelComparison parallelComparison = parallelComparisons.get(i);
+      if (comparisonState.visitedDualValues.knowsAnyValueUnknownToParentOf(parallelComparison.visitedDualValues())) {
+        // the chunk visited values already visited by a chunk merged before, a sequential comparison would have reported
+        // them as already visited nodes, only this chunk is compared again now that these values are known.
+        ComparisonState chunkComparisonState = comparisonState.nestedComparisonState(comparisonState.visitedDualValues);
+        parallelComparison.dualValues.forEach(chunkComparisonState::registerForComparison);
+        comparisonState.differences.addAll(compareDualValuesToCompare(chunkComparisonState));
+        continue;
+      }
+      comparisonState.differences.addAll(parallelComparison.differences);
+      comparisonState.visitedDualValues.merge(parallelComparison.visitedDualValues());
+    }
+  }
+
+  /**
+   * Compares a chunk of dual values independently of the other chunks, the dual values already visited by the parent
+   * comparison are known but the ones visited by the other chunks are not, chunks sharing visited values are detected
+   * when their results are merged.
+   */
+  private static class ParallelComparison extends RecursiveAction {
+    private final List<DualValue> dualValues;
+    private final ComparisonState comparisonState;
+    private List<ComparisonDifference> differences;
+
+    ParallelComparison(List<DualValue> dualValues, ComparisonState parentComparisonState) {
+      this.dualValues = dualValues;
+      VisitedDualValues visitedDualValues = new VisitedDualValues(parentComparisonState.visitedDualValues);
+      this.comparisonState = parentComparisonState.nestedComparisonState(visitedDualValues);
+    }
+
+    @Override
+    protected void compute() {
+      dualValues.forEach(comparisonState::registerForComparison);
+      differences = compareDualValuesToCompare(comparisonState);
+    }
+
+    VisitedDualValues visitedDualValues() {
+      return comparisonState.visitedDualValues;
+    }
   }
 
   private static String differentTypeErrorMessage(DualValue dualValue, String expectedTypeDescription) {
@@ -651,34 +777,12 @@ public class RecursiveComparisonDifferenceCalculator {
 
   private static void doCompareUnorderedIterables(DualValue dualValue, Iterable<?> actual, Iterable<?> expected,
                                                   ComparisonState comparisonState) {
+    // the actual elements are indexed by hash code once for all expected elements
+    UnorderedElementsMatcher unorderedElementsMatcher = new UnorderedElementsMatcher(actual, expected,
+                                                                                     elementsMatcher(dualValue, comparisonState));
     List<Object> expectedElementsNotFound = list();
     for (Object expectedElement : expected) {
-      boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
-      Integer expectedHash = Objects.hashCode(expectedElement);
-      List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
-      if (actualHashBucket != null) {
-        Iterator<?> actualIterator = actualHashBucket.iterator();
-        expectedElementMatched = searchExpectedElementIn(actualIterator, expectedElement, dualValue, comparisonState);
-      }
-      // It may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check the
-      // other actual elements for matches. This may result in O(n^2) complexity in the worst case.
-      if (!expectedElementMatched) {
-        for (Entry<Integer, ? extends List<?>> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
-          // avoid checking the same bucket twice
-          if (actualElementsEntry.getKey().equals(expectedHash)) continue;
-          Iterator<?> actualElementsIterator = actualElementsEntry.getValue().iterator();
-          expectedElementMatched = searchExpectedElementIn(actualElementsIterator, expectedElement, dualValue, comparisonState);
-          if (expectedElementMatched) break;
-        }
-        if (!expectedElementMatched) expectedElementsNotFound.add(expectedElement);
-      }
+      if (!unorderedElementsMatcher.hasMatchFor(expectedElement)) expectedElementsNotFound.add(expectedElement);
     }
     if (!expectedElementsNotFound.isEmpty()) {
       String type = actual.getClass().getSimpleName();
@@ -690,26 +794,13 @@ public class RecursiveComparisonDifferenceCalculator {
     }
   }
 
-  private static Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode(Iterable<?> actual) {
-    return stream(actual.spliterator(), false).collect(groupingBy(Objects::hashCode, toList()));
-  }
-
-  private static boolean searchExpectedElementIn(Iterator<?> actualIterator, Object expectedElement,
-                                                 DualValue dualValue, ComparisonState comparisonState) {
-    while (actualIterator.hasNext()) {
-      Object actualElement = actualIterator.next();
-      // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
-      List<ComparisonDifference> differences = determineDifferences(new DualValue(dualValue.fieldLocation, actualElement,
-                                                                                  expectedElement),
-                                                                    comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
-        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
-        return true;
-      }
-    }
-    return false;
+  private static BiPredicate<Object, Object> elementsMatcher(DualValue dualValue, ComparisonState comparisonState) {
+    // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+    return (actualElement, expectedElement) -> {
+      ComparisonState nestedComparisonState = comparisonState.nestedComparisonState(comparisonState.visitedDualValues);
+      DualValue elementDualValue = new DualValue(dualValue.fieldLocation, actualElement, expectedElement);
+      return determineDifferences(elementDualValue, nestedComparisonState).isEmpty();
+    };
   }
 
   // TODO replace by ordered map
@@ -720,13 +811,12 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
 
-    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                              comparisonState.recursiveComparisonConfiguration);
+    Map<?, ?> actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation, comparisonState);
 
     @SuppressWarnings("unchecked")
     Map<K, V> expectedMap = (Map<K, V>) filterIgnoredFields((Map<?, ?>) dualValue.expected,
                                                             dualValue.fieldLocation,
-                                                            comparisonState.recursiveComparisonConfiguration);
+                                                            comparisonState);
 
     if (actualMap.size() != expectedMap.size()) {
       comparisonState.addDifference(dualValue,
@@ -735,6 +825,7 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     Iterator<Entry<K, V>> expectedMapEntries = expectedMap.entrySet().iterator();
+    List<DualValue> valueDualValues = new ArrayList<>(actualMap.size());
     for (Entry<?, ?> actualEntry : actualMap.entrySet()) {
       Entry<?, ?> expectedEntry = expectedMapEntries.next();
       // check keys are matched before comparing values as keys represents a field
@@ -744,9 +835,10 @@ public class RecursiveComparisonDifferenceCalculator {
       } else {
         // as the key/field match we can simply compare field/key values
         FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, actualEntry.getKey());
-        comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
+        valueDualValues.add(new DualValue(keyFieldLocation, actualEntry.getValue(), expectedEntry.getValue()));
       }
     }
+    registerForComparison(valueDualValues, comparisonState);
   }
 
   @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -756,10 +848,8 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
 
-    Map actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation,
-                                        comparisonState.recursiveComparisonConfiguration);
-    Map expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation,
-                                          comparisonState.recursiveComparisonConfiguration);
+    Map actualMap = filterIgnoredFields((Map<?, ?>) dualValue.actual, dualValue.fieldLocation, comparisonState);
+    Map expectedMap = filterIgnoredFields((Map<?, ?>) dualValue.expected, dualValue.fieldLocation, comparisonState);
 
     StringBuilder diffMessage = new StringBuilder();
     if (actualMap.size() != expectedMap.size()) {
@@ -782,24 +872,26 @@ public class RecursiveComparisonDifferenceCalculator {
       return;
     }
     // actual and expected maps have the same keys, we need now to compare their values
+    List<DualValue> valueDualValues = new ArrayList<>(expectedMap.size());
     for (Object key : expectedMap.keySet()) {
       FieldLocation keyFieldLocation = keyFieldLocation(dualValue.fieldLocation, key);
-      comparisonState.registerForComparison(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
+      valueDualValues.add(new DualValue(keyFieldLocation, actualMap.get(key), expectedMap.get(key)));
     }
+    registerForComparison(valueDualValues, comparisonState);
   }
 
   private static Map<?, ?> filterIgnoredFields(Map<?, ?> map, FieldLocation fieldLocation,
-                                               RecursiveComparisonConfiguration configuration) {
+                                               ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration configuration = comparisonState.recursiveComparisonConfiguration;
     Set<String> ignoredFields = configuration.getIgnoredFields();
     List<Pattern> ignoredFieldsRegexes = configuration.getIgnoredFieldsRegexes();
     if (ignoredFields.isEmpty() && ignoredFieldsRegexes.isEmpty()) {
       return map;
     }
+    FieldLocationRules fieldLocationRules = comparisonState.fieldLocationRules;
     return map.entrySet().stream()
               .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredField(fieldLocation.field(e.getKey().toString())))
-              .filter(e -> e.getKey() == null
-                           || !configuration.matchesAnIgnoredFieldRegex(fieldLocation.field(e.getKey().toString())))
+                           || !fieldLocationRules.isIgnored(fieldLocation.field(e.getKey().toString())))
               .collect(toMap(Entry::getKey, Entry::getValue));
   }
 
@@ -1008,12 +1100,13 @@ public class RecursiveComparisonDifferenceCalculator {
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private static boolean areDualValueEqual(DualValue dualValue,
-                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                           FieldLocationRules fieldLocationRules) {
     final String fieldName = dualValue.getConcatenatedPath();
     final Object actualFieldValue = dualValue.actual;
     final Object expectedFieldValue = dualValue.expected;
     // check field comparators as they take precedence over type comparators
-    Comparator fieldComparator = recursiveComparisonConfiguration.getComparatorForField(fieldName);
+    Comparator fieldComparator = fieldLocationRules.getComparatorFor(dualValue.fieldLocation);
     if (fieldComparator != null)
       return areEqualUsingComparator(actualFieldValue, expectedFieldValue, fieldComparator, fieldName);
     // check if a type comparators exist for the field type
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.util.List;
+
+/**
+ * Result of a recursive comparison: the differences found and the number of dual values (pairs of actual and expected
+ * values) that were visited to find them.
+ *
+ * @since 4.0.0
+ */
+public final class RecursiveComparisonResult {
+
+  private final List<ComparisonDifference> differences;
+  private final int visitedDualValuesCount;
+
+  RecursiveComparisonResult(List<ComparisonDifference> differences, int visitedDualValuesCount) {
+    this.differences = unmodifiableList(differences);
+    this.visitedDualValuesCount = visitedDualValuesCount;
+  }
+
+  /**
+   * Returns the differences found by the recursive comparison, empty if the compared objects are equivalent.
+   *
+   * @return the differences found by the recursive comparison.
+   */
+  public List<ComparisonDifference> getDifferences() {
+    return differences;
+  }
+
+  /**
+   * Returns the number of dual values visited by the recursive comparison, including the ones visited when comparing
+   * elements of unordered collections.
+   *
+   * @return the number of dual values visited by the recursive comparison.
+   */
+  public int getVisitedDualValuesCount() {
+    return visitedDualValuesCount;
+  }
+
+  /**
+   * Returns true if the compared objects are equivalent, i.e. no differences were found.
+   *
+   * @return true if no differences were found.
+   */
+  public boolean hasNoDifferences() {
+    return differences.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "RecursiveComparisonResult[differences=%s, visitedDualValuesCount=%s]".formatted(differences, visitedDualValuesCount);
+  }
+}
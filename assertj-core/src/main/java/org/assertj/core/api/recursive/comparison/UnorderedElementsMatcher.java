@@ -0,0 +1,151 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+/**
+ * Finds, for each expected element of an unordered comparison, an actual element matching it.
+ * <p>
+ * Actual elements are indexed once by hash code, an expected element is first searched in the actual elements sharing its
+ * hash code then in the other ones as the hash code is not relevant if fields used to compute it are ignored in the
+ * recursive comparison, it's a good heuristic though to check the first actual elements that could match the expected one,
+ * worst case we compare all actual elements.
+ * <p>
+ * In each bucket, actual elements already matched by a previous expected element are only considered when no other actual
+ * element of the bucket matches, this keeps the matching linear when hash codes are meaningful while still allowing
+ * duplicate expected elements to be matched by the same actual element. Each bucket keeps the list of its matched actual
+ * elements, a repeated expected element whose match is already taken is thus compared to the actual elements sharing its
+ * hash code before the ones of other buckets.
+ */
+class UnorderedElementsMatcher {
+
+  private final List<Object> actualElements = new ArrayList<>();
+  private final Map<Integer, Bucket> actualElementsGroupedByHashCode = new LinkedHashMap<>();
+  private final BitSet matchedActualElements = new BitSet();
+  // recursive comparison verdicts of expected elements occurring more than once, keyed by identity
+  private final Map<Object, Verdicts> repeatedExpectedElementsVerdicts = new IdentityHashMap<>();
+  private final BiPredicate<Object, Object> elementsMatcher;
+
+  /**
+   * Creates a new matcher.
+   *
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @param elementsMatcher the predicate telling whether an actual element matches an expected one
+   */
+  UnorderedElementsMatcher(Iterable<?> actual, Iterable<?> expected, BiPredicate<Object, Object> elementsMatcher) {
+    this.elementsMatcher = elementsMatcher;
+    for (Object actualElement : actual) {
+      actualElementsGroupedByHashCode.computeIfAbsent(Objects.hashCode(actualElement), hash -> new Bucket())
+                                     .actualIndexes.add(actualElements.size());
+      actualElements.add(actualElement);
+    }
+    Map<Object, Boolean> alreadySeenExpectedElements = new IdentityHashMap<>();
+    for (Object expectedElement : expected) {
+      if (alreadySeenExpectedElements.put(expectedElement, true) != null)
+        repeatedExpectedElementsVerdicts.put(expectedElement, new Verdicts());
+    }
+  }
+
+  /**
+   * Returns true if an actual element matches the given expected element.
+   *
+   * @param expectedElement the expected element to look for
+   * @return true if an actual element matches the given expected element.
+   */
+  boolean hasMatchFor(Object expectedElement) {
+    Integer expectedHash = Objects.hashCode(expectedElement);
+    Bucket expectedHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
+    if (expectedHashBucket != null
+        && (searchUnmatchedIn(expectedHashBucket, expectedElement) || searchMatchedIn(expectedHashBucket, expectedElement)))
+      return true;
+    // it may be that expectedElement matches an actual element in a different hash bucket, to account for this, we check
+    // the other actual elements for matches. This may result in O(n^2) complexity in the worst case.
+    return searchUnmatchedInOtherBuckets(expectedElement, expectedHash)
+           || searchMatchedInOtherBuckets(expectedElement, expectedHash);
+  }
+
+  private boolean searchUnmatchedInOtherBuckets(Object expectedElement, Integer expectedHash) {
+    for (Entry<Integer, Bucket> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
+      // avoid checking the same bucket twice
+      if (actualElementsEntry.getKey().equals(expectedHash)) continue;
+      if (searchUnmatchedIn(actualElementsEntry.getValue(), expectedElement)) return true;
+    }
+    return false;
+  }
+
+  private boolean searchUnmatchedIn(Bucket bucket, Object expectedElement) {
+    List<Integer> actualIndexes = bucket.actualIndexes;
+    // matched elements are usually the first ones of a bucket, skip them once for all
+    while (bucket.firstUnmatched < actualIndexes.size() && matchedActualElements.get(actualIndexes.get(bucket.firstUnmatched)))
+      bucket.firstUnmatched++;
+    for (int i = bucket.firstUnmatched; i < actualIndexes.size(); i++) {
+      int actualIndex = actualIndexes.get(i);
+      if (!matchedActualElements.get(actualIndex) && matches(actualIndex, expectedElement)) {
+        matchedActualElements.set(actualIndex);
+        bucket.matchedActualIndexes.add(actualIndex);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean searchMatchedInOtherBuckets(Object expectedElement, Integer expectedHash) {
+    for (Entry<Integer, Bucket> actualElementsEntry : actualElementsGroupedByHashCode.entrySet()) {
+      if (actualElementsEntry.getKey().equals(expectedHash)) continue;
+      if (searchMatchedIn(actualElementsEntry.getValue(), expectedElement)) return true;
+    }
+    return false;
+  }
+
+  private boolean searchMatchedIn(Bucket bucket, Object expectedElement) {
+    for (int actualIndex : bucket.matchedActualIndexes) {
+      if (matches(actualIndex, expectedElement)) return true;
+    }
+    return false;
+  }
+
+  private boolean matches(int actualIndex, Object expectedElement) {
+    Verdicts verdicts = repeatedExpectedElementsVerdicts.get(expectedElement);
+    if (verdicts == null) return elementsMatcher.test(actualElements.get(actualIndex), expectedElement);
+    if (verdicts.compared.get(actualIndex)) return verdicts.matching.get(actualIndex);
+    boolean matching = elementsMatcher.test(actualElements.get(actualIndex), expectedElement);
+    verdicts.compared.set(actualIndex);
+    if (matching) verdicts.matching.set(actualIndex);
+    return matching;
+  }
+
+  private static class Bucket {
+    final List<Integer> actualIndexes = new ArrayList<>();
+    // candidates for repeated expected elements whose match is already taken
+    final List<Integer> matchedActualIndexes = new ArrayList<>();
+    int firstUnmatched;
+  }
+
+  private static class Verdicts {
+    final BitSet compared = new BitSet();
+    final BitSet matching = new BitSet();
+  }
+}
@@ -16,49 +16,121 @@
 package org.assertj.core.api.recursive.comparison;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // differences are registered on dual values agnostic of location, to take care of values visited several times
+  private final Map<VisitedValues, List<ComparisonDifference>> comparisonDifferencesByVisitedValues;
+  // dual values visited by the comparison this one is nested in, only read while this comparison is performed in parallel
+  // with the other nested ones, the nested comparisons visited dual values are merged back when they are all done.
+  private final VisitedDualValues parent;
+  // values looked up by a nested comparison that its parent did not know, two nested comparisons looking up the same
+  // values could have found each other values if they had been performed sequentially.
+  private final Set<VisitedValues> valuesUnknownToParent;
+  private int visitedDualValuesCount;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this(null);
+  }
+
+  VisitedDualValues(VisitedDualValues parent) {
+    this.comparisonDifferencesByVisitedValues = new HashMap<>();
+    this.parent = parent;
+    this.valuesUnknownToParent = parent == null ? null : new HashSet<>();
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    this.comparisonDifferencesByVisitedValues.putIfAbsent(new VisitedValues(dualValue), new ArrayList<>());
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    List<ComparisonDifference> comparisonDifferences = comparisonDifferencesByVisitedValues.get(new VisitedValues(dualValue));
+    if (comparisonDifferences != null) comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // use the values identity to get already visited dual values with different location
+    return Optional.ofNullable(registeredComparisonDifferencesOf(new VisitedValues(dualValue),
+                                                                 dualValue.hasPotentialCyclingValues()));
+  }
+
+  private List<ComparisonDifference> registeredComparisonDifferencesOf(VisitedValues visitedValues, boolean canBeRegistered) {
+    List<ComparisonDifference> comparisonDifferences = comparisonDifferencesByVisitedValues.get(visitedValues);
+    if (comparisonDifferences != null || parent == null) return comparisonDifferences;
+    // the parent is shared with the other nested comparisons, only read it
+    comparisonDifferences = parent.registeredComparisonDifferencesInHierarchyOf(visitedValues);
+    // values that are never registered are not found whatever the comparisons order
+    if (comparisonDifferences == null && canBeRegistered) valuesUnknownToParent.add(visitedValues);
+    return comparisonDifferences;
+  }
+
+  private List<ComparisonDifference> registeredComparisonDifferencesInHierarchyOf(VisitedValues visitedValues) {
+    for (VisitedDualValues visitedDualValues = this; visitedDualValues != null; visitedDualValues = visitedDualValues.parent) {
+      List<ComparisonDifference> comparisonDifferences = visitedDualValues.comparisonDifferencesByVisitedValues.get(visitedValues);
+      if (comparisonDifferences != null) return comparisonDifferences;
+    }
+    return null;
+  }
+
+  /**
+   * Returns whether this comparison knows any of the values that the given nested comparison looked up without its parent
+   * knowing them, that is whether a nested comparison merged in this one after the given one was started registered them.
+   * If it is not the case, the given nested comparison results are the same as if it had been performed after the merged
+   * ones, in particular the same as a sequential comparison.
+   */
+  boolean knowsAnyValueUnknownToParentOf(VisitedDualValues nestedVisitedDualValues) {
+    for (VisitedValues visitedValues : nestedVisitedDualValues.valuesUnknownToParent) {
+      if (registeredComparisonDifferencesInHierarchyOf(visitedValues) != null) return true;
+    }
+    return false;
+  }
+
+  void merge(VisitedDualValues nestedVisitedDualValues) {
+    nestedVisitedDualValues.comparisonDifferencesByVisitedValues.forEach(comparisonDifferencesByVisitedValues::putIfAbsent);
+    // values unknown to this comparison are also unknown to its parent
+    if (parent != null) valuesUnknownToParent.addAll(nestedVisitedDualValues.valuesUnknownToParent);
+    visitedDualValuesCount += nestedVisitedDualValues.visitedDualValuesCount;
+  }
+
+  void countVisitedDualValue() {
+    visitedDualValuesCount++;
   }
 
-  private static class VisitedDualValue {
-    DualValue dualValue;
-    List<ComparisonDifference> comparisonDifferences;
+  int visitedDualValuesCount() {
+    return visitedDualValuesCount;
+  }
+
+  /**
+   * Identity based key of a visited dual value, consistent with {@link DualValue#sameValues(DualValue)}.
+   */
+  private static final class VisitedValues {
+    private final Object actual;
+    private final Object expected;
 
-    VisitedDualValue(DualValue dualValue) {
-      this.dualValue = dualValue;
-      this.comparisonDifferences = new ArrayList<>();
+    VisitedValues(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof VisitedValues visitedValues && actual == visitedValues.actual && expected == visitedValues.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
     }
 
     @Override
     public String toString() {
-      return "VisitedDualValue[dualValue=%s, comparisonDifferences=%s]".formatted(this.dualValue, this.comparisonDifferences);
+      return "VisitedValues[actual=%s, expected=%s]".formatted(actual, expected);
     }
   }
 }
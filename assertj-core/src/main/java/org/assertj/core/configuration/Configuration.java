@@ -41,6 +41,7 @@ public class Configuration {
   // default values
   public static final int MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION = 80;
   public static final int MAX_ELEMENTS_FOR_PRINTING = 1000;
+  public static final int MAX_CHARACTERS_FOR_PRINTING = 1_000_000;
   public static final int MAX_INDICES_FOR_PRINTING = 50;
   public static final boolean REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE = true;
   public static final boolean ALLOW_COMPARING_PRIVATE_FIELDS = true;
@@ -62,6 +63,7 @@ public class Configuration {
   private List<DateFormat> additionalDateFormats;
   private int maxLengthForSingleLineDescription;
   private int maxElementsForPrinting;
+  private int maxCharactersForPrinting;
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
@@ -83,6 +85,7 @@ public class Configuration {
     additionalDateFormats = emptyList();
     maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
+    maxCharactersForPrinting = MAX_CHARACTERS_FOR_PRINTING;
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
@@ -311,6 +314,36 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many characters at most will be printed when representing an iterable/array/map in error messages,
+   * including the elements nested in it.
+   * <p>
+   * Default is {@value #MAX_CHARACTERS_FOR_PRINTING}.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   *
+   * @return the maximum number of characters printed when representing an iterable/array/map.
+   * @since 4.0.0
+   */
+  public int maxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
+  /**
+   * Sets how many characters at most will be printed when representing an iterable/array/map in error messages,
+   * including the elements nested in it.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCharactersForPrinting the maximum number of characters printed when representing an iterable/array/map.
+   * @since 4.0.0
+   */
+  public void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    this.maxCharactersForPrinting = maxCharactersForPrinting;
+  }
+
   public boolean printAssertionsDescription() {
     return printAssertionsDescription;
   }
@@ -386,6 +419,7 @@ public class Configuration {
     Assertions.setExtractBareNamePropertyMethods(bareNamePropertyExtractionEnabled());
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
+    Assertions.setMaxCharactersForPrinting(maxCharactersForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
     Assertions.useRepresentation(representation());
@@ -417,6 +451,7 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxCharactersForPrinting ........................ = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
@@ -431,6 +466,7 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxCharactersForPrinting(),
                   maxStackTraceElementsDisplayed(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
@@ -17,7 +17,9 @@ package org.assertj.core.error;
 
 import static org.assertj.core.util.Arrays.array;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,7 +30,8 @@ import org.assertj.core.presentation.Representation;
 public class AssertionErrorCreator {
 
   private static final Class<?>[] MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR = array(String.class, Object.class, Object.class);
-  private Method valueWrapperCreateMethod;
+  // ValueWrapper.create(Object, String) looked up once, null if opentest4j is not available
+  private static final MethodHandle VALUE_WRAPPER_CREATE = valueWrapperCreate();
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   ConstructorInvoker constructorInvoker;
@@ -39,28 +42,56 @@ public class AssertionErrorCreator {
 
   public AssertionErrorCreator(ConstructorInvoker constructorInvoker) {
     this.constructorInvoker = constructorInvoker;
+  }
+
+  private static MethodHandle valueWrapperCreate() {
     try {
       Class<?> valueWrapperClass = Class.forName("org.opentest4j.ValueWrapper");
-      valueWrapperCreateMethod = valueWrapperClass.getMethod("create", Object.class, String.class);
+      MethodType createType = MethodType.methodType(valueWrapperClass, Object.class, String.class);
+      MethodHandle create = MethodHandles.publicLookup().findStatic(valueWrapperClass, "create", createType);
+      return create.asType(MethodType.methodType(Object.class, Object.class, String.class));
     } catch (Exception e) {
-      valueWrapperCreateMethod = null;
+      return null;
     }
   }
 
   // single assertion error
 
   public AssertionError assertionError(String message, Object actual, Object expected, Representation representation) {
-    return assertionFailedError(message, actual, expected, representation).orElse(assertionError(message));
+    return assertionFailedError(message, actual, null, expected, null, representation).orElse(assertionError(message));
   }
 
-  private Optional<AssertionError> assertionFailedError(String message, Object actual, Object expected,
+  /**
+   * Creates the assertion error of a failure whose message was created by the given {@link ErrorMessageFactory}, the
+   * actual and expected representations built for the message are reused when the factory exposes them.
+   *
+   * @param message the error message created by {@code messageFactory}.
+   * @param messageFactory the factory that created the error message.
+   * @param actual the actual value in the failed assertion.
+   * @param expected the expected value in the failed assertion.
+   * @param representation the representation of the actual and expected values.
+   * @return the created {@link AssertionError}.
+   */
+  public AssertionError assertionError(String message, ErrorMessageFactory messageFactory, Object actual, Object expected,
+                                       Representation representation) {
+    if (!(messageFactory instanceof RepresentingActualAndExpected representing))
+      return assertionError(message, actual, expected, representation);
+    return assertionFailedError(message,
+                                actual, representing.actualRepresentation(representation),
+                                expected, representing.expectedRepresentation(representation),
+                                representation).orElse(assertionError(message));
+  }
+
+  private Optional<AssertionError> assertionFailedError(String message,
+                                                        Object actual, String actualRepresentation,
+                                                        Object expected, String expectedRepresentation,
                                                         Representation representation) {
     try {
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                valueWrapper(expected, representation),
-                                                valueWrapper(actual, representation));
+                                                valueWrapper(expected, expectedRepresentation, representation),
+                                                valueWrapper(actual, actualRepresentation, representation));
 
       if (o instanceof AssertionError error) return Optional.of(error);
 
@@ -68,11 +99,14 @@ public class AssertionErrorCreator {
     return Optional.empty();
   }
 
-  private Object valueWrapper(Object value, Representation representation) {
-    if (valueWrapperCreateMethod == null) return value;
+  private Object valueWrapper(Object value, String valueRepresentation, Representation representation) {
+    if (VALUE_WRAPPER_CREATE == null) return value;
     try {
-      return valueWrapperCreateMethod.invoke(null, value, representation.toStringOf(value));
-    } catch (Exception e) {
+      String stringRepresentation = valueRepresentation != null ? valueRepresentation : representation.toStringOf(value);
+      return VALUE_WRAPPER_CREATE.invokeExact(value, stringRepresentation);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
       return value; // best effort
     }
   }
@@ -89,7 +123,7 @@ public class AssertionErrorCreator {
 
   public AssertionError multipleAssertionsError(Description description, Object objectUnderTest, List<AssertionError> errors) {
     MultipleAssertionsError multipleAssertionsError = new MultipleAssertionsError(description, objectUnderTest, errors);
-    Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(multipleAssertionsError);
+    Failures.instance().removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(multipleAssertionsError);
     return multipleAssertionsError;
   }
 }
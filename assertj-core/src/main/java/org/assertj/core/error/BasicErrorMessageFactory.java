@@ -41,6 +41,10 @@ public class BasicErrorMessageFactory implements ErrorMessageFactory {
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   MessageFormatter formatter = MessageFormatter.instance();
 
+  // representations of the arguments kept by the last created message, see createKeepingArgumentsRepresentations
+  private String[] argumentsRepresentations;
+  private Representation argumentsRepresentedWith;
+
   /**
    * To avoid quoted String in message format.
    */
@@ -107,6 +111,24 @@ public class BasicErrorMessageFactory implements ErrorMessageFactory {
     return formatter.format(description, representation, format, arguments);
   }
 
+  /**
+   * Creates the error message like {@link #create(Description, Representation)} and keeps the arguments representations
+   * to let {@link #argumentRepresentation(int, Representation)} return them.
+   */
+  String createKeepingArgumentsRepresentations(Description description, Representation representation) {
+    argumentsRepresentations = formatter.represent(representation, arguments);
+    argumentsRepresentedWith = representation;
+    return formatter.format(description, format, argumentsRepresentations);
+  }
+
+  /**
+   * Returns the representation of the argument at the given index kept by the last created message if it was built with
+   * the given representation, {@code null} otherwise.
+   */
+  String argumentRepresentation(int index, Representation representation) {
+    return representation == argumentsRepresentedWith ? argumentsRepresentations[index] : null;
+  }
+
   /**
    * Return a string who will be unquoted in message format (without '')
    *
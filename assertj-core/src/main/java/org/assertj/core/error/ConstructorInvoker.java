@@ -15,19 +15,57 @@
  */
 package org.assertj.core.error;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Access to constructors using Java reflection.
+ * <p>
+ * Constructors are looked up once and then invoked through method handles, classes that could not be found are remembered
+ * to avoid looking them up again.
  *
  * @author Yvonne Wang
  * @author Alex Ruiz
  */
 public class ConstructorInvoker {
 
+  // use ConcurrentHashMap as assertion errors can be created in a multi-thread context
+  private static final Map<ConstructorKey, Optional<MethodHandle>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
   public Object newInstance(String className, Class<?>[] parameterTypes, Object... parameterValues) throws Exception {
-    Class<?> targetType = Class.forName(className);
-    Constructor<?> constructor = targetType.getConstructor(parameterTypes);
-    return constructor.newInstance(parameterValues);
+    Optional<MethodHandle> constructor = CONSTRUCTORS.get(new ConstructorKey(className, List.of(parameterTypes)));
+    if (constructor == null) constructor = lookUpConstructor(className, parameterTypes);
+    if (constructor.isEmpty()) throw new ClassNotFoundException(className);
+    try {
+      return constructor.get().invokeExact(parameterValues);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Optional<MethodHandle> lookUpConstructor(String className, Class<?>[] parameterTypes) throws Exception {
+    Optional<MethodHandle> constructor;
+    try {
+      MethodHandle constructorHandle = MethodHandles.publicLookup()
+                                                    .unreflectConstructor(Class.forName(className).getConstructor(parameterTypes));
+      // adapt the constructor to take its parameters as an array and return an Object
+      constructor = Optional.of(constructorHandle.asSpreader(Object[].class, parameterTypes.length)
+                                                 .asType(MethodType.methodType(Object.class, Object[].class)));
+    } catch (ClassNotFoundException e) {
+      constructor = Optional.empty();
+    }
+    CONSTRUCTORS.put(new ConstructorKey(className, List.of(parameterTypes)), constructor);
+    return constructor;
   }
+
+  private record ConstructorKey(String className, List<Class<?>> parameterTypes) {
+  }
+
 }
@@ -16,6 +16,7 @@
 package org.assertj.core.error;
 
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.internal.RepresentationMemo.representingElementsOnce;
 import static org.assertj.core.util.Strings.formatIfArgs;
 
 import org.assertj.core.description.Description;
@@ -60,10 +61,25 @@ public class MessageFormatter {
   public String format(Description d, Representation p, String format, Object... args) {
     requireNonNull(format);
     requireNonNull(args);
-    return descriptionFormatter.format(d) + formatIfArgs(format, format(p, args));
+    return descriptionFormatter.format(d) + formatIfArgs(format, (Object[]) represent(p, args));
   }
 
-  private Object[] format(Representation p, Object[] args) {
+  /**
+   * Formats the message like {@link #format(Description, Representation, String, Object...)} with arguments already
+   * represented by {@link #represent(Representation, Object[])}.
+   */
+  String format(Description d, String format, String[] argsRepresentations) {
+    requireNonNull(format);
+    return descriptionFormatter.format(d) + formatIfArgs(format, (Object[]) argsRepresentations);
+  }
+
+  String[] represent(Representation p, Object[] args) {
+    requireNonNull(args);
+    // the same elements are often found in several arguments, e.g. the actual elements and the unexpected ones
+    return representingElementsOnce(() -> format(p, args));
+  }
+
+  private String[] format(Representation p, Object[] args) {
     int argCount = args.length;
     String[] formatted = new String[argCount];
     for (int i = 0; i < argCount; i++) {
@@ -76,10 +92,19 @@ public class MessageFormatter {
     if (o instanceof AbstractComparisonStrategy strategy) {
       return strategy.asText();
     }
+    if (o instanceof Represented represented) {
+      return represented.representation();
+    }
     if (o instanceof IndentWrapper indentWrapper) {
       String text = p.toStringOf(indentWrapper.value());
       return IndentWrapper.indentAllLines(text);
     }
     return p.toStringOf(o);
   }
+
+  /**
+   * A value whose representation was already built by the error message factory, it is formatted as is.
+   */
+  record Represented(String representation) {
+  }
 }
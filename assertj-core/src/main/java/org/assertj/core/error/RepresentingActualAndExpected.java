@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.error;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * An error message factory whose messages represent the actual and expected values of the failed assertion, the
+ * {@link AssertionErrorCreator} reuses these representations to describe the values of the assertion error rather than
+ * representing them again.
+ */
+interface RepresentingActualAndExpected extends ErrorMessageFactory {
+
+  /**
+   * @param representation the representation the assertion error values are described with.
+   * @return the representation of the actual value built by the last created message with the given representation,
+   *         {@code null} if there is none.
+   */
+  String actualRepresentation(Representation representation);
+
+  /**
+   * @param representation the representation the assertion error values are described with.
+   * @return the representation of the expected value built by the last created message with the given representation,
+   *         {@code null} if there is none.
+   */
+  String expectedRepresentation(Representation representation);
+}
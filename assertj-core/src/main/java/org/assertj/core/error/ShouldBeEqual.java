@@ -17,6 +17,7 @@ package org.assertj.core.error;
 
 import static java.lang.System.lineSeparator;
 import static java.util.Objects.deepEquals;
+import static org.assertj.core.internal.RepresentationMemo.representingElementsOnce;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Objects.HASH_CODE_PRIME;
 import static org.assertj.core.util.Objects.hashCodeFor;
@@ -28,6 +29,7 @@ import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
 import org.assertj.core.description.Description;
+import org.assertj.core.error.MessageFormatter.Represented;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.Representation;
 
@@ -56,6 +58,10 @@ public class ShouldBeEqual {
   protected final ComparisonStrategy comparisonStrategy;
   private final Representation representation;
   private ConstructorInvoker constructorInvoker = new ConstructorInvoker();
+  // actual and expected representations can be expensive to build, they are built once per representation used
+  private Representation representedWith;
+  private String actualRepresentation;
+  private String expectedRepresentation;
 
   /**
    * Creates a new <code>{@link ShouldBeEqual}</code>.
@@ -127,7 +133,18 @@ public class ShouldBeEqual {
   }
 
   protected boolean actualAndExpectedHaveSameStringRepresentation() {
-    return Objects.equals(representation.toStringOf(actual), representation.toStringOf(expected));
+    represent(representation);
+    return Objects.equals(actualRepresentation, expectedRepresentation);
+  }
+
+  private void represent(Representation representation) {
+    if (representedWith != null && representedWith == representation) return;
+    representingElementsOnce(() -> {
+      actualRepresentation = representation.toStringOf(actual);
+      expectedRepresentation = representation.toStringOf(expected);
+      return null;
+    });
+    representedWith = representation;
   }
 
   /**
@@ -149,16 +166,17 @@ public class ShouldBeEqual {
       // this is even more confusing as we lost the fact that 42 was a float or a double.
       return defaultDetailedErrorMessage(description, representation);
     }
-    String actualRepresentation = representation.toStringOf(actual);
-    String expectedRepresentation = representation.toStringOf(expected);
+    represent(representation);
     if (hasMultilineValue(actualRepresentation, expectedRepresentation)) {
       return errorMessageForMultilineValues(description, actualRepresentation, expectedRepresentation);
     }
-
+    // reuse the already built representations rather than letting the message formatter build them again
+    Represented representedExpected = new Represented(expectedRepresentation);
+    Represented representedActual = new Represented(actualRepresentation);
     return comparisonStrategy.isStandard()
-        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, expected, actual)
+        ? messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE, representedExpected, representedActual)
         : messageFormatter.format(description, representation, EXPECTED_BUT_WAS_MESSAGE_USING_COMPARATOR,
-                                  expected, actual, comparisonStrategy);
+                                  representedExpected, representedActual, comparisonStrategy);
   }
 
   private String errorMessageForMultilineValues(Description description,
@@ -210,13 +228,14 @@ public class ShouldBeEqual {
 
   private AssertionError assertionFailedError(String message, Representation representation) {
     try {
+      represent(representation);
       Object o = constructorInvoker.newInstance("org.opentest4j.AssertionFailedError",
                                                 MSG_ARG_TYPES_FOR_ASSERTION_FAILED_ERROR,
                                                 message,
-                                                representation.toStringOf(expected),
-                                                representation.toStringOf(actual));
+                                                expectedRepresentation,
+                                                actualRepresentation);
       if (o instanceof AssertionError assertionError) {
-        Failures.instance().removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+        Failures.instance().removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
         return assertionError;
       }
       return null;
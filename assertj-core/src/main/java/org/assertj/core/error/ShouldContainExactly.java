@@ -21,8 +21,10 @@ import static org.assertj.core.util.Strings.escapePercent;
 import java.util.List;
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
+import org.assertj.core.description.Description;
 import org.assertj.core.internal.IndexedDiff;
 import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.presentation.Representation;
 
 /**
  * Creates an error message indicating that an assertion that verifies a group of elements contains exactly a given set
@@ -32,7 +34,10 @@ import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
  * @author Joel Costigliola
  * @author Yanming Zhou
  */
-public class ShouldContainExactly extends BasicErrorMessageFactory {
+public class ShouldContainExactly extends BasicErrorMessageFactory implements RepresentingActualAndExpected {
+
+  // false when the message arguments are the elements differing at an index rather than actual and expected
+  private final boolean representsActualAndExpected;
 
   /**
    * Creates a new <code>{@link ShouldContainExactly}</code>.
@@ -108,6 +113,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "to contain exactly (and in same order):%n" +
           "  %s%n",
           actual, expected, comparisonStrategy);
+    representsActualAndExpected = true;
   }
 
   private ShouldContainExactly(Object actual, Object expected, Object notFound, Object notExpected,
@@ -122,6 +128,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "and others were not expected:%n" +
           "  %s%n%s",
           actual, expected, notFound, notExpected, comparisonStrategy);
+    representsActualAndExpected = true;
   }
 
   private ShouldContainExactly(Object actual, Object expected, Object notFound, ComparisonStrategy comparisonStrategy) {
@@ -133,6 +140,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "but could not find the following elements:%n" +
           "  %s%n%s",
           actual, expected, notFound, comparisonStrategy);
+    representsActualAndExpected = true;
   }
 
   private ShouldContainExactly(Object actual, Object expected, ComparisonStrategy comparisonStrategy,
@@ -145,6 +153,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "but some elements were not expected:%n" +
           "  %s%n%s",
           actual, expected, unexpected, comparisonStrategy);
+    representsActualAndExpected = true;
   }
 
   private ShouldContainExactly(Object actual, Object expected, List<IndexedDiff> indexDiffs,
@@ -155,6 +164,7 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "to contain exactly (and in same order):%n" +
           "  %s%n" +
           formatIndexDifferences(indexDiffs), actual, expected, comparisonStrategy);
+    representsActualAndExpected = true;
   }
 
   private static String formatIndexDifferences(List<IndexedDiff> indexedDiffs) {
@@ -211,6 +221,24 @@ public class ShouldContainExactly extends BasicErrorMessageFactory {
           "whereas expected element was:%n" +
           "  %s%n%s",
           indexOfDifferentElements, actualElement, expectedElement, comparisonStrategy);
+    representsActualAndExpected = false;
+  }
+
+  @Override
+  public String create(Description description, Representation representation) {
+    return representsActualAndExpected
+        ? createKeepingArgumentsRepresentations(description, representation)
+        : super.create(description, representation);
+  }
+
+  @Override
+  public String actualRepresentation(Representation representation) {
+    return representsActualAndExpected ? argumentRepresentation(0, representation) : null;
+  }
+
+  @Override
+  public String expectedRepresentation(Representation representation) {
+    return representsActualAndExpected ? argumentRepresentation(1, representation) : null;
   }
 
 }
@@ -58,18 +58,23 @@ public class ShouldHaveBinaryContent extends BasicErrorMessageFactory {
     return new ShouldHaveBinaryContent(actual, diff);
   }
 
+  // offsets are longs to support large contents but should be displayed without the long suffix
+  private static CharSequence offsetOf(BinaryDiffResult diff) {
+    return unquotedString(String.valueOf(diff.offset));
+  }
+
   private ShouldHaveBinaryContent(File actual, BinaryDiffResult diff) {
     super("%nFile:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(Path actual, BinaryDiffResult diff) {
     super("%nPath:%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 
   private ShouldHaveBinaryContent(InputStream actual, BinaryDiffResult diff) {
     super("%nInputStream%n  %s%ndoes not have expected binary content at offset %s, expecting:%n  %s%nbut was:%n  %s",
-          actual, diff.offset, diff.expected, diff.actual);
+          actual, offsetOf(diff), diff.expected, diff.actual);
   }
 }
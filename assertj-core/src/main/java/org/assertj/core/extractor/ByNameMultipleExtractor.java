@@ -15,11 +15,8 @@
  */
 package org.assertj.core.extractor;
 
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.function.Function;
 
 import org.assertj.core.groups.Tuple;
@@ -27,9 +24,11 @@ import org.assertj.core.groups.Tuple;
 class ByNameMultipleExtractor implements Function<Object, Tuple> {
 
   private final String[] fieldsOrProperties;
+  private final ByNameSingleExtractor[] extractors;
 
   ByNameMultipleExtractor(String... fieldsOrProperties) {
     this.fieldsOrProperties = fieldsOrProperties;
+    this.extractors = fieldsOrProperties == null ? null : buildExtractors(fieldsOrProperties);
   }
 
   @Override
@@ -38,18 +37,19 @@ class ByNameMultipleExtractor implements Function<Object, Tuple> {
     checkArgument(fieldsOrProperties.length > 0, "The names of the fields/properties to read should not be empty");
     checkArgument(input != null, "The object to extract fields/properties from should not be null");
 
-    List<Function<Object, Object>> extractors = buildExtractors();
-    List<Object> values = extractValues(input, extractors);
-
-    return new Tuple(values.toArray());
-  }
-
-  private List<Function<Object, Object>> buildExtractors() {
-    return Arrays.stream(fieldsOrProperties).map(ByNameSingleExtractor::new).collect(toList());
+    Object[] values = new Object[extractors.length];
+    for (int i = 0; i < extractors.length; i++) {
+      values[i] = extractors[i].apply(input);
+    }
+    return new Tuple(values);
   }
 
-  private List<Object> extractValues(Object input, List<Function<Object, Object>> singleExtractors) {
-    return singleExtractors.stream().map(extractor -> extractor.apply(input)).collect(toList());
+  private static ByNameSingleExtractor[] buildExtractors(String[] fieldsOrProperties) {
+    ByNameSingleExtractor[] extractors = new ByNameSingleExtractor[fieldsOrProperties.length];
+    for (int i = 0; i < fieldsOrProperties.length; i++) {
+      extractors[i] = new ByNameSingleExtractor(fieldsOrProperties[i]);
+    }
+    return extractors;
   }
 
 }
@@ -21,15 +21,15 @@ import org.assertj.core.util.introspection.PropertyOrFieldSupport;
 
 class ByNameSingleExtractor implements Function<Object, Object> {
 
-  private final String propertyOrFieldName;
+  private final Function<Object, Object> propertyOrField;
 
   ByNameSingleExtractor(String propertyOrFieldName) {
-    this.propertyOrFieldName = propertyOrFieldName;
+    this.propertyOrField = PropertyOrFieldSupport.EXTRACTION.compilePath(propertyOrFieldName);
   }
 
   @Override
   public Object apply(Object input) {
-    return PropertyOrFieldSupport.EXTRACTION.getValueOf(propertyOrFieldName, input);
+    return propertyOrField.apply(input);
   }
 
 }
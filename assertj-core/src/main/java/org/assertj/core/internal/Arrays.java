@@ -73,6 +73,13 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.PrimitiveArrays.duplicatesOf;
+import static org.assertj.core.internal.PrimitiveArrays.elementsNotIn;
+import static org.assertj.core.internal.PrimitiveArrays.haveSamePrimitiveType;
+import static org.assertj.core.internal.PrimitiveArrays.indexOfFirstUnsortedElement;
+import static org.assertj.core.internal.PrimitiveArrays.isPrimitiveArray;
+import static org.assertj.core.internal.PrimitiveArrays.valuesFoundIn;
+import static org.assertj.core.internal.PrimitiveArrays.valuesNotFoundIn;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayEmpty;
@@ -90,6 +97,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -205,10 +213,14 @@ public class Arrays {
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (canCompareByValue(actual, values)) {
+      notFound.addAll(valuesNotFoundIn(values, actual));
+    } else {
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -251,13 +263,19 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (canCompareByValue(actual, values)) {
+      notExpected = elementsNotIn(actual, values);
+      notFound = valuesNotFoundIn(values, actual);
+    } else {
+      notExpected = asList(actual);
+      notFound = asList(values);
+      for (Object value : asList(values)) {
+        if (iterableContains(notExpected, value)) {
+          iterableRemoves(notExpected, value);
+          iterableRemoves(notFound, value);
+        }
       }
     }
 
@@ -305,6 +323,18 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canCompareByValue(actual, values)) {
+      PrimitiveArrays.Diff diff = PrimitiveArrays.diff(actual, values);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing(), diff.unexpected(),
+                                                                  comparisonStrategy));
+    }
+    if (comparisonStrategy.isHashConsistent()) {
+      IterableDiff<Object> diff = diff(asList(actual), asList(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                  comparisonStrategy));
+    }
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -352,41 +382,23 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
+    if (sequenceMatcher(sequence).indexIn(wrap(actual).iterator()) >= 0) return;
     throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
+    int actualIndex = sequenceMatcher(sequence).indexIn(wrap(actual).iterator());
+    if (actualIndex >= 0) {
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
     }
   }
 
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex))) continue;
-      return false;
-    }
-    return true;
+  private SequenceMatcher sequenceMatcher(Object sequence) {
+    // sequence elements are compared to actual elements, elements equality is expected to be transitive with the standard
+    // comparison strategy only
+    BiPredicate<Object, Object> areEqual = (actualElement, sequenceElement) -> areEqual(sequenceElement, actualElement);
+    return new SequenceMatcher(wrap(sequence).toArray(), areEqual, comparisonStrategy == StandardComparisonStrategy.instance());
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -466,10 +478,14 @@ public class Arrays {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
-    int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (canCompareByValue(array, values)) {
+      found.addAll(valuesFoundIn(values, array));
+    } else {
+      int valuesSize = sizeOf(values);
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
@@ -478,10 +494,16 @@ public class Arrays {
     return comparisonStrategy.arrayContains(array, value);
   }
 
+  // primitive elements are equal if their boxed values are, they can be compared without boxing them
+  private boolean canCompareByValue(Object array, Object values) {
+    return comparisonStrategy.isHashConsistent() && haveSamePrimitiveType(array, values);
+  }
+
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
-    ArrayWrapperList wrapped = wrap(array);
-    Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
+    Iterable<?> duplicates = canCompareByValue(array, array)
+        ? duplicatesOf(array)
+        : comparisonStrategy.duplicatesFrom(wrap(array));
     if (!isNullOrEmpty(duplicates))
       throw failures.failure(info, shouldNotHaveDuplicates(array, duplicates, comparisonStrategy));
   }
@@ -683,6 +705,11 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (isPrimitiveArray(array)) {
+      int unsortedElementIndex = indexOfFirstUnsortedElement(array);
+      if (unsortedElementIndex >= 0) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
@@ -15,31 +15,56 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
+import static java.nio.file.StandardOpenOption.READ;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 /**
  * Compares the binary content of two inputStreams/paths.
- * 
+ * <p>
+ * Contents are read chunk by chunk and compared with {@link java.util.Arrays#mismatch(byte[], int, int, byte[], int, int)}
+ * which compares several bytes at a time, paths are read through {@link FileChannel}s.
+ * <p>
+ * Input streams not supporting {@link InputStream#mark(int)} are read byte by byte to leave them right after the first
+ * difference since they can't be reset, the other ones are read chunk by chunk.
+ *
  * @author Olivier Michallat
  */
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
-      return diff(actualStream, expected);
+    try (FileChannel actualChannel = FileChannel.open(actual, READ)) {
+      return diff(chunksOf(actualChannel), chunksOf(new ByteArrayInputStream(expected)),
+                  bufferSize(Files.size(actual), expected.length));
+    }
+  }
+
+  // TODO reduce the visibility of the fields annotated with @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      return diff(chunksOf(actualChannel), chunksOf(expectedChannel), bufferSize(Files.size(actual), Files.size(expected)));
     }
   }
 
@@ -50,13 +75,72 @@ public class BinaryDiff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    if (!actualStream.markSupported() || !expectedStream.markSupported())
+      return diff(byteByByte(actualStream), byteByByte(expectedStream), 1);
+    return diff(chunksOf(actualStream), chunksOf(expectedStream), BUFFER_SIZE);
+  }
+
+  private static BinaryDiffResult diff(Chunks actual, Chunks expected, int bufferSize) throws IOException {
+    byte[] actualChunk = new byte[bufferSize];
+    byte[] expectedChunk = new byte[bufferSize];
+    long offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualLength = actual.read(actualChunk);
+      int expectedLength = expected.read(expectedChunk);
+      int mismatch = java.util.Arrays.mismatch(actualChunk, 0, actualLength, expectedChunk, 0, expectedLength);
+      if (mismatch >= 0) {
+        // a chunk shorter than the other one means its content reached its end
+        return new BinaryDiffResult(offset + mismatch, byteAt(expectedChunk, expectedLength, mismatch),
+                                    byteAt(actualChunk, actualLength, mismatch));
+      }
+      if (actualLength == 0) return BinaryDiffResult.noDiff(); // reached end of both contents
+      offset += actualLength;
     }
   }
+
+  private static int byteAt(byte[] chunk, int length, int index) {
+    return index < length ? Byte.toUnsignedInt(chunk[index]) : -1;
+  }
+
+  // the sizes are hints, the contents are read until their end whatever their size
+  private static int bufferSize(long actualSize, long expectedSize) {
+    return (int) Math.max(1, Math.min(BUFFER_SIZE, Math.max(actualSize, expectedSize)));
+  }
+
+  private static Chunks chunksOf(InputStream stream) {
+    return chunk -> {
+      int length = 0;
+      for (int read; length < chunk.length && (read = stream.read(chunk, length, chunk.length - length)) != -1;) {
+        length += read;
+      }
+      return length;
+    };
+  }
+
+  private static Chunks byteByByte(InputStream stream) {
+    return chunk -> {
+      int read = stream.read();
+      if (read == -1) return 0;
+      chunk[0] = (byte) read;
+      return 1;
+    };
+  }
+
+  private static Chunks chunksOf(FileChannel channel) {
+    return chunk -> {
+      ByteBuffer buffer = ByteBuffer.wrap(chunk);
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // keep reading until the chunk is full or the end of the channel is reached
+      }
+      return buffer.position();
+    };
+  }
+
+  /**
+   * Reads a content chunk by chunk, a chunk is only partially filled when the end of the content is reached.
+   */
+  @FunctionalInterface
+  private interface Chunks {
+    int read(byte[] chunk) throws IOException;
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fields declared by a class, looked up once per class and shared by the introspection utilities since
+ * {@link Class#getDeclaredFields()} copies the fields on each call.
+ * <p>
+ * The shared {@link Field} instances must not be made accessible, users needing an accessible field have to get their own
+ * copy with {@link Class#getDeclaredField(String)}.
+ *
+ * @since 4.0.0
+ */
+public final class DeclaredFields {
+
+  private static final ClassValue<DeclaredFields> DECLARED_FIELDS = new ClassValue<>() {
+    @Override
+    protected DeclaredFields computeValue(Class<?> type) {
+      return new DeclaredFields(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final Field[] declaredFields;
+  private final Map<String, Field> fieldsByName;
+  // non static and non synthetic fields declared by the class and its superclasses, computed on demand
+  private volatile List<Field> fieldsIncludingInherited;
+
+  private DeclaredFields(Class<?> type) {
+    this.type = type;
+    declaredFields = type.getDeclaredFields();
+    fieldsByName = new HashMap<>(declaredFields.length * 2);
+    for (Field field : declaredFields) {
+      fieldsByName.put(field.getName(), field);
+    }
+  }
+
+  /**
+   * Returns the fields declared by the given class.
+   *
+   * @param type the class to get the declared fields of.
+   * @return the fields declared by the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static DeclaredFields of(Class<?> type) {
+    requireNonNull(type, "expecting Class parameter not to be null");
+    return DECLARED_FIELDS.get(type);
+  }
+
+  /**
+   * Returns the field with the given name declared by the class itself, fields of its superclasses are not considered.
+   *
+   * @param fieldName the name of the field.
+   * @return the field with the given name or {@code null} if the class does not declare such a field.
+   */
+  public Field named(String fieldName) {
+    return fieldsByName.get(fieldName);
+  }
+
+  /**
+   * Returns the non static and non synthetic fields declared by the class and its superclasses up to the first one in
+   * the {@code java.lang} package, the class fields come first, each in declaration order.
+   *
+   * @return an unmodifiable list of the fields declared by the class and its superclasses.
+   */
+  public List<Field> includingInherited() {
+    List<Field> fields = fieldsIncludingInherited;
+    if (fields == null) {
+      fields = new ArrayList<>();
+      for (Field field : declaredFields) {
+        if (!(field.isSynthetic() || Modifier.isStatic(field.getModifiers()))) fields.add(field);
+      }
+      Class<?> superclass = type.getSuperclass();
+      if (!isInJavaLangPackage(superclass)) fields.addAll(of(superclass).includingInherited());
+      fields = unmodifiableList(fields);
+      fieldsIncludingInherited = fields;
+    }
+    return fields;
+  }
+
+}
@@ -15,7 +15,6 @@
  */
 package org.assertj.core.internal;
 
-import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
 import static org.assertj.core.internal.Objects.propertyOrFieldValuesAreEqual;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Sets.newHashSet;
@@ -42,6 +41,7 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
+
 /**
  * Tests two objects for differences by doing a 'deep' comparison.
  *
@@ -313,8 +313,8 @@ public class DeepDifference {
         continue;
       }
 
-      Set<String> key1FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key1.getClass()));
-      Set<String> key2FieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(key2.getClass()));
+      Set<String> key1FieldsNames = getFieldsNames(DeclaredFields.of(key1.getClass()).includingInherited());
+      Set<String> key2FieldsNames = getFieldsNames(DeclaredFields.of(key2.getClass()).includingInherited());
       if (!key2FieldsNames.containsAll(key1FieldsNames)) {
         Set<String> key1FieldsNamesNotInKey2 = newHashSet(key1FieldsNames);
         key1FieldsNamesNotInKey2.removeAll(key2FieldsNames);
@@ -360,9 +360,9 @@ public class DeepDifference {
     if (a != null && b != null && !isContainerType(a) && !isContainerType(b)
         && (isRootObject || !hasCustomComparator(basicDualKey, comparatorByPropertyOrField, comparatorByType))) {
       // disregard the equals method and start comparing fields
-      Set<String> aFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(a.getClass()));
+      Set<String> aFieldsNames = getFieldsNames(DeclaredFields.of(a.getClass()).includingInherited());
       if (!aFieldsNames.isEmpty()) {
-        Set<String> bFieldsNames = getFieldsNames(getDeclaredFieldsIncludingInherited(b.getClass()));
+        Set<String> bFieldsNames = getFieldsNames(DeclaredFields.of(b.getClass()).includingInherited());
         if (!bFieldsNames.containsAll(aFieldsNames)) {
           stack.addFirst(basicDualKey);
         } else {
@@ -714,7 +714,7 @@ public class DeepDifference {
         continue;
       }
 
-      Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
+      Collection<Field> fields = DeclaredFields.of(obj.getClass()).includingInherited();
       for (Field field : fields) {
         stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
       }
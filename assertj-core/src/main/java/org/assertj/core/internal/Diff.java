@@ -16,10 +16,12 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
-import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,13 +31,25 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * The contents are read line by line, their common first lines are skipped without being kept in memory so that equal
+ * contents are compared in constant memory. Files, paths and strings are then read again to find their common last lines
+ * the same way, only the lines between the common first and last ones are kept and diffed. Input streams can't be read
+ * twice, their lines following the common first ones are kept to find the common last ones.
+ * <p>
+ * The number of reported deltas can be limited, the diff then stops looking for differences once it has found them.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -48,14 +62,31 @@ import org.assertj.core.util.diff.Patch;
 // TODO reduce the visibility of the fields annotated with @VisibleForTesting
 public class Diff {
 
+  private final int maxDeltas;
+
+  public Diff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a {@link Diff} reporting at most the given number of deltas, the differences following them are not looked for.
+   *
+   * @param maxDeltas the maximum number of deltas reported.
+   * @throws IllegalArgumentException if {@code maxDeltas} is not greater than 0.
+   */
+  public Diff(int maxDeltas) {
+    checkArgument(maxDeltas > 0, "maxDeltas must be greater than 0 but was %s", maxDeltas);
+    this.maxDeltas = maxDeltas;
+  }
+
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    return diff(new Readers(readerFor(actual), readerFor(expected)));
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, String expected) throws IOException {
-    return diff(readerFor(actual), readerFor(expected));
+    return diff(new Readers(readerFor(actual), readerFor(expected)));
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -65,7 +96,7 @@ public class Diff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(Path actual, Charset actualCharset, Path expected, Charset expectedCharset) throws IOException {
-    return diff(newBufferedReader(actual, actualCharset), newBufferedReader(expected, expectedCharset));
+    return diff(() -> newBufferedReader(actual, actualCharset), () -> newBufferedReader(expected, expectedCharset));
   }
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
@@ -75,7 +106,7 @@ public class Diff {
 
   // TODO reduce the visibility of the fields annotated with @VisibleForTesting
   public List<Delta<String>> diff(Path actual, String expected, Charset charset) throws IOException {
-    return diff(newBufferedReader(actual, charset), readerFor(expected));
+    return diff(() -> newBufferedReader(actual, charset), () -> readerFor(expected));
   }
 
   private BufferedReader readerFor(InputStream stream) {
@@ -86,24 +117,165 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
-  private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
-    try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+  private List<Delta<String>> diff(Readers readers) throws IOException {
+    try (readers) {
+      int commonPrefixSize = readers.skipCommonLines();
+      if (readers.ended()) return emptyList();
+      List<String> actualLines = linesFromBufferedReader(readers.actualLine, readers.actual);
+      List<String> expectedLines = linesFromBufferedReader(readers.expectedLine, readers.expected);
+      int commonSuffixSize = commonSuffixSize(actualLines, expectedLines);
+      return deltas(actualLines.subList(0, actualLines.size() - commonSuffixSize),
+                    expectedLines.subList(0, expectedLines.size() - commonSuffixSize),
+                    commonPrefixSize);
+    }
+  }
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
-    } finally {
-      closeQuietly(actual, expected);
+  private List<Delta<String>> diff(Content actual, Content expected) throws IOException {
+    // skips the common first lines and counts the following ones
+    int commonPrefixSize;
+    int actualSize;
+    int expectedSize;
+    try (Readers readers = Readers.of(actual, expected)) {
+      commonPrefixSize = readers.skipCommonLines();
+      if (readers.ended()) return emptyList();
+      actualSize = countLines(readers.actualLine, readers.actual);
+      expectedSize = countLines(readers.expectedLine, readers.expected);
+    }
+    // reads the lines following the common first ones aligned on the end of the contents, the common last lines are
+    // the last equal ones
+    int maxCommonSuffixSize = Math.min(actualSize, expectedSize);
+    int commonSuffixSize = 0;
+    if (maxCommonSuffixSize > 0) {
+      try (Readers readers = Readers.of(actual, expected)) {
+        skipLines(readers.actual, commonPrefixSize + actualSize - maxCommonSuffixSize);
+        skipLines(readers.expected, commonPrefixSize + expectedSize - maxCommonSuffixSize);
+        for (int i = 0; i < maxCommonSuffixSize; i++) {
+          boolean equalLines = Objects.equals(readers.actual.readLine(), readers.expected.readLine());
+          commonSuffixSize = equalLines ? commonSuffixSize + 1 : 0;
+        }
+      }
     }
+    // only keeps the lines between the common first and last ones
+    try (Readers readers = Readers.of(actual, expected)) {
+      skipLines(readers.actual, commonPrefixSize);
+      skipLines(readers.expected, commonPrefixSize);
+      return deltas(readLines(readers.actual, actualSize - commonSuffixSize),
+                    readLines(readers.expected, expectedSize - commonSuffixSize),
+                    commonPrefixSize);
+    }
+  }
+
+  private List<Delta<String>> deltas(List<String> actualLines, List<String> expectedLines, int linesOffset) {
+    Patch<String> patch = maxDeltas == Integer.MAX_VALUE
+        ? DiffUtils.diff(expectedLines, actualLines)
+        : DiffUtils.diff(expectedLines, actualLines, maxDeltas);
+    return patch.getDeltas().stream()
+                .map(delta -> shift(delta, linesOffset))
+                .toList();
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    for (String line = firstLine; line != null; line = reader.readLine()) {
       lines.add(line);
     }
     return lines;
   }
+
+  private static int countLines(String firstLine, BufferedReader reader) throws IOException {
+    int lines = 0;
+    for (String line = firstLine; line != null; line = reader.readLine()) {
+      lines++;
+    }
+    return lines;
+  }
+
+  private static void skipLines(BufferedReader reader, int lines) throws IOException {
+    for (int i = 0; i < lines; i++) {
+      reader.readLine();
+    }
+  }
+
+  private static List<String> readLines(BufferedReader reader, int lines) throws IOException {
+    List<String> readLines = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      readLines.add(reader.readLine());
+    }
+    return readLines;
+  }
+
+  private static int commonSuffixSize(List<String> actualLines, List<String> expectedLines) {
+    int commonSuffixSize = 0;
+    int maxCommonSuffixSize = Math.min(actualLines.size(), expectedLines.size());
+    while (commonSuffixSize < maxCommonSuffixSize
+           && actualLines.get(actualLines.size() - 1 - commonSuffixSize)
+                         .equals(expectedLines.get(expectedLines.size() - 1 - commonSuffixSize))) {
+      commonSuffixSize++;
+    }
+    return commonSuffixSize;
+  }
+
+  // deltas positions are relative to the diffed lines, they must take into account the skipped common first lines
+  private static Delta<String> shift(Delta<String> delta, int linesOffset) {
+    if (linesOffset == 0) return delta;
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + linesOffset, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + linesOffset, delta.getRevised().getLines());
+    return switch (delta.getType()) {
+      case CHANGE -> new ChangeDelta<>(original, revised);
+      case DELETE -> new DeleteDelta<>(original, revised);
+      case INSERT -> new InsertDelta<>(original, revised);
+    };
+  }
+
+  // a content which can be read several times
+  @FunctionalInterface
+  private interface Content {
+    BufferedReader read() throws IOException;
+  }
+
+  // the readers of the compared contents with the last lines they read
+  private static final class Readers implements Closeable {
+
+    private final BufferedReader actual;
+    private final BufferedReader expected;
+    private String actualLine;
+    private String expectedLine;
+
+    private Readers(BufferedReader actual, BufferedReader expected) {
+      this.actual = actual;
+      this.expected = expected;
+    }
+
+    private static Readers of(Content actual, Content expected) throws IOException {
+      BufferedReader actualReader = actual.read();
+      try {
+        return new Readers(actualReader, expected.read());
+      } catch (IOException | RuntimeException e) {
+        closeQuietly(actualReader);
+        throw e;
+      }
+    }
+
+    // reads the lines until the first differing ones and returns the number of common lines
+    private int skipCommonLines() throws IOException {
+      int commonLines = 0;
+      actualLine = actual.readLine();
+      expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLines++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      return commonLines;
+    }
+
+    private boolean ended() {
+      return actualLine == null && expectedLine == null;
+    }
+
+    @Override
+    public void close() {
+      closeQuietly(actual, expected);
+    }
+  }
 }
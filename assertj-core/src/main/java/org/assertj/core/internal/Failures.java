@@ -110,16 +110,16 @@ public class Failures {
     if (error != null) return error;
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
   }
 
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory, Object actual, Object expected) {
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
-    AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage, actual, expected,
-                                                                         info.representation());
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage, messageFactory, actual,
+                                                                         expected, info.representation());
+    removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
   }
@@ -149,7 +149,7 @@ public class Failures {
    */
   public AssertionError failure(String message) {
     AssertionError assertionError = assertionErrorCreator.assertionError(message);
-    removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
+    removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
   }
@@ -204,6 +204,20 @@ public class Failures {
     }
   }
 
+  /**
+   * Same as {@link #removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError)} for an {@link AssertionError}
+   * just created by AssertJ in the current thread, the filtered stack trace is built by walking the current thread
+   * frames which avoids creating a {@link StackTraceElement} for each frame of the error stack trace.
+   *
+   * @param assertionError the {@code AssertionError} created in the current thread to filter stack trace if option is set.
+   * @since 4.0.0
+   */
+  public void removeAssertJRelatedElementsFromCurrentStackTraceIfNeeded(AssertionError assertionError) {
+    if (removeAssertJRelatedElementsFromStackTrace) {
+      Throwables.removeAssertJRelatedElementsFromCurrentStackTrace(assertionError);
+    }
+  }
+
   /**
    * Set the flag indicating that in case of a failure a threaddump is printed out.
    */
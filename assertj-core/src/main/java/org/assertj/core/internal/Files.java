@@ -15,7 +15,6 @@
  */
 package org.assertj.core.internal;
 
-import static java.nio.file.Files.readAllBytes;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -132,7 +131,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -162,7 +161,7 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_FILE_CONTENTS.formatted(actual, expected), ioe);
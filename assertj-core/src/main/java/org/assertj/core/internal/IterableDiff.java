@@ -22,7 +22,10 @@ import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 // immutable
 /**
@@ -30,6 +33,31 @@ import java.util.List;
  */
 class IterableDiff<T> {
 
+  // elements whose hash code may be inconsistent with equals break the hash based diff, these are:
+  // - classes overriding equals but not hashCode
+  // - containers, arrays and records as their hash code is computed from their elements which could be of the former kind
+  private static final ClassValue<Boolean> HASH_CODE_MAY_BE_INCONSISTENT_WITH_EQUALS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (type.isArray() || type.isRecord() || isContainer(type)) return true;
+      try {
+        boolean overridesEquals = type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        boolean overridesHashCode = type.getMethod("hashCode").getDeclaringClass() != Object.class;
+        return overridesEquals && !overridesHashCode;
+      } catch (NoSuchMethodException e) {
+        // can't happen as every class has these methods
+        return true;
+      }
+    }
+
+    private boolean isContainer(Class<?> type) {
+      return Iterable.class.isAssignableFrom(type)
+             || Map.class.isAssignableFrom(type)
+             || Map.Entry.class.isAssignableFrom(type)
+             || Optional.class == type;
+    }
+  };
+
   private final ComparisonStrategy comparisonStrategy;
 
   List<T> unexpected;
@@ -37,6 +65,10 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (comparisonStrategy.isHashConsistent()) {
+      hashBasedDiff(actual, expected);
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
@@ -101,6 +133,101 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  /**
+   * Computes unexpected and missing elements in O(N+M) by counting the occurrences of each expected element, the result is
+   * the same as the one computed by {@link #unexpectedActualElements(Iterable, Iterable)} and
+   * {@link #missingActualElements(Iterable, Iterable)}, elements being reported in their original order.
+   * <p>
+   * Elements whose class overrides {@code equals} but not {@code hashCode} can be equal while having different hash codes,
+   * so can containers, arrays or records holding such elements. If some of these are left unmatched, all unmatched elements
+   * get a second chance with the element by element comparison.
+   *
+   * @param actual the actual elements
+   * @param expected the expected elements
+   */
+  private void hashBasedDiff(Iterable<T> actual, Iterable<T> expected) {
+    Map<HashedElement, Occurrences> occurrencesByExpectedElement = new HashMap<>();
+    List<T> expectedElements = new ArrayList<>();
+    List<Occurrences> expectedElementsOccurrences = new ArrayList<>();
+    for (T expectedElement : expected) {
+      Occurrences occurrences = occurrencesByExpectedElement.computeIfAbsent(new HashedElement(expectedElement),
+                                                                             key -> new Occurrences());
+      occurrences.unmatched++;
+      expectedElements.add(expectedElement);
+      expectedElementsOccurrences.add(occurrences);
+    }
+    // elements in actual that are not in expected: actual - expected
+    List<T> unexpectedElements = new ArrayList<>();
+    for (T actualElement : actual) {
+      // the actual element must be the one looking up expected elements as equality might not be symmetrical
+      Occurrences occurrences = occurrencesByExpectedElement.get(new HashedElement(actualElement));
+      if (occurrences != null && occurrences.unmatched > 0) {
+        occurrences.unmatched--;
+        occurrences.matched++;
+      } else {
+        unexpectedElements.add(actualElement);
+      }
+    }
+    // elements in expected that are not in actual: expected - actual, the first occurrences are the matched ones
+    List<T> missingElements = new ArrayList<>();
+    for (int i = 0; i < expectedElements.size(); i++) {
+      Occurrences occurrences = expectedElementsOccurrences.get(i);
+      if (occurrences.matched > 0) occurrences.matched--;
+      else missingElements.add(expectedElements.get(i));
+    }
+    if (mayHaveUnmatchedEqualElements(unexpectedElements, missingElements)) {
+      this.unexpected = unexpectedActualElements(unexpectedElements, missingElements);
+      this.missing = missingActualElements(unexpectedElements, missingElements);
+    } else {
+      this.unexpected = unmodifiableList(unexpectedElements);
+      this.missing = unmodifiableList(missingElements);
+    }
+  }
+
+  private static boolean mayHaveUnmatchedEqualElements(List<?> unexpectedElements, List<?> missingElements) {
+    if (unexpectedElements.isEmpty() || missingElements.isEmpty()) return false;
+    return unexpectedElements.stream().anyMatch(IterableDiff::mayHaveHashCodeInconsistentWithEquals)
+           || missingElements.stream().anyMatch(IterableDiff::mayHaveHashCodeInconsistentWithEquals);
+  }
+
+  private static boolean mayHaveHashCodeInconsistentWithEquals(Object element) {
+    return element != null && HASH_CODE_MAY_BE_INCONSISTENT_WITH_EQUALS.get(element.getClass());
+  }
+
+  /**
+   * Wraps an element to look it up with the comparison strategy equality and a hash code computed by content for arrays
+   * to be consistent with {@link StandardComparisonStrategy#areEqual(Object, Object)}.
+   */
+  private final class HashedElement {
+
+    private final Object element;
+    private final int hashCode;
+
+    private HashedElement(Object element) {
+      this.element = element;
+      this.hashCode = element != null && element.getClass().isArray()
+          ? java.util.Arrays.deepHashCode(new Object[] { element })
+          : java.util.Objects.hashCode(element);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      // HashMap calls equals on the key being looked up, i.e. the actual element when looking up expected ones
+      return other instanceof IterableDiff<?>.HashedElement hashedElement
+             && comparisonStrategy.areEqual(element, hashedElement.element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+
+  private static final class Occurrences {
+    private int unmatched;
+    private int matched;
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
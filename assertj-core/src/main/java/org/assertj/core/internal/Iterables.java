@@ -96,7 +96,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -104,6 +103,7 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.AssertionInfo;
@@ -485,43 +485,19 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // the sequence matcher visits each element of actual once (because we don't know we can look ahead - the 'actual'
+    // might be singly-traversable) until a match is found or until the 'actual' is exhausted.
+    // Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(info, failures, actual, sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
-    while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
-    }
+    if (sequenceMatcher(sequence).indexIn(actualIterator) >= 0) return;
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private final int maxSize;
-    private final LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
+  private SequenceMatcher sequenceMatcher(Object[] sequence) {
+    // elements equality is expected to be transitive with the standard comparison strategy only
+    return new SequenceMatcher(sequence, this::areEqual, comparisonStrategy == StandardComparisonStrategy.instance());
   }
 
   /**
@@ -539,14 +515,8 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
-      }
-    }
+    int index = sequenceMatcher(sequence).indexIn(actual.iterator());
+    if (index >= 0) throw actualDoesContainSequence(info, actual, sequence, index);
   }
 
   /**
@@ -631,23 +601,6 @@ public class Iterables {
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -792,17 +745,7 @@ public class Iterables {
    */
   public void assertEndsWith(AssertionInfo info, Iterable<?> actual, Object[] sequence) {
     checkNotNullIterables(info, actual, sequence);
-
-    int sizeOfActual = sizeOf(actual);
-    if (sizeOfActual < sequence.length) throw actualDoesNotEndWithSequence(info, actual, sequence);
-
-    int start = sizeOfActual - sequence.length;
-    int sequenceIndex = 0, indexOfActual = 0;
-    for (Object actualElement : actual) {
-      if (indexOfActual++ < start) continue;
-      if (areEqual(actualElement, sequence[sequenceIndex++])) continue;
-      throw actualDoesNotEndWithSequence(info, actual, sequence);
-    }
+    if (!sequenceMatcher(sequence).isSuffixOf(actual.iterator())) throw actualDoesNotEndWithSequence(info, actual, sequence);
   }
 
   private boolean commonCheckThatIterableAssertionSucceeds(AssertionInfo info, Failures failures, Iterable<?> actual,
@@ -1193,6 +1136,17 @@ public class Iterables {
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
 
+  public <E> void assertAllSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                   ParallelEvaluation parallelEvaluation) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+
+    Function<E, UnsatisfiedRequirement> unsatisfiedRequirement = element -> failsRequirements(requirements, element).orElse(null);
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = parallelEvaluation.failures(actual, unsatisfiedRequirement);
+    if (!unsatisfiedRequirements.isEmpty())
+      throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
+  }
+
   private static <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
     try {
       requirements.accept(element);
@@ -1318,6 +1272,17 @@ public class Iterables {
     throw failures.failure(info, elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
   }
 
+  public <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements,
+                                   ParallelEvaluation parallelEvaluation) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+
+    Function<E, UnsatisfiedRequirement> unsatisfiedRequirement = element -> failsRequirements(requirements, element).orElse(null);
+    List<UnsatisfiedRequirement> unsatisfiedRequirements = parallelEvaluation.failuresUnlessAnyPasses(actual, unsatisfiedRequirement);
+    if (unsatisfiedRequirements == null) return; // an element satisfied the requirements
+    throw failures.failure(info, elementsShouldSatisfyAny(actual, unsatisfiedRequirements, info));
+  }
+
   public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
                                  PredicateDescription predicateDescription) {
     assertNotNull(info, actual);
@@ -1331,6 +1296,19 @@ public class Iterables {
     }
   }
 
+  public <E> void assertAllMatch(AssertionInfo info, Iterable<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription, ParallelEvaluation parallelEvaluation) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    List<E> nonMatches = parallelEvaluation.failingElements(actual, predicate);
+
+    if (!nonMatches.isEmpty()) {
+      throw failures.failure(info, elementsShouldMatch(actual,
+                                                       nonMatches.size() == 1 ? nonMatches.get(0) : nonMatches,
+                                                       predicateDescription));
+    }
+  }
+
   public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions) {
     assertNotNull(info, actual);
     requireNonNull(restrictions, "The Consumer<T> expressing the restrictions must not be null");
@@ -1340,6 +1318,16 @@ public class Iterables {
     if (!erroneousElements.isEmpty()) throw failures.failure(info, noElementsShouldSatisfy(actual, erroneousElements));
   }
 
+  public <E> void assertNoneSatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> restrictions,
+                                    ParallelEvaluation parallelEvaluation) {
+    assertNotNull(info, actual);
+    requireNonNull(restrictions, "The Consumer<T> expressing the restrictions must not be null");
+    // elements satisfying the restrictions are the erroneous ones
+    List<E> erroneousElements = parallelEvaluation.failingElements(actual,
+                                                                   element -> failsRequirements(restrictions, element).isPresent());
+    if (!erroneousElements.isEmpty()) throw failures.failure(info, noElementsShouldSatisfy(actual, erroneousElements));
+  }
+
   private <E> Optional<E> failsRestrictions(E element, Consumer<? super E> restrictions) {
     try {
       restrictions.accept(element);
@@ -1396,6 +1384,12 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
+    if (comparisonStrategy.isHashConsistent()) {
+      IterableDiff<Object> diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+      if (!diff.differencesFound()) return;
+      throw failures.failure(info,
+                             shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
+    }
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
@@ -20,7 +20,6 @@ import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.error.ShouldBeEqual.shouldBeEqual;
@@ -55,10 +54,8 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
-import static org.assertj.core.util.introspection.ClassUtils.isInJavaLangPackage;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -330,10 +327,9 @@ public class Objects {
   public <A> void assertHasNoNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                           String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFieldsIncludingInherited = getDeclaredFieldsIncludingInherited(actual.getClass());
     List<String> nullFieldNames = new LinkedList<>();
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
-    for (Field field : declaredFieldsIncludingInherited) {
+    for (Field field : DeclaredFields.of(actual.getClass()).includingInherited()) {
       // ignore private field if user has decided not to use them in comparison
       String fieldName = field.getName();
       if (ignoredFields.remove(fieldName)) continue;
@@ -360,7 +356,7 @@ public class Objects {
   public <A> void assertHasAllNullFieldsOrPropertiesExcept(AssertionInfo info, A actual,
                                                            String... propertiesOrFieldsToIgnore) {
     assertNotNull(info, actual);
-    Set<Field> declaredFields = getDeclaredFieldsIncludingInherited(actual.getClass());
+    List<Field> declaredFields = DeclaredFields.of(actual.getClass()).includingInherited();
     Set<String> ignoredFields = newLinkedHashSet(propertiesOrFieldsToIgnore);
     List<String> nonNullFieldNames = declaredFields.stream()
                                                    .filter(field -> !ignoredFields.contains(field.getName()))
@@ -378,27 +374,12 @@ public class Objects {
   }
 
   public static Set<Field> getDeclaredFieldsIncludingInherited(Class<?> clazz) {
-    requireNonNull(clazz, "expecting Class parameter not to be null");
-    Set<Field> declaredFields = getDeclaredFieldsIgnoringSyntheticAndStatic(clazz);
-    // get fields declared in superClass
-    Class<?> superClass = clazz.getSuperclass();
-    while (!isInJavaLangPackage(superClass)) {
-      declaredFields.addAll(getDeclaredFieldsIgnoringSyntheticAndStatic(superClass));
-      superClass = superClass.getSuperclass();
-    }
-    return declaredFields;
+    return new LinkedHashSet<>(DeclaredFields.of(clazz).includingInherited());
   }
 
   public static Set<String> getFieldsNames(Class<?> clazz) {
-    return getDeclaredFieldsIncludingInherited(clazz).stream()
-                                                     .map(Field::getName)
-                                                     .collect(toSet());
-  }
-
-  private static Set<Field> getDeclaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
-    Field[] declaredFields = clazz.getDeclaredFields();
-    return stream(declaredFields).filter(field -> !(field.isSynthetic() || Modifier.isStatic(field.getModifiers())))
-                                 .collect(toCollection(LinkedHashSet::new));
+    List<Field> fields = DeclaredFields.of(clazz).includingInherited();
+    return fields.stream().map(Field::getName).collect(toSet());
   }
 
   public <A> void assertHasFieldOrProperty(AssertionInfo info, A actual, String name) {
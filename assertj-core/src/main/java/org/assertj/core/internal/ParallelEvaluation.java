@@ -0,0 +1,213 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Evaluates a check on the elements of an iterable in parallel, elements are split in contiguous chunks evaluated by the
+ * given {@link Executor}.
+ * <p>
+ * Failures are reported in the elements order whatever the order chunks are evaluated in, at most
+ * {@code maxReportedFailures} are collected: once enough failures have been found before a chunk, the evaluation of
+ * that chunk stops as none of its failures would be reported.
+ *
+ * @since 4.0.0
+ */
+public final class ParallelEvaluation {
+
+  private static final int CHUNKS_PER_PROCESSOR = 4;
+  // number of elements evaluated between two checks of the failures found in the previous chunks
+  private static final int CHECK_INTERVAL = 64;
+
+  private final Executor executor;
+  private final int maxReportedFailures;
+
+  /**
+   * Creates a new {@link ParallelEvaluation}.
+   *
+   * @param executor the {@link Executor} evaluating the chunks of elements.
+   * @param maxReportedFailures the maximum number of failures to collect.
+   * @throws NullPointerException if the given executor is {@code null}.
+   * @throws IllegalArgumentException if the given maximum number of failures is not greater than 0.
+   */
+  public ParallelEvaluation(Executor executor, int maxReportedFailures) {
+    this.executor = requireNonNull(executor, "The executor evaluating elements in parallel must not be null");
+    checkArgument(maxReportedFailures > 0, "The maximum number of reported failures must be greater than 0 but was %s",
+                  maxReportedFailures);
+    this.maxReportedFailures = maxReportedFailures;
+  }
+
+  /**
+   * Returns the failures of the elements that do not pass the given check, in the elements order.
+   *
+   * @param <E> the type of the elements.
+   * @param <F> the type of the failures.
+   * @param elements the elements to check.
+   * @param failureOf the check returning the failure of the given element or {@code null} if it passes the check.
+   * @return at most {@code maxReportedFailures} failures.
+   */
+  <E, F> List<F> failures(Iterable<? extends E> elements, Function<? super E, F> failureOf) {
+    return evaluate(elements, failureOf, false);
+  }
+
+  /**
+   * Returns the elements that do not pass the given check, in the elements order.
+   *
+   * @param <E> the type of the elements.
+   * @param elements the elements to check.
+   * @param check the check to perform on each element.
+   * @return at most {@code maxReportedFailures} elements.
+   */
+  <E> List<E> failingElements(Iterable<? extends E> elements, Predicate<? super E> check) {
+    Function<E, FailingElement<E>> failingElement = element -> check.test(element) ? null : new FailingElement<>(element);
+    List<FailingElement<E>> failingElements = failures(elements, failingElement);
+    return failingElements.stream().map(FailingElement::element).collect(toList());
+  }
+
+  /**
+   * Returns the failures of the elements that do not pass the given check, in the elements order, unless one element
+   * passes the check.
+   *
+   * @param <E> the type of the elements.
+   * @param <F> the type of the failures.
+   * @param elements the elements to check.
+   * @param failureOf the check returning the failure of the given element or {@code null} if it passes the check.
+   * @return at most {@code maxReportedFailures} failures or {@code null} if one element passes the check.
+   */
+  <E, F> List<F> failuresUnlessAnyPasses(Iterable<? extends E> elements, Function<? super E, F> failureOf) {
+    return evaluate(elements, failureOf, true);
+  }
+
+  private <E, F> List<F> evaluate(Iterable<? extends E> elements, Function<? super E, F> failureOf, boolean stopOnPass) {
+    List<? extends E> list = elements instanceof List<? extends E> elementList && elementList instanceof RandomAccess
+        ? elementList
+        : newArrayList(elements);
+    int chunkCount = Math.min(list.size(), CHUNKS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    if (chunkCount == 0) return new ArrayList<>();
+    Evaluation<E, F> evaluation = new Evaluation<>(list, failureOf, chunkCount, stopOnPass);
+    CompletableFuture<?>[] chunks = new CompletableFuture<?>[chunkCount];
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      int evaluatedChunk = chunk;
+      chunks[chunk] = CompletableFuture.runAsync(() -> evaluation.evaluate(evaluatedChunk), executor);
+    }
+    // wait for all the chunks before reporting the first exception thrown in the elements order
+    CompletableFuture.allOf(chunks).exceptionally(exception -> null).join();
+    for (CompletableFuture<?> chunk : chunks) {
+      try {
+        chunk.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+        if (e.getCause() instanceof Error error) throw error;
+        throw e;
+      }
+    }
+    return evaluation.failures();
+  }
+
+  private static <E> List<E> newArrayList(Iterable<? extends E> elements) {
+    List<E> list = new ArrayList<>();
+    elements.forEach(list::add);
+    return list;
+  }
+
+  // elements might be null
+  private record FailingElement<E>(E element) {
+  }
+
+  private final class Evaluation<E, F> {
+
+    private final List<? extends E> elements;
+    private final Function<? super E, F> failureOf;
+    private final int chunkCount;
+    private final boolean stopOnPass;
+    private final AtomicBoolean anyPassed = new AtomicBoolean();
+    // failures found so far per chunk, used to skip the chunks whose failures would not be reported
+    private final AtomicIntegerArray failureCounts;
+    private final List<List<F>> failuresPerChunk;
+
+    private Evaluation(List<? extends E> elements, Function<? super E, F> failureOf, int chunkCount, boolean stopOnPass) {
+      this.elements = elements;
+      this.failureOf = failureOf;
+      this.chunkCount = chunkCount;
+      this.stopOnPass = stopOnPass;
+      this.failureCounts = new AtomicIntegerArray(chunkCount);
+      this.failuresPerChunk = new ArrayList<>(chunkCount);
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        failuresPerChunk.add(new ArrayList<>());
+      }
+    }
+
+    private void evaluate(int chunk) {
+      List<F> failures = failuresPerChunk.get(chunk);
+      int start = startOf(chunk);
+      int end = startOf(chunk + 1);
+      for (int i = start; i < end; i++) {
+        if (stopOnPass) {
+          if (anyPassed.get()) return;
+        } else if ((i - start) % CHECK_INTERVAL == 0 && enoughFailuresBefore(chunk)) return;
+        F failure = failureOf.apply(elements.get(i));
+        if (failure == null) {
+          if (stopOnPass) anyPassed.set(true);
+        } else if (failures.size() < maxReportedFailures) {
+          failures.add(failure);
+          failureCounts.incrementAndGet(chunk);
+          // the next failures of this chunk would not be reported
+          if (!stopOnPass && failures.size() == maxReportedFailures) return;
+        }
+      }
+    }
+
+    private int startOf(int chunk) {
+      return (int) ((long) elements.size() * chunk / chunkCount);
+    }
+
+    private boolean enoughFailuresBefore(int chunk) {
+      int failuresBeforeChunk = 0;
+      for (int previousChunk = 0; previousChunk < chunk; previousChunk++) {
+        failuresBeforeChunk += failureCounts.get(previousChunk);
+        if (failuresBeforeChunk >= maxReportedFailures) return true;
+      }
+      return false;
+    }
+
+    private List<F> failures() {
+      if (anyPassed.get()) return null;
+      List<F> failures = new ArrayList<>();
+      for (List<F> chunkFailures : failuresPerChunk) {
+        for (F failure : chunkFailures) {
+          if (failures.size() == maxReportedFailures) return failures;
+          failures.add(failure);
+        }
+      }
+      return failures;
+    }
+  }
+
+}
@@ -15,7 +15,6 @@
  */
 package org.assertj.core.internal;
 
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -273,7 +272,7 @@ public class Paths {
     checkArgument(Files.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
     assertIsReadable(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(UNABLE_TO_COMPARE_PATH_CONTENTS.formatted(actual, expected), ioe);
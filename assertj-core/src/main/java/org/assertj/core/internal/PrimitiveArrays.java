@@ -0,0 +1,266 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.reflect.Array.getLength;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+
+/**
+ * Compares the elements of primitive arrays by value without boxing them, {@link Arrays} uses it when the
+ * {@link StandardComparisonStrategy} is active, only the elements reported in error messages are boxed.
+ * <p>
+ * Elements are compared through {@code long} keys, two elements have the same key if and only if their boxed values are
+ * equal, floating point elements keys are their bits as in {@link Double#equals(Object)} and {@link Float#equals(Object)}.
+ * The values looked up are sorted once and the actual elements are then looked up by binary search, chunk by chunk to
+ * avoid copying large actual arrays.
+ */
+final class PrimitiveArrays {
+
+  private static final int CHUNK_SIZE = 1024;
+
+  private PrimitiveArrays() {}
+
+  static boolean isPrimitiveArray(Object array) {
+    Class<?> componentType = array.getClass().getComponentType();
+    return componentType != null && componentType.isPrimitive();
+  }
+
+  static boolean haveSamePrimitiveType(Object array, Object other) {
+    return isPrimitiveArray(array) && array.getClass() == other.getClass();
+  }
+
+  /**
+   * Returns the values not found in the given array, in order, duplicates included.
+   *
+   * @param values the values to look for
+   * @param array the array to look into
+   * @return the values not found in the given array
+   */
+  static List<Object> valuesNotFoundIn(Object values, Object array) {
+    return valuesFoundIn(values, array, false);
+  }
+
+  /**
+   * Returns the values found in the given array, in order, duplicates included.
+   *
+   * @param values the values to look for
+   * @param array the array to look into
+   * @return the values found in the given array
+   */
+  static List<Object> valuesFoundIn(Object values, Object array) {
+    return valuesFoundIn(values, array, true);
+  }
+
+  private static List<Object> valuesFoundIn(Object values, Object array, boolean found) {
+    SortedKeys valuesKeys = new SortedKeys(values);
+    boolean[] foundValues = new boolean[valuesKeys.size()];
+    forEachKey(array, (index, key) -> {
+      int keyIndex = valuesKeys.indexOf(key);
+      if (keyIndex >= 0) foundValues[keyIndex] = true;
+    });
+    List<Object> result = new ArrayList<>();
+    forEachKey(values, (index, key) -> {
+      if (foundValues[valuesKeys.indexOf(key)] == found) result.add(Array.get(values, index));
+    });
+    return result;
+  }
+
+  /**
+   * Returns the elements of the given array that are not in the given values, in order, duplicates included.
+   *
+   * @param array the array whose elements are looked up
+   * @param values the values to look into
+   * @return the elements of the given array that are not in the given values
+   */
+  static List<Object> elementsNotIn(Object array, Object values) {
+    SortedKeys valuesKeys = new SortedKeys(values);
+    List<Object> elementsNotInValues = new ArrayList<>();
+    forEachKey(array, (index, key) -> {
+      if (valuesKeys.indexOf(key) < 0) elementsNotInValues.add(Array.get(array, index));
+    });
+    return elementsNotInValues;
+  }
+
+  /**
+   * Computes the same unexpected and missing elements as {@link IterableDiff} with the {@link StandardComparisonStrategy}:
+   * the first occurrences of actual elements match the expected ones, the first occurrences of expected elements are the
+   * matched ones.
+   *
+   * @param actual the actual array
+   * @param expected the expected array
+   * @return the elements of actual not matched in expected and the elements of expected not matched in actual
+   */
+  static Diff diff(Object actual, Object expected) {
+    SortedKeys expectedKeys = new SortedKeys(expected);
+    int[] unmatched = expectedKeys.counts;
+    int[] matched = new int[expectedKeys.size()];
+    List<Object> unexpected = new ArrayList<>();
+    forEachKey(actual, (index, key) -> {
+      int keyIndex = expectedKeys.indexOf(key);
+      if (keyIndex >= 0 && unmatched[keyIndex] > 0) {
+        unmatched[keyIndex]--;
+        matched[keyIndex]++;
+      } else {
+        unexpected.add(Array.get(actual, index));
+      }
+    });
+    List<Object> missing = new ArrayList<>();
+    forEachKey(expected, (index, key) -> {
+      int keyIndex = expectedKeys.indexOf(key);
+      if (matched[keyIndex] > 0) matched[keyIndex]--;
+      else missing.add(Array.get(expected, index));
+    });
+    return new Diff(unexpected, missing);
+  }
+
+  record Diff(List<Object> unexpected, List<Object> missing) {
+
+    boolean differencesFound() {
+      return !unexpected.isEmpty() || !missing.isEmpty();
+    }
+  }
+
+  /**
+   * Returns the duplicates of the given array in the same order as
+   * {@link StandardComparisonStrategy#duplicatesFrom(Iterable)}, i.e. in the order of their second occurrence.
+   *
+   * @param array the array to look for duplicates in
+   * @return the duplicates of the given array
+   */
+  static Set<Object> duplicatesOf(Object array) {
+    SortedKeys keys = new SortedKeys(array);
+    Set<Object> duplicates = new LinkedHashSet<>();
+    if (keys.size() == getLength(array)) return duplicates;
+    boolean[] seen = new boolean[keys.size()];
+    forEachKey(array, (index, key) -> {
+      int keyIndex = keys.indexOf(key);
+      if (seen[keyIndex]) duplicates.add(Array.get(array, index));
+      else seen[keyIndex] = true;
+    });
+    return duplicates;
+  }
+
+  /**
+   * Returns the index of the first element greater than the next one according to the natural order of the boxed
+   * elements, -1 if the array is sorted.
+   *
+   * @param array the primitive array to check
+   * @return the index of the first element greater than the next one or -1 if the array is sorted
+   */
+  static int indexOfFirstUnsortedElement(Object array) {
+    int length = getLength(array);
+    for (int i = 0; i < length - 1; i++) {
+      if (compare(array, i, i + 1) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static int compare(Object array, int i, int j) {
+    if (array instanceof int[] ints) return Integer.compare(ints[i], ints[j]);
+    if (array instanceof long[] longs) return Long.compare(longs[i], longs[j]);
+    if (array instanceof double[] doubles) return Double.compare(doubles[i], doubles[j]);
+    if (array instanceof float[] floats) return Float.compare(floats[i], floats[j]);
+    if (array instanceof char[] chars) return Character.compare(chars[i], chars[j]);
+    if (array instanceof byte[] bytes) return Byte.compare(bytes[i], bytes[j]);
+    if (array instanceof short[] shorts) return Short.compare(shorts[i], shorts[j]);
+    if (array instanceof boolean[] booleans) return Boolean.compare(booleans[i], booleans[j]);
+    throw notAPrimitiveArray(array);
+  }
+
+  private static void forEachKey(Object array, IndexedKeyConsumer consumer) {
+    int length = getLength(array);
+    long[] keys = new long[Math.min(length, CHUNK_SIZE)];
+    for (int from = 0; from < length; from += CHUNK_SIZE) {
+      int count = copyKeys(array, from, keys);
+      for (int i = 0; i < count; i++) {
+        consumer.accept(from + i, keys[i]);
+      }
+    }
+  }
+
+  private static int copyKeys(Object array, int from, long[] keys) {
+    int count = Math.min(keys.length, getLength(array) - from);
+    if (array instanceof int[] ints) {
+      for (int i = 0; i < count; i++) keys[i] = ints[from + i];
+    } else if (array instanceof long[] longs) {
+      System.arraycopy(longs, from, keys, 0, count);
+    } else if (array instanceof double[] doubles) {
+      for (int i = 0; i < count; i++) keys[i] = Double.doubleToLongBits(doubles[from + i]);
+    } else if (array instanceof float[] floats) {
+      for (int i = 0; i < count; i++) keys[i] = Float.floatToIntBits(floats[from + i]);
+    } else if (array instanceof char[] chars) {
+      for (int i = 0; i < count; i++) keys[i] = chars[from + i];
+    } else if (array instanceof byte[] bytes) {
+      for (int i = 0; i < count; i++) keys[i] = bytes[from + i];
+    } else if (array instanceof short[] shorts) {
+      for (int i = 0; i < count; i++) keys[i] = shorts[from + i];
+    } else if (array instanceof boolean[] booleans) {
+      for (int i = 0; i < count; i++) keys[i] = booleans[from + i] ? 1 : 0;
+    } else {
+      throw notAPrimitiveArray(array);
+    }
+    return count;
+  }
+
+  private static IllegalArgumentException notAPrimitiveArray(Object array) {
+    return new IllegalArgumentException("The object should be a primitive array but was: " + array);
+  }
+
+  @FunctionalInterface
+  private interface IndexedKeyConsumer {
+    void accept(int index, long key);
+  }
+
+  /**
+   * The distinct sorted keys of an array with their number of occurrences.
+   */
+  private static final class SortedKeys {
+
+    private final long[] keys;
+    private final int[] counts;
+    private final int size;
+
+    private SortedKeys(Object array) {
+      long[] sortedKeys = new long[getLength(array)];
+      copyKeys(array, 0, sortedKeys);
+      java.util.Arrays.sort(sortedKeys);
+      int[] occurrences = new int[sortedKeys.length];
+      int distinctKeys = 0;
+      for (int i = 0; i < sortedKeys.length; i++) {
+        if (distinctKeys == 0 || sortedKeys[distinctKeys - 1] != sortedKeys[i]) sortedKeys[distinctKeys++] = sortedKeys[i];
+        occurrences[distinctKeys - 1]++;
+      }
+      this.keys = sortedKeys;
+      this.counts = occurrences;
+      this.size = distinctKeys;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    private int indexOf(long key) {
+      return java.util.Arrays.binarySearch(keys, 0, size, key);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.assertj.core.presentation.Representation;
+
+/**
+ * Remembers the representations of the elements represented while building an error message so that elements found in
+ * several of its values (e.g. actual and unexpected elements) are only represented once.
+ * <p>
+ * Elements are compared by identity and memoized for the representation that first used the memo only.
+ */
+public final class RepresentationMemo {
+
+  // elements representations memoized while representing an error message
+  private static final ThreadLocal<RepresentationMemo> CURRENT = new ThreadLocal<>();
+
+  private final Map<Object, String> representations = new IdentityHashMap<>();
+  private Representation owner;
+
+  private RepresentationMemo() {}
+
+  /**
+   * Runs the given representation of an error message values, the elements of iterables/arrays/maps found in several of
+   * these values (or several times in one) are only represented once, which matters for costly element representations.
+   * <p>
+   * Elements are compared by identity, they must not change while the message is being represented.
+   *
+   * @param <T>            the type of the represented error message.
+   * @param representation the representation of the error message values.
+   * @return the result of the given representation.
+   */
+  public static <T> T representingElementsOnce(Supplier<T> representation) {
+    if (CURRENT.get() != null) return representation.get();
+    CURRENT.set(new RepresentationMemo());
+    try {
+      return representation.get();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  /**
+   * @return the memo of the error message represented by the current thread, {@code null} if there is none.
+   */
+  public static RepresentationMemo current() {
+    return CURRENT.get();
+  }
+
+  public String get(Representation representation, Object element) {
+    return isOwnedBy(representation) ? representations.get(element) : null;
+  }
+
+  public void put(Representation representation, Object element, String elementRepresentation) {
+    if (isOwnedBy(representation) && elementRepresentation != null) representations.put(element, elementRepresentation);
+  }
+
+  private boolean isOwnedBy(Representation representation) {
+    if (owner == null) owner = representation;
+    return owner == representation;
+  }
+}
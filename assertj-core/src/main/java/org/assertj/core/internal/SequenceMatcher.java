@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+
+/**
+ * Looks for a sequence of elements in the elements given by an {@link Iterator}, reading each element once.
+ * <p>
+ * When elements equality is transitive, a Knuth-Morris-Pratt failure table of the sequence gives where to resume
+ * matching after a mismatch, this takes {@code O(n + k)} comparisons where {@code n} is the number of elements and
+ * {@code k} the sequence length.
+ * <p>
+ * Otherwise, e.g. when elements are compared with a tolerance, the last {@code k} elements are kept in a ring buffer and
+ * compared with the sequence which takes {@code O(n * k)} comparisons.
+ * <p>
+ * Checking that elements start with a sequence does not need this matcher, only the first {@code k} elements are compared
+ * with the sequence, once each.
+ */
+final class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final BiPredicate<Object, Object> areEqual;
+  // null when elements equality is not transitive
+  private final int[] failureTable;
+
+  /**
+   * Creates a new {@link SequenceMatcher}.
+   *
+   * @param sequence the sequence to look for, it must not be empty to look for it with {@link #indexIn(Iterator)}.
+   * @param areEqual tells whether an element is equal to a sequence element.
+   * @param transitiveEquality whether the given equality is transitive.
+   */
+  SequenceMatcher(Object[] sequence, BiPredicate<Object, Object> areEqual, boolean transitiveEquality) {
+    this.sequence = sequence;
+    this.areEqual = areEqual;
+    this.failureTable = transitiveEquality ? failureTableOf(sequence, areEqual) : null;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the sequence in the given elements.
+   *
+   * @param elements the elements to look the sequence in.
+   * @return the index of the first occurrence of the sequence or -1 if the elements do not contain it.
+   */
+  int indexIn(Iterator<?> elements) {
+    return failureTable == null ? slidingWindowIndexIn(elements) : knuthMorrisPrattIndexIn(elements);
+  }
+
+  /**
+   * Returns whether the given elements end with the sequence.
+   *
+   * @param elements the elements to check.
+   * @return whether the given elements end with the sequence.
+   */
+  boolean isSuffixOf(Iterator<?> elements) {
+    if (sequence.length == 0) return true;
+    // keep the last elements in a ring buffer, this only reads the elements once
+    Object[] window = new Object[sequence.length];
+    long count = 0;
+    while (elements.hasNext()) {
+      window[(int) (count++ % window.length)] = elements.next();
+    }
+    return count >= sequence.length && windowMatches(window, (int) (count % window.length));
+  }
+
+  private int knuthMorrisPrattIndexIn(Iterator<?> elements) {
+    int index = 0;
+    int matched = 0;
+    while (elements.hasNext()) {
+      Object element = elements.next();
+      while (matched > 0 && !areEqual.test(element, sequence[matched])) matched = failureTable[matched - 1];
+      if (areEqual.test(element, sequence[matched])) matched++;
+      index++;
+      if (matched == sequence.length) return index - sequence.length;
+    }
+    return -1;
+  }
+
+  private int slidingWindowIndexIn(Iterator<?> elements) {
+    Object[] window = new Object[sequence.length];
+    int count = 0;
+    while (elements.hasNext()) {
+      window[count % window.length] = elements.next();
+      count++;
+      if (count >= window.length && windowMatches(window, count % window.length)) return count - window.length;
+    }
+    return -1;
+  }
+
+  private boolean windowMatches(Object[] window, int oldestElementIndex) {
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual.test(window[(oldestElementIndex + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  // failureTable[i] is the length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+  private static int[] failureTableOf(Object[] sequence, BiPredicate<Object, Object> areEqual) {
+    int[] failureTable = new int[sequence.length];
+    int length = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (length > 0 && !areEqual.test(sequence[i], sequence[length])) length = failureTable[length - 1];
+      if (areEqual.test(sequence[i], sequence[length])) length++;
+      failureTable[i] = length;
+    }
+    return failureTable;
+  }
+
+}
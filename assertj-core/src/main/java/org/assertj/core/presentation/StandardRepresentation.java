@@ -16,7 +16,6 @@
 package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
@@ -42,6 +41,7 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
@@ -66,6 +66,7 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.configuration.Configuration;
@@ -74,6 +75,7 @@ import org.assertj.core.data.MapEntry;
 import org.assertj.core.error.DescriptionFormatter;
 import org.assertj.core.error.MultipleAssertionsError;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.RepresentationMemo;
 import org.assertj.core.util.Closeables;
 import org.assertj.core.util.diff.ChangeDelta;
 import org.assertj.core.util.diff.DeleteDelta;
@@ -112,8 +114,27 @@ public class StandardRepresentation implements Representation {
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+  private static int maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
+  // characters printed by the outermost iterable/array/map represented by the current thread, the ones nested in it share
+  // its budget
+  private static final ThreadLocal<PrintingBudget> PRINTING_BUDGET = new ThreadLocal<>();
 
   private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  // the format of a type is resolved once as finding it requires many type checks and reflection
+  private static final ClassValue<Format> FORMAT_BY_TYPE = new ClassValue<>() {
+    @Override
+    protected Format computeValue(Class<?> type) {
+      return formatOf(type);
+    }
+  };
+  // iterables and arrays elements are represented once for both the single and multi line formats unless a subclass
+  // overrides these formats, in which case they must be called
+  private static final ClassValue<Boolean> OVERRIDES_SINGLE_OR_MULTI_LINE_FORMAT = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return overridesSingleOrMultiLineFormat(type);
+    }
+  };
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -149,11 +170,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxCharactersForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
@@ -186,6 +209,27 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  /**
+   * Sets how many characters at most are printed when representing an iterable, an array or a map, including the ones
+   * nested in it. Once reached, the remaining elements are not represented and replaced by {@code ...}.
+   *
+   * @param value the maximum number of characters printed, must be &gt;= 1.
+   * @since 4.0.0
+   */
+  public static void setMaxCharactersForPrinting(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxCharactersForPrinting must be >= 1, but was %s", value);
+    maxCharactersForPrinting = value;
+  }
+
+  /**
+   * @return how many characters at most are printed when representing an iterable, an array or a map.
+   * @since 4.0.0
+   */
+  public static int getMaxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    *
@@ -215,68 +259,113 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy strategy) return toStringOf(strategy);
-    if (object instanceof Calendar calendar) return toStringOf(calendar);
-    if (object instanceof Class<?> clazz) return toStringOf(clazz);
-    if (object instanceof Date date) return toStringOf(date);
-    if (object instanceof Duration duration) return toStringOf(duration);
-    if (object instanceof LocalDate date) return toStringOf(date);
-    if (object instanceof YearMonth month) return toStringOf(month);
-    if (object instanceof LocalDateTime time) return toStringOf(time);
-    if (object instanceof OffsetDateTime time) return toStringOf(time);
-    if (object instanceof ZonedDateTime time) return toStringOf(time);
-    if (object instanceof LongAdder adder) return toStringOf(adder);
+    return switch (FORMAT_BY_TYPE.get(object.getClass())) {
+      case COMPARATOR_BASED_COMPARISON_STRATEGY -> toStringOf((ComparatorBasedComparisonStrategy) object);
+      case CALENDAR -> toStringOf((Calendar) object);
+      case CLASS -> toStringOf((Class<?>) object);
+      case DATE -> toStringOf((Date) object);
+      case DURATION -> toStringOf((Duration) object);
+      case LOCAL_DATE -> toStringOf((LocalDate) object);
+      case YEAR_MONTH -> toStringOf((YearMonth) object);
+      case LOCAL_DATE_TIME -> toStringOf((LocalDateTime) object);
+      case OFFSET_DATE_TIME -> toStringOf((OffsetDateTime) object);
+      case ZONED_DATE_TIME -> toStringOf((ZonedDateTime) object);
+      case LONG_ADDER -> toStringOf((LongAdder) object);
+      case ATOMIC_REFERENCE -> toStringOf((AtomicReference<?>) object);
+      case ATOMIC_MARKABLE_REFERENCE -> toStringOf((AtomicMarkableReference<?>) object);
+      case ATOMIC_STAMPED_REFERENCE -> toStringOf((AtomicStampedReference<?>) object);
+      case ATOMIC_INTEGER_FIELD_UPDATER -> AtomicIntegerFieldUpdater.class.getSimpleName();
+      case ATOMIC_LONG_FIELD_UPDATER -> AtomicLongFieldUpdater.class.getSimpleName();
+      case ATOMIC_REFERENCE_FIELD_UPDATER -> AtomicReferenceFieldUpdater.class.getSimpleName();
+      case FILE -> toStringOf((File) object);
+      case UNQUOTED_STRING -> toUnquotedStringOf(object);
+      case STRING -> toStringOf((String) object);
+      case CHAR_SEQUENCE -> toStringOf((CharSequence) object);
+      case CHARACTER -> toStringOf((Character) object);
+      case COMPARATOR -> toStringOf((Comparator<?>) object);
+      case SIMPLE_DATE_FORMAT -> toStringOf((SimpleDateFormat) object);
+      case PREDICATE_DESCRIPTION -> toStringOf((PredicateDescription) object);
+      case FUTURE -> toStringOf((Future<?>) object);
+      case ARRAY -> formatArray(object);
+      case COLLECTION -> smartFormat((Collection<?>) object);
+      case MAP -> toStringOf((Map<?, ?>) object);
+      case TUPLE -> toStringOf((Tuple) object);
+      case MAP_ENTRY -> toStringOf((Map.Entry<?, ?>) object);
+      case METHOD -> ((Method) object).toGenericString();
+      case INSERT_DELTA -> toStringOf((InsertDelta<?>) object);
+      case CHANGE_DELTA -> toStringOf((ChangeDelta<?>) object);
+      case DELETE_DELTA -> toStringOf((DeleteDelta<?>) object);
+      case ITERABLE -> smartFormat((Iterable<?>) object);
+      case ATOMIC_INTEGER -> toStringOf((AtomicInteger) object);
+      case ATOMIC_BOOLEAN -> toStringOf((AtomicBoolean) object);
+      case ATOMIC_LONG -> toStringOf((AtomicLong) object);
+      case NUMBER -> toStringOf((Number) object);
+      case MULTIPLE_ASSERTIONS_ERROR -> toStringOf((MultipleAssertionsError) object);
+      case THROWABLE -> toStringOf((Throwable) object);
+      case FALLBACK -> fallbackToStringOf(object);
+    };
+  }
+
+  // the checks order matters as the first matching format is used
+  private static Format formatOf(Class<?> type) {
+    if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type)) return Format.COMPARATOR_BASED_COMPARISON_STRATEGY;
+    if (Calendar.class.isAssignableFrom(type)) return Format.CALENDAR;
+    if (Class.class.equals(type)) return Format.CLASS;
+    if (Date.class.isAssignableFrom(type)) return Format.DATE;
+    if (Duration.class.equals(type)) return Format.DURATION;
+    if (LocalDate.class.equals(type)) return Format.LOCAL_DATE;
+    if (YearMonth.class.equals(type)) return Format.YEAR_MONTH;
+    if (LocalDateTime.class.equals(type)) return Format.LOCAL_DATE_TIME;
+    if (OffsetDateTime.class.equals(type)) return Format.OFFSET_DATE_TIME;
+    if (ZonedDateTime.class.equals(type)) return Format.ZONED_DATE_TIME;
+    if (LongAdder.class.isAssignableFrom(type)) return Format.LONG_ADDER;
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g., an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class))
-      return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File file) return toStringOf(file);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (isUnquotedString(object)) return toUnquotedStringOf(object);
-    if (object instanceof String string) return toStringOf(string);
-    if (object instanceof CharSequence sequence) return toStringOf(sequence);
-    if (object instanceof Character character) return toStringOf(character);
-    if (object instanceof Comparator<?> comparator) return toStringOf(comparator);
-    if (object instanceof SimpleDateFormat format) return toStringOf(format);
-    if (object instanceof PredicateDescription description) return toStringOf(description);
-    if (object instanceof Future<?> future) return toStringOf(future);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?> collection) return smartFormat(collection);
-    if (object instanceof Map<?, ?> map) return toStringOf(map);
-    if (object instanceof Tuple tuple) return toStringOf(tuple);
-    if (object instanceof Map.Entry<?, ?> entry) return toStringOf(entry);
-    if (object instanceof Method method) return method.toGenericString();
-    if (object instanceof InsertDelta<?> delta) return toStringOf(delta);
-    if (object instanceof ChangeDelta<?> delta) return toStringOf(delta);
-    if (object instanceof DeleteDelta<?> delta) return toStringOf(delta);
+    if (isSubtypeNotOverridingToString(type, AtomicReference.class)) return Format.ATOMIC_REFERENCE;
+    if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class)) return Format.ATOMIC_MARKABLE_REFERENCE;
+    if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class)) return Format.ATOMIC_STAMPED_REFERENCE;
+    if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type)) return Format.ATOMIC_INTEGER_FIELD_UPDATER;
+    if (AtomicLongFieldUpdater.class.isAssignableFrom(type)) return Format.ATOMIC_LONG_FIELD_UPDATER;
+    if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type)) return Format.ATOMIC_REFERENCE_FIELD_UPDATER;
+    if (File.class.isAssignableFrom(type)) return Format.FILE;
+    if (Path.class.isAssignableFrom(type)) return Format.FALLBACK;
+    if (isUnquotedString(type)) return Format.UNQUOTED_STRING;
+    if (String.class.equals(type)) return Format.STRING;
+    if (CharSequence.class.isAssignableFrom(type)) return Format.CHAR_SEQUENCE;
+    if (Character.class.equals(type)) return Format.CHARACTER;
+    if (Comparator.class.isAssignableFrom(type)) return Format.COMPARATOR;
+    if (SimpleDateFormat.class.isAssignableFrom(type)) return Format.SIMPLE_DATE_FORMAT;
+    if (PredicateDescription.class.isAssignableFrom(type)) return Format.PREDICATE_DESCRIPTION;
+    if (Future.class.isAssignableFrom(type)) return Format.FUTURE;
+    if (type.isArray()) return Format.ARRAY;
+    if (Collection.class.isAssignableFrom(type)) return Format.COLLECTION;
+    if (Map.class.isAssignableFrom(type)) return Format.MAP;
+    if (Tuple.class.isAssignableFrom(type)) return Format.TUPLE;
+    if (Map.Entry.class.isAssignableFrom(type)) return Format.MAP_ENTRY;
+    if (Method.class.equals(type)) return Format.METHOD;
+    if (InsertDelta.class.isAssignableFrom(type)) return Format.INSERT_DELTA;
+    if (ChangeDelta.class.isAssignableFrom(type)) return Format.CHANGE_DELTA;
+    if (DeleteDelta.class.isAssignableFrom(type)) return Format.DELETE_DELTA;
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> iterable && !hasOverriddenToString(object.getClass()))
-      return smartFormat(iterable);
-    if (object instanceof AtomicInteger atomicInteger) return toStringOf(atomicInteger);
-    if (object instanceof AtomicBoolean atomicBoolean) return toStringOf(atomicBoolean);
-    if (object instanceof AtomicLong atomicLong) return toStringOf(atomicLong);
-    if (object instanceof Number number) return toStringOf(number);
-    if (object instanceof MultipleAssertionsError multipleAssertionsError) return toStringOf(multipleAssertionsError);
-    if (object instanceof Throwable throwable) return toStringOf(throwable);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isUnquotedString(Object object) {
-    String className = object.getClass().getName();
+    if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type)) return Format.ITERABLE;
+    if (AtomicInteger.class.isAssignableFrom(type)) return Format.ATOMIC_INTEGER;
+    if (AtomicBoolean.class.isAssignableFrom(type)) return Format.ATOMIC_BOOLEAN;
+    if (AtomicLong.class.isAssignableFrom(type)) return Format.ATOMIC_LONG;
+    if (Number.class.isAssignableFrom(type)) return Format.NUMBER;
+    if (MultipleAssertionsError.class.isAssignableFrom(type)) return Format.MULTIPLE_ASSERTIONS_ERROR;
+    if (Throwable.class.isAssignableFrom(type)) return Format.THROWABLE;
+    return Format.FALLBACK;
+  }
+
+  private static boolean isUnquotedString(Class<?> type) {
+    String className = type.getName();
     return className.contains("org.assertj.core") && className.contains("UnquotedString");
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isSubtypeNotOverridingToString(Class<?> type, Class<?> supertype) {
+    return supertype.isAssignableFrom(type) && !hasOverriddenToStringInSubclassOf(type, supertype);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -522,26 +611,25 @@ public class StandardRepresentation implements Representation {
     Map<?, ?> sortedMap = toSortedMapIfPossible(map);
     Iterator<?> entriesIterator = sortedMap.entrySet().iterator();
     if (!entriesIterator.hasNext()) return "{}";
-    StringBuilder builder = new StringBuilder("{");
-    int printedElements = 0;
-    for (;;) {
-      Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
-        builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
-        return builder.append("}").toString();
-      }
-
-      // the entry shouldn't be null in a valid map, but if it is, print it out gracefully instead of throwing a NPE
-      if (entry == null) {
-        builder.append("null");
-      } else {
-        builder.append(format(map, entry.getKey())).append('=').append(format(map, entry.getValue()));
+    return withPrintingBudget(budget -> {
+      StringBuilder builder = new StringBuilder("{");
+      int printedElements = 0;
+      for (;;) {
+        Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
+        if (printedElements == maxElementsForPrinting || budget.isExhausted()) {
+          builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+          return builder.append("}").toString();
+        }
+
+        // the entry shouldn't be null in a valid map, but if it is, print it out gracefully instead of throwing a NPE
+        builder.append(budget.charge(() -> entry == null ? "null"
+            : format(map, entry.getKey()) + "=" + format(map, entry.getValue())));
+
+        printedElements++;
+        if (!entriesIterator.hasNext()) return builder.append("}").toString();
+        builder.append(", ");
       }
-
-      printedElements++;
-      if (!entriesIterator.hasNext()) return builder.append("}").toString();
-      builder.append(", ");
-    }
+    });
   }
 
   protected String toStringOf(MultipleAssertionsError multipleAssertionsError) {
@@ -641,8 +729,13 @@ public class StandardRepresentation implements Representation {
       }
     }
 
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (overridesSingleOrMultiLineFormat()) {
+      String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
+      return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    }
+    if (!iterable.iterator().hasNext()) return DEFAULT_START + DEFAULT_END;
+    return smartFormat(representElements(iterable, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                                         iterable));
   }
 
   /**
@@ -658,8 +751,13 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
-    String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    if (overridesSingleOrMultiLineFormat()) {
+      String description = singleLineFormat(array, array);
+      return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    }
+    if (array.length == 0) return DEFAULT_START + DEFAULT_END;
+    return smartFormat(representElements(java.util.Arrays.asList(array), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                         INDENTATION_FOR_SINGLE_LINE, array));
   }
 
   protected String formatPrimitiveArray(Object o) {
@@ -710,7 +808,7 @@ public class StandardRepresentation implements Representation {
     // List<Object> outerList = list(innerList, innerList);
     // outerList would be represented as [[1, 2, 3], (already visited)] instead of [[1, 2, 3], [1, 2, 3]]
     // Final word, the approach used here is the same as the toString implementation in AbstractCollection
-    return element == null ? NULL : toStringOf(element);
+    return element == null ? NULL : memoizedToStringOf(element);
   }
 
   // private methods
@@ -721,13 +819,82 @@ public class StandardRepresentation implements Representation {
     HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
     elements.forEach(accumulator::add);
 
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+    return withPrintingBudget(budget -> {
+      List<String> representedElements = new ArrayList<>();
+      for (Iterator<Object> iterator = accumulator.stream().iterator(); iterator.hasNext();) {
+        Object element = iterator.next();
+        if (budget.isExhausted()) {
+          // keep few enough elements so that they are not elided again when grouped
+          int keptElements = Math.min(representedElements.size(), (maxElementsForPrinting + 1) / 2);
+          representedElements = new ArrayList<>(representedElements.subList(0, keptElements));
+          representedElements.add(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+          break;
+        }
+        representedElements.add(budget.charge(() -> safeStringOf(element, start, end, elementSeparator, indentation, root)));
+      }
+      return representedElements;
+    });
+  }
+
+  private static <T> T withPrintingBudget(Function<PrintingBudget, T> representation) {
+    PrintingBudget budget = PRINTING_BUDGET.get();
+    if (budget != null) return representation.apply(budget);
+    budget = new PrintingBudget();
+    PRINTING_BUDGET.set(budget);
+    try {
+      return representation.apply(budget);
+    } finally {
+      PRINTING_BUDGET.remove();
+    }
+  }
+
+  private boolean overridesSingleOrMultiLineFormat() {
+    return getClass() != StandardRepresentation.class && OVERRIDES_SINGLE_OR_MULTI_LINE_FORMAT.get(getClass());
+  }
+
+  private static boolean overridesSingleOrMultiLineFormat(Class<?> representationType) {
+    for (Class<?> type = representationType; type != StandardRepresentation.class; type = type.getSuperclass()) {
+      if (declaresMethod(type, "singleLineFormat", Iterable.class, String.class, String.class)
+          || declaresMethod(type, "multiLineFormat", Iterable.class)
+          || declaresMethod(type, "singleLineFormat", Object[].class, Object.class)
+          || declaresMethod(type, "multiLineFormat", Object[].class, Object.class))
+        return true;
+    }
+    return false;
+  }
+
+  private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+    try {
+      type.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
+    return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
+  }
+
+  // elements are represented once, they are laid out on a single line unless it gets too long which is detected while
+  // building the single line description so that it is not fully built for nothing
+  private static String smartFormat(List<String> representedElements) {
+    String singleLineDescription = representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                  INDENTATION_FOR_SINGLE_LINE, maxLengthForSingleLineDescription);
+    if (singleLineDescription != null) return singleLineDescription;
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                          INDENTATION_AFTER_NEWLINE);
   }
 
   // this method only deals with max number of elements to display, the elements representation is already computed
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
+    return representGroup(representedElements, start, end, elementSeparator, indentation, Integer.MAX_VALUE);
+  }
+
+  // returns null as soon as the description gets longer than maxLength
+  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
+                                       String indentation, int maxLength) {
     int size = representedElements.size();
     StringBuilder desc = new StringBuilder(start);
     if (size <= maxElementsForPrinting) {
@@ -736,14 +903,17 @@ public class StandardRepresentation implements Representation {
         if (i != 0) desc.append(indentation);
         desc.append(representedElements.get(i));
         if (i != size - 1) desc.append(elementSeparator);
+        if (desc.length() > maxLength) return null;
       }
-      return desc.append(end).toString();
+      desc.append(end);
+      return desc.length() > maxLength ? null : desc.toString();
     }
     // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
     int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+      if (desc.length() > maxLength) return null;
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -764,8 +934,10 @@ public class StandardRepresentation implements Representation {
     for (int i = size - maxLastElementsToPrint; i < size; i++) {
       if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
       desc.append(indentation).append(representedElements.get(i));
+      if (desc.length() > maxLength) return null;
     }
-    return desc.append(end).toString();
+    desc.append(end);
+    return desc.length() > maxLength ? null : desc.toString();
   }
 
   private String toStringOf(ChangeDelta<?> changeDelta) {
@@ -798,10 +970,6 @@ public class StandardRepresentation implements Representation {
     return format(lines, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE, "   ", lines);
   }
 
-  private static boolean doesDescriptionFitOnSingleLine(String singleLineDescription) {
-    return singleLineDescription == null || singleLineDescription.length() <= maxLengthForSingleLineDescription;
-  }
-
   private static String identityHexCodeOf(Object obj) {
     return toHexString(System.identityHashCode(obj));
   }
@@ -831,7 +999,59 @@ public class StandardRepresentation implements Representation {
   }
 
   private String format(Map<?, ?> map, Object o) {
-    return o == map ? "(this Map)" : toStringOf(o);
+    return o == map ? "(this Map)" : memoizedToStringOf(o);
+  }
+
+  private String memoizedToStringOf(Object element) {
+    RepresentationMemo memo = RepresentationMemo.current();
+    if (memo == null || element == null) return toStringOf(element);
+    String representation = memo.get(this, element);
+    if (representation != null) return representation;
+    representation = toStringOf(element);
+    PrintingBudget budget = PRINTING_BUDGET.get();
+    // an element represented once the printing budget was exhausted might have been truncated, it can't be reused
+    if (budget == null || !budget.isExhausted()) memo.put(this, element, representation);
+    return representation;
+  }
+
+  private static final class PrintingBudget {
+
+    private long printedCharacters;
+
+    boolean isExhausted() {
+      return printedCharacters >= maxCharactersForPrinting;
+    }
+
+    // nested iterables/arrays/maps have already charged the elements they represented, only the rest is charged.
+    // other elements representations longer than the remaining budget are truncated to it.
+    String charge(Supplier<String> representation) {
+      long printedCharactersBefore = printedCharacters;
+      String represented = representation.get();
+      if (represented == null) return null;
+      long chargedByNestedElements = printedCharacters - printedCharactersBefore;
+      long remainingCharacters = maxCharactersForPrinting - printedCharactersBefore;
+      if (chargedByNestedElements == 0 && represented.length() > remainingCharacters) {
+        printedCharacters = maxCharactersForPrinting;
+        return truncate(represented, (int) Math.max(0, remainingCharacters));
+      }
+      printedCharacters += Math.max(0, represented.length() - chargedByNestedElements);
+      return represented;
+    }
+
+    private static String truncate(String represented, int length) {
+      // don't split a surrogate pair
+      if (length > 0 && Character.isHighSurrogate(represented.charAt(length - 1))) length--;
+      return represented.substring(0, length) + DEFAULT_MAX_ELEMENTS_EXCEEDED;
+    }
+  }
+
+  private enum Format {
+    COMPARATOR_BASED_COMPARISON_STRATEGY, CALENDAR, CLASS, DATE, DURATION, LOCAL_DATE, YEAR_MONTH, LOCAL_DATE_TIME,
+    OFFSET_DATE_TIME, ZONED_DATE_TIME, LONG_ADDER, ATOMIC_REFERENCE, ATOMIC_MARKABLE_REFERENCE, ATOMIC_STAMPED_REFERENCE,
+    ATOMIC_INTEGER_FIELD_UPDATER, ATOMIC_LONG_FIELD_UPDATER, ATOMIC_REFERENCE_FIELD_UPDATER, FILE, UNQUOTED_STRING, STRING,
+    CHAR_SEQUENCE, CHARACTER, COMPARATOR, SIMPLE_DATE_FORMAT, PREDICATE_DESCRIPTION, FUTURE, ARRAY, COLLECTION, MAP, TUPLE,
+    MAP_ENTRY, METHOD, INSERT_DELTA, CHANGE_DELTA, DELETE_DELTA, ITERABLE, ATOMIC_INTEGER, ATOMIC_BOOLEAN, ATOMIC_LONG, NUMBER,
+    MULTIPLE_ASSERTIONS_ERROR, THROWABLE, FALLBACK
   }
 
 }
@@ -15,18 +15,19 @@
  */
 package org.assertj.core.util;
 
+import static java.lang.StackWalker.Option.SHOW_REFLECT_FRAMES;
 import static java.lang.String.format;
+import static java.util.Arrays.copyOfRange;
 import static java.util.Arrays.stream;
-import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.extractor.Extractors.byName;
 import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extract;
-import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.StackWalker.StackFrame;
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,6 +49,8 @@ public final class Throwables {
   private static final String ORG_ASSERTJ = "org.assert";
   private static final String JAVA_BASE = "java.";
   private static final String JDK_BASE = "jdk.";
+  // reflection frames are shown as they are part of the Throwable stack traces
+  private static final StackWalker STACK_WALKER = StackWalker.getInstance(SHOW_REFLECT_FRAMES);
 
   private Throwables() {}
 
@@ -180,35 +183,64 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> purgedStack = list();
-    boolean firstAssertjStackTraceElementFound = false;
     StackTraceElement[] stackTrace = throwable.getStackTrace();
     // traverse stack from the root element (main program) as it makes it easier to identify the first assertj element
     // then we ignore all assertj and java or jdk elements.
+    // kept elements are stored from the end of the purged stack to preserve their order without reversing them.
+    StackTraceElement[] purgedStack = new StackTraceElement[stackTrace.length];
+    int purgedStackStart = purgedStack.length;
+    boolean firstAssertjStackTraceElementFound = false;
     for (int i = stackTrace.length - 1; i >= 0; i--) {
       StackTraceElement stackTraceElement = stackTrace[i];
-      if (isFromAssertJ(stackTraceElement)) {
+      if (isFromAssertJ(stackTraceElement.getClassName())) {
         firstAssertjStackTraceElementFound = true;
         continue; // skip element
       }
-      if (!firstAssertjStackTraceElementFound) {
-        // keep everything before first assertj stack trace element
-        purgedStack.add(stackTraceElement);
-      } else {
-        // we already are in assertj stack, so now we also ignore java elements too as they come from assertj
-        if (!isFromJavaOrJdkPackages(stackTraceElement)) purgedStack.add(stackTraceElement);
+      // keep everything before first assertj stack trace element, after it we also ignore java elements as they come from
+      // assertj
+      if (!firstAssertjStackTraceElementFound || !isFromJavaOrJdkPackages(stackTraceElement.getClassName())) {
+        purgedStack[--purgedStackStart] = stackTraceElement;
+      }
+    }
+    throwable.setStackTrace(copyOfRange(purgedStack, purgedStackStart, purgedStack.length));
+  }
+
+  /**
+   * Sets the stack trace of the given {@link Throwable} to the current thread stack trace without the elements related to
+   * AssertJ, the result is the same as {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)} for a
+   * {@code Throwable} created by AssertJ in the current thread.
+   * <p>
+   * The current thread frames are filtered with a {@link StackWalker}, only the kept frames are turned into
+   * {@link StackTraceElement}s whereas {@link Throwable#getStackTrace()} creates an element for each frame.
+   *
+   * @param throwable the {@code Throwable} created by AssertJ in the current thread to filter the stack trace of.
+   * @since 4.0.0
+   */
+  public static void removeAssertJRelatedElementsFromCurrentStackTrace(Throwable throwable) {
+    if (throwable == null) return;
+    List<StackFrame> frames = STACK_WALKER.walk(stackFrames -> stackFrames.collect(toList()));
+    // same traversal as removeAssertJRelatedElementsFromStackTrace
+    StackTraceElement[] purgedStack = new StackTraceElement[frames.size()];
+    int purgedStackStart = purgedStack.length;
+    boolean firstAssertjFrameFound = false;
+    for (int i = frames.size() - 1; i >= 0; i--) {
+      StackFrame frame = frames.get(i);
+      if (isFromAssertJ(frame.getClassName())) {
+        firstAssertjFrameFound = true;
+        continue; // skip frame
+      }
+      if (!firstAssertjFrameFound || !isFromJavaOrJdkPackages(frame.getClassName())) {
+        purgedStack[--purgedStackStart] = frame.toStackTraceElement();
       }
     }
-    reverse(purgedStack); // reverse as we traversed the stack in reverse order when purging it.
-    throwable.setStackTrace(purgedStack.toArray(new StackTraceElement[0]));
+    throwable.setStackTrace(copyOfRange(purgedStack, purgedStackStart, purgedStack.length));
   }
 
-  private static boolean isFromAssertJ(StackTraceElement stackTrace) {
-    return stackTrace.getClassName().contains(ORG_ASSERTJ);
+  private static boolean isFromAssertJ(String className) {
+    return className.contains(ORG_ASSERTJ);
   }
 
-  private static boolean isFromJavaOrJdkPackages(StackTraceElement stackTrace) {
-    String className = stackTrace.getClassName();
+  private static boolean isFromJavaOrJdkPackages(String className) {
     return className.contains(JAVA_BASE) || className.contains(JDK_BASE);
   }
 
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 import org.assertj.core.util.diff.myers.MyersDiff;
 
 /**
@@ -34,11 +35,19 @@ import org.assertj.core.util.diff.myers.MyersDiff;
  */
 public class DiffUtils {
 
+  // above this number of elements, sequences are compared with the linear space algorithm which stops looking for a
+  // minimal patch after this edit cost
+  private static final int LARGE_DIFF_SIZE = 10_000;
+  private static final int LARGE_DIFF_MAX_EDIT_COST = 1024;
+
   private static Pattern unifiedDiffChunkRe = Pattern.compile("^@@\\s+-(?:(\\d+)(?:,(\\d+))?)\\s+\\+(?:(\\d+)(?:,(\\d+))?)\\s+@@$");
 
   /**
    * Computes the difference between the original and revised list of elements
    * with default diff algorithm
+   * <p>
+   * Large sequences are compared with {@link LinearSpaceMyersDiff} limited to a
+   * maximum edit cost, their patch might thus not be minimal when they differ a lot.
    *
    * @param <T> the type of elements.
    * @param original
@@ -49,7 +58,54 @@ public class DiffUtils {
    *         revised sequences. Never {@code null}.
    */
   public static <T> Patch<T> diff(List<T> original, List<T> revised) {
-    return DiffUtils.diff(original, revised, new MyersDiff<>());
+    checkArgument(original != null, "original must not be null");
+    checkArgument(revised != null, "revised must not be null");
+    DiffAlgorithm<T> algorithm = original.size() + revised.size() > LARGE_DIFF_SIZE
+        ? new LinearSpaceMyersDiff<>(LARGE_DIFF_MAX_EDIT_COST)
+        : new MyersDiff<>();
+    return DiffUtils.diff(original, revised, algorithm);
+  }
+
+  /**
+   * Computes the first differences between the original and revised list of elements
+   * with the linear space variant of the Myers algorithm, the search of differences
+   * stops once the given number of deltas is found.
+   * <p>
+   * Like {@link #diff(List, List)}, large sequences are compared with a maximum edit cost.
+   *
+   * @param <T> the type of elements.
+   * @param original
+   *            The original text. Must not be {@code null}.
+   * @param revised
+   *            The revised text. Must not be {@code null}.
+   * @param maxDeltas
+   *            The maximum number of deltas of the patch. Must be greater than 0.
+   * @return The patch describing the first differences between the original and
+   *         revised sequences. Never {@code null}.
+   * @since 4.0.0
+   */
+  public static <T> Patch<T> diff(List<T> original, List<T> revised, int maxDeltas) {
+    checkArgument(original != null, "original must not be null");
+    checkArgument(revised != null, "revised must not be null");
+    int maxEditCost = original.size() + revised.size() > LARGE_DIFF_SIZE ? LARGE_DIFF_MAX_EDIT_COST : Integer.MAX_VALUE;
+    return DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>(maxEditCost, maxDeltas));
+  }
+
+  /**
+   * Computes the minimal difference between the original and revised list of elements
+   * with the linear space variant of the Myers algorithm.
+   *
+   * @param <T> the type of elements.
+   * @param original
+   *            The original text. Must not be {@code null}.
+   * @param revised
+   *            The revised text. Must not be {@code null}.
+   * @return The patch describing the difference between the original and
+   *         revised sequences. Never {@code null}.
+   * @since 4.0.0
+   */
+  public static <T> Patch<T> linearSpaceDiff(List<T> original, List<T> revised) {
+    return DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>());
   }
 
   /**
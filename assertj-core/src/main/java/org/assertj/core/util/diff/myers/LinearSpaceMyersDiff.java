@@ -0,0 +1,293 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the <a href="http://www.xmailserver.org/diff2.pdf">Eugene Myers</a> differencing algorithm.
+ * <p>
+ * Unlike {@link MyersDiff} which keeps a path node for every explored diagonal, this algorithm finds the middle of the
+ * edit path by searching it from both ends of the sequences at once and then splits the sequences around it until no
+ * differences are left. Only two arrays of diagonals are needed for each split, so memory stays proportional to the
+ * size of the sequences instead of their size times the number of differences.
+ * <p>
+ * Sequences with many differences can be costly to compare exactly, the search of the middle of the edit path can thus
+ * be limited to a maximum edit cost. Once reached, the sequences are split at the furthest point reached from their start
+ * which still gives a valid but maybe not minimal patch.
+ * <p>
+ * The differences are found from the start of the sequences to their end, the search can thus also be limited to a
+ * maximum number of deltas, the patch then only describes the first differences of the sequences.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 4.0.0
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final Equalizer<T> equalizer = Object::equals;
+  private final int maxEditCost;
+  private final int maxDeltas;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm computing minimal patches.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm which stops looking for a minimal patch when
+   * the middle of the edit path can't be found within the given edit cost.
+   *
+   * @param maxEditCost the maximum number of differences explored from each end of the sequences before splitting them.
+   * @throws IllegalArgumentException if the given maximum edit cost is not greater than 0.
+   */
+  public LinearSpaceMyersDiff(int maxEditCost) {
+    this(maxEditCost, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm which stops looking for a minimal patch when
+   * the middle of the edit path can't be found within the given edit cost and stops looking for differences once the
+   * given number of deltas is found.
+   *
+   * @param maxEditCost the maximum number of differences explored from each end of the sequences before splitting them.
+   * @param maxDeltas the maximum number of deltas of the computed patches.
+   * @throws IllegalArgumentException if the given maximum edit cost or maximum number of deltas is not greater than 0.
+   */
+  public LinearSpaceMyersDiff(int maxEditCost, int maxDeltas) {
+    checkArgument(maxEditCost > 0, "maxEditCost must be greater than 0 but was %s", maxEditCost);
+    checkArgument(maxDeltas > 0, "maxDeltas must be greater than 0 but was %s", maxDeltas);
+    this.maxEditCost = maxEditCost;
+    this.maxDeltas = maxDeltas;
+  }
+
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    List<T> orig = original instanceof RandomAccess ? original : new ArrayList<>(original);
+    List<T> rev = revised instanceof RandomAccess ? revised : new ArrayList<>(revised);
+    return buildPatch(matchesOf(orig, rev), orig, rev);
+  }
+
+  /**
+   * Splits the sequences until only matching or differing ranges are left, an explicit stack is used instead of recursion
+   * as the number of splits grows with the number of differences.
+   * <p>
+   * The common last elements of a range are only matched after its other elements and the first part of a split range
+   * before the second one, the matches are thus found in order and the search stops once the maximum number of deltas
+   * lies between them.
+   */
+  private Matches matchesOf(List<T> orig, List<T> rev) {
+    Matches matches = new Matches();
+    Deque<Step> steps = new ArrayDeque<>();
+    // the end of the sequences, matching it adds the differences between the last match and the end
+    steps.push(new Match(orig.size(), rev.size(), 0));
+    steps.push(new Range(0, orig.size(), 0, rev.size()));
+    while (!steps.isEmpty() && matches.deltas < maxDeltas) {
+      Step step = steps.pop();
+      if (step instanceof Match match) {
+        matches.add(match);
+        continue;
+      }
+      Range range = (Range) step;
+      int origStart = range.origStart, origEnd = range.origEnd;
+      int revStart = range.revStart, revEnd = range.revEnd;
+      int prefix = 0;
+      while (origStart + prefix < origEnd && revStart + prefix < revEnd
+             && equals(orig.get(origStart + prefix), rev.get(revStart + prefix))) {
+        prefix++;
+      }
+      if (prefix > 0) matches.add(new Match(origStart, revStart, prefix));
+      origStart += prefix;
+      revStart += prefix;
+      int suffix = 0;
+      while (origEnd - suffix > origStart && revEnd - suffix > revStart
+             && equals(orig.get(origEnd - suffix - 1), rev.get(revEnd - suffix - 1))) {
+        suffix++;
+      }
+      origEnd -= suffix;
+      revEnd -= suffix;
+      if (suffix > 0) steps.push(new Match(origEnd, revEnd, suffix));
+      if (origStart == origEnd || revStart == revEnd) continue;
+      Range split = split(new Range(origStart, origEnd, revStart, revEnd), orig, rev);
+      if (split == null) continue; // the whole range is a single change
+      steps.push(new Range(split.origEnd, origEnd, split.revEnd, revEnd));
+      steps.push(split);
+    }
+    return matches;
+  }
+
+  /**
+   * Finds the middle of the edit path of the given range, the returned range goes from the start of the given range to
+   * the middle of its edit path. Returns null if the range has no common elements or if it can't be split within the
+   * maximum edit cost.
+   */
+  private Range split(Range range, List<T> orig, List<T> rev) {
+    final int N = range.origEnd - range.origStart;
+    final int M = range.revEnd - range.revStart;
+    final int maxD = Math.min((N + M + 1) / 2, maxEditCost);
+    final int offset = maxD + 1;
+    final int[] forward = new int[2 * offset + 1];
+    final int[] backward = new int[2 * offset + 1];
+    java.util.Arrays.fill(forward, -1);
+    java.util.Arrays.fill(backward, -1);
+    forward[offset + 1] = 0;
+    backward[offset + 1] = 0;
+    final int delta = N - M;
+    // with an odd delta the forward path overlaps the backward one first, with an even delta it is the other way around
+    final boolean oddDelta = (delta & 1) != 0;
+    // diagonals which went past the end of one of the sequences are not explored anymore
+    int forwardStart = 0, forwardEnd = 0, backwardStart = 0, backwardEnd = 0;
+    int furthestI = 0, furthestJ = 0;
+    for (int d = 0; d < maxD; d++) {
+      for (int k = -d + forwardStart; k <= d - forwardEnd; k += 2) {
+        int kOffset = offset + k;
+        int i = (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1]))
+            ? forward[kOffset + 1]
+            : forward[kOffset - 1] + 1;
+        int j = i - k;
+        while (i < N && j < M && equals(orig.get(range.origStart + i), rev.get(range.revStart + j))) {
+          i++;
+          j++;
+        }
+        forward[kOffset] = i;
+        if (i > N) {
+          forwardEnd += 2;
+        } else if (j > M) {
+          forwardStart += 2;
+        } else {
+          if (i + j > furthestI + furthestJ) {
+            furthestI = i;
+            furthestJ = j;
+          }
+          if (oddDelta) {
+            int backwardOffset = offset + delta - k;
+            if (backwardOffset >= 0 && backwardOffset < backward.length && backward[backwardOffset] != -1
+                && i >= N - backward[backwardOffset]) {
+              return range.splitAt(i, j);
+            }
+          }
+        }
+      }
+      for (int k = -d + backwardStart; k <= d - backwardEnd; k += 2) {
+        int kOffset = offset + k;
+        int i = (k == -d || (k != d && backward[kOffset - 1] < backward[kOffset + 1]))
+            ? backward[kOffset + 1]
+            : backward[kOffset - 1] + 1;
+        int j = i - k;
+        while (i < N && j < M
+               && equals(orig.get(range.origEnd - i - 1), rev.get(range.revEnd - j - 1))) {
+          i++;
+          j++;
+        }
+        backward[kOffset] = i;
+        if (i > N) {
+          backwardEnd += 2;
+        } else if (j > M) {
+          backwardStart += 2;
+        } else if (!oddDelta) {
+          int forwardOffset = offset + delta - k;
+          if (forwardOffset >= 0 && forwardOffset < forward.length && forward[forwardOffset] != -1) {
+            int forwardI = forward[forwardOffset];
+            int forwardJ = forwardI - (forwardOffset - offset);
+            if (forwardI >= N - i) return range.splitAt(forwardI, forwardJ);
+          }
+        }
+      }
+    }
+    // maximum edit cost reached, split at the furthest point reached from the start unless it does not split anything
+    boolean canSplit = furthestI + furthestJ > 0 && (furthestI < N || furthestJ < M);
+    return maxD < (N + M + 1) / 2 && canSplit ? range.splitAt(furthestI, furthestJ) : null;
+  }
+
+  private boolean equals(T orig, T rev) {
+    return equalizer.equals(orig, rev);
+  }
+
+  private Patch<T> buildPatch(Matches matches, List<T> orig, List<T> rev) {
+    Patch<T> patch = new Patch<>();
+    int i = 0;
+    int j = 0;
+    for (Match match : matches.matches) {
+      if (match.origStart > i || match.revStart > j) {
+        Chunk<T> original = new Chunk<>(i, new ArrayList<>(orig.subList(i, match.origStart)));
+        Chunk<T> revised = new Chunk<>(j, new ArrayList<>(rev.subList(j, match.revStart)));
+        Delta<T> delta;
+        if (original.size() == 0) {
+          delta = new InsertDelta<>(original, revised);
+        } else if (revised.size() == 0) {
+          delta = new DeleteDelta<>(original, revised);
+        } else {
+          delta = new ChangeDelta<>(original, revised);
+        }
+        patch.addDelta(delta);
+      }
+      i = match.origStart + match.length;
+      j = match.revStart + match.length;
+    }
+    return patch;
+  }
+
+  /**
+   * The matches found in order and the number of deltas between them.
+   */
+  private static class Matches {
+
+    private final List<Match> matches = new ArrayList<>();
+    private int deltas;
+    private int origEnd;
+    private int revEnd;
+
+    void add(Match match) {
+      if (match.origStart > origEnd || match.revStart > revEnd) deltas++;
+      matches.add(match);
+      origEnd = match.origStart + match.length;
+      revEnd = match.revStart + match.length;
+    }
+  }
+
+  private sealed interface Step permits Match, Range {
+  }
+
+  private record Match(int origStart, int revStart, int length) implements Step {
+  }
+
+  private record Range(int origStart, int origEnd, int revStart, int revEnd) implements Step {
+
+    /**
+     * Returns the part of this range going from its start to the given point relative to its start.
+     */
+    Range splitAt(int i, int j) {
+      return new Range(origStart, origStart + i, revStart, revStart + j);
+    }
+  }
+}
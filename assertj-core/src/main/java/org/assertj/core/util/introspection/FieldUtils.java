@@ -20,8 +20,8 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.internal.DeclaredFields;
 
 /**
  * Shameless copy from Apache commons lang and then modified to keep only the interesting stuff for AssertJ.
@@ -34,9 +34,6 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 class FieldUtils {
 
-  // use ConcurrentHashMap as FieldUtils can be used in a multi-thread context
-  private static final Map<Class<?>, Map<String, Field>> fieldsPerClass = new ConcurrentHashMap<>();
-
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -67,20 +64,18 @@ class FieldUtils {
 
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
-      try {
-        Field field = getDeclaredField(fieldName, acls);
-        // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
+      // declared fields are looked up once per class, classes not declaring the field are skipped without exceptions
+      if (DeclaredFields.of(acls).named(fieldName) == null) continue;
+      // the cached field is shared, callers get their own copy as they may make it accessible
+      Field field = declaredFieldCopy(acls, fieldName);
+      if (!Modifier.isPublic(field.getModifiers())) {
+        if (forceAccess) {
+          field.setAccessible(true);
+        } else {
+          throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
         }
-        return field;
-      } catch (NoSuchFieldException ex) { // NOPMD
-        // ignore
       }
+      return field;
     }
     // check the public interface case. This must be manually searched for
     // incase there is a public supersuperclass field hidden by a private/package
@@ -99,23 +94,13 @@ class FieldUtils {
     return match;
   }
 
-  /**
-   * Returns the {@link Field} corresponding to the given fieldName for the specified class.
-   * <p>
-   * Caches the field after getting it for efficiency.
-   *
-   * @param fieldName the name of the field to get
-   * @param acls the class to introspect
-   * @return the {@link Field} corresponding to the given fieldName for the specified class.
-   * @throws NoSuchFieldException bubbled up from the call to {@link Class#getDeclaredField(String)}
-   */
-  private static Field getDeclaredField(String fieldName, Class<?> acls) throws NoSuchFieldException {
-    fieldsPerClass.computeIfAbsent(acls, unused -> new ConcurrentHashMap<>());
-    // can't use computeIfAbsent for fieldName as getDeclaredField throws a checked exception
-    if (fieldsPerClass.get(acls).containsKey(fieldName)) return fieldsPerClass.get(acls).get(fieldName);
-    Field field = acls.getDeclaredField(fieldName);
-    fieldsPerClass.get(acls).put(fieldName, field);
-    return acls.getDeclaredField(fieldName);
+  private static Field declaredFieldCopy(Class<?> cls, String fieldName) {
+    try {
+      return cls.getDeclaredField(fieldName);
+    } catch (NoSuchFieldException e) {
+      // not expected since the class declares the field
+      throw new IllegalStateException(e);
+    }
   }
 
   /**
@@ -21,7 +21,6 @@ import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Preconditions.checkNotNullOrEmpty;
 import static org.assertj.core.util.Strings.quote;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Map;
@@ -60,7 +59,7 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    Method getter = findGetter(propertyName, target.getClass());
     if (getter == null) {
       throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
     }
@@ -70,18 +69,19 @@ public final class Introspection {
     try {
       // force access for static class with public getter
       getter.setAccessible(true);
-      getter.invoke(target);
-    } catch (InvocationTargetException ex) {
-      String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getter.getName(),
-                                                                                   target.getClass().getSimpleName(),
-                                                                                   ex.getTargetException());
-      throw new IntrospectionError(message, ex, ex.getTargetException());
     } catch (Exception t) {
       throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
     }
     return getter;
   }
 
+  static IntrospectionError getterInvocationError(String getterName, Object target, Throwable cause,
+                                                  Throwable getterInvocationException) {
+    String message = "Unable to invoke getter %s in %s, exception: %s".formatted(getterName, target.getClass().getSimpleName(),
+                                                                                 getterInvocationException);
+    return new IntrospectionError(message, cause, getterInvocationException);
+  }
+
   public static void setExtractBareNamePropertyMethods(boolean bareNamePropertyMethods) {
     ConfigurationProvider.loadRegisteredConfiguration();
     Introspection.bareNamePropertyMethods = bareNamePropertyMethods;
@@ -98,18 +98,18 @@ public final class Introspection {
     return message.formatted(property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  static Method findGetter(String propertyName, Class<?> type) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, type);
     if (isValidGetter(getter)) return getter;
-    if (bareNamePropertyMethods || target instanceof Record) {
+    if (bareNamePropertyMethods || Record.class.isAssignableFrom(type)) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, type);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, type);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -117,8 +117,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> type) {
+    final MethodKey methodKey = new MethodKey(name, type);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.assertj.core.util.introspection.Introspection.getterInvocationError;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads a property or field of a given name from instances of a given type.
+ * <p>
+ * The way to read the value (getter, bare name method, record component and field) is resolved once with the same rules
+ * as {@link PropertySupport} and {@link FieldSupport} and bound to {@link MethodHandle}s, reading values then neither
+ * looks up members nor relies on exceptions. When the getter throws an exception, the field is read instead and when
+ * there is no such field, an {@link IntrospectionError} holding the getter exception is thrown. When no property or field
+ * matches the name, {@link #read(Object)} returns {@link #UNREADABLE} and the caller is expected to fall back to the
+ * regular introspection to look for a map key or report the error.
+ */
+final class PropertyOrFieldAccessor {
+
+  static final Object UNREADABLE = new Object();
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType READER_TYPE = methodType(Object.class, Object.class);
+
+  private final String getterName;
+  private final MethodHandle getter;
+  private final MethodHandle field;
+  private final boolean bareNamePropertyMethods;
+  private final boolean allowUsingPrivateFields;
+
+  private PropertyOrFieldAccessor(String getterName, MethodHandle getter, MethodHandle field, boolean bareNamePropertyMethods,
+                                  boolean allowUsingPrivateFields) {
+    this.getterName = getterName;
+    this.getter = getter;
+    this.field = field;
+    this.bareNamePropertyMethods = bareNamePropertyMethods;
+    this.allowUsingPrivateFields = allowUsingPrivateFields;
+  }
+
+  static PropertyOrFieldAccessor resolve(String name, Class<?> type, boolean bareNamePropertyMethods,
+                                         boolean allowUsingPrivateFields) {
+    Method getter = publicGetter(name, type);
+    return new PropertyOrFieldAccessor(getter == null ? null : getter.getName(), getterHandle(getter),
+                                       fieldHandle(name, type, allowUsingPrivateFields), bareNamePropertyMethods,
+                                       allowUsingPrivateFields);
+  }
+
+  boolean isResolvedWith(boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+    return this.bareNamePropertyMethods == bareNamePropertyMethods && this.allowUsingPrivateFields == allowUsingPrivateFields;
+  }
+
+  /**
+   * @return whether a property or a field matches the name, if not the name might be a map key.
+   */
+  boolean isResolved() {
+    return getter != null || field != null;
+  }
+
+  Object read(Object target) {
+    if (getter == null) return readField(target);
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (Throwable getterInvocationException) {
+      // like the regular introspection, read the field instead and report the getter exception if it can't be read
+      Object value = readField(target);
+      if (value == UNREADABLE) throw getterInvocationError(getterName, target, getterInvocationException,
+                                                           getterInvocationException);
+      return value;
+    }
+  }
+
+  private Object readField(Object target) {
+    if (field == null) return UNREADABLE;
+    try {
+      return (Object) field.invokeExact(target);
+    } catch (Throwable unexpected) {
+      // let the regular introspection report the error
+      return UNREADABLE;
+    }
+  }
+
+  // same rules as Introspection.getPropertyGetter
+  private static Method publicGetter(String propertyName, Class<?> type) {
+    Method getter = Introspection.findGetter(propertyName, type);
+    return getter == null || !isPublic(getter.getModifiers()) ? null : getter;
+  }
+
+  private static MethodHandle getterHandle(Method getter) {
+    if (getter == null) return null;
+    try {
+      // force access for static class with public getter
+      getter.setAccessible(true);
+      return LOOKUP.unreflect(getter).asType(READER_TYPE);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  // same rules as FieldUtils.readField
+  private static MethodHandle fieldHandle(String fieldName, Class<?> type, boolean allowUsingPrivateFields) {
+    try {
+      Field field = FieldUtils.getField(type, fieldName, allowUsingPrivateFields);
+      if (field == null || isStatic(field.getModifiers()) || field.isSynthetic()) return null;
+      // force access like for the getter, the lookup module might not read the module declaring the public field
+      field.trySetAccessible();
+      return LOOKUP.unreflectGetter(field).asType(READER_TYPE);
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+}
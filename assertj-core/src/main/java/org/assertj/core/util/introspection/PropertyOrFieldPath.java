@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.introspection;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Reads the value of a possibly nested property or field like {@code "address.city.name"}, the name is split once and
+ * each segment caches the accessors resolved for the last few types it has been applied to.
+ * <p>
+ * Reading a value gives the same result as {@link PropertyOrFieldSupport#getValueOf(String, Object)}.
+ */
+final class PropertyOrFieldPath implements Function<Object, Object> {
+
+  private static final int MAX_CACHED_TYPES = 4;
+
+  private final PropertyOrFieldSupport propertyOrFieldSupport;
+  private final String propertyOrFieldName;
+  private final Segment[] segments;
+
+  PropertyOrFieldPath(PropertyOrFieldSupport propertyOrFieldSupport, String propertyOrFieldName) {
+    this.propertyOrFieldSupport = propertyOrFieldSupport;
+    this.propertyOrFieldName = propertyOrFieldName;
+    this.segments = propertyOrFieldName == null || propertyOrFieldName.isEmpty() ? null : segmentsOf(propertyOrFieldName);
+  }
+
+  @Override
+  public Object apply(Object input) {
+    PropertyOrFieldSupport.checkValueOfArguments(propertyOrFieldName, input);
+    Object value = input;
+    for (int i = 0; i < segments.length; i++) {
+      // when one of the intermediate nested property/field value is null, return null
+      if (value == null) return null;
+      value = segments[i].valueOf(value);
+    }
+    return value;
+  }
+
+  private Segment[] segmentsOf(String propertyOrFieldName) {
+    // split the name the same way PropertyOrFieldSupport.getValueOf does
+    int count = 1;
+    String name = propertyOrFieldName;
+    while (PropertyOrFieldSupport.isNested(name)) {
+      name = name.substring(name.indexOf('.') + 1);
+      count++;
+    }
+    Segment[] segments = new Segment[count];
+    name = propertyOrFieldName;
+    for (int i = 0; i < count - 1; i++) {
+      int separatorIndex = name.indexOf('.');
+      segments[i] = new Segment(name.substring(0, separatorIndex));
+      name = name.substring(separatorIndex + 1);
+    }
+    segments[count - 1] = new Segment(name);
+    return segments;
+  }
+
+  /**
+   * A single property or field name with an inline cache of the accessors resolved for the types it has been read from,
+   * types beyond {@link #MAX_CACHED_TYPES} go through the {@link PropertyOrFieldSupport} cache.
+   */
+  private final class Segment {
+
+    private final String name;
+    private volatile CachedAccessor[] cachedAccessors = new CachedAccessor[0];
+
+    private Segment(String name) {
+      this.name = name;
+    }
+
+    private Object valueOf(Object input) {
+      return propertyOrFieldSupport.getSimpleValue(name, input, accessorFor(input.getClass()));
+    }
+
+    private PropertyOrFieldAccessor accessorFor(Class<?> type) {
+      CachedAccessor[] cachedAccessors = this.cachedAccessors;
+      for (CachedAccessor cachedAccessor : cachedAccessors) {
+        if (cachedAccessor.type == type && propertyOrFieldSupport.isUpToDate(cachedAccessor.accessor)) {
+          return cachedAccessor.accessor;
+        }
+      }
+      PropertyOrFieldAccessor accessor = propertyOrFieldSupport.accessorFor(name, type);
+      cache(type, accessor, cachedAccessors);
+      return accessor;
+    }
+
+    private void cache(Class<?> type, PropertyOrFieldAccessor accessor, CachedAccessor[] cachedAccessors) {
+      // replace the outdated accessor of the given type if any
+      int index = 0;
+      while (index < cachedAccessors.length && cachedAccessors[index].type != type) index++;
+      if (index == MAX_CACHED_TYPES) return;
+      CachedAccessor[] updatedCachedAccessors = Arrays.copyOf(cachedAccessors, Math.max(cachedAccessors.length, index + 1));
+      updatedCachedAccessors[index] = new CachedAccessor(type, accessor);
+      this.cachedAccessors = updatedCachedAccessors;
+    }
+
+  }
+
+  private record CachedAccessor(Class<?> type, PropertyOrFieldAccessor accessor) {
+  }
+
+}
@@ -17,14 +17,25 @@ package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.PropertyOrFieldAccessor.UNREADABLE;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // resolved accessors per type and property/field name
+  private final ClassValue<Map<String, PropertyOrFieldAccessor>> accessors = new ClassValue<>() {
+    @Override
+    protected Map<String, PropertyOrFieldAccessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -46,9 +57,7 @@ public class PropertyOrFieldSupport {
   }
 
   public Object getValueOf(String propertyOrFieldName, Object input) {
-    checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
-    checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
-    checkArgument(input != null, "The object to extract property/field from should not be null");
+    checkValueOfArguments(propertyOrFieldName, input);
 
     if (isNested(propertyOrFieldName)) {
       String firstPropertyName = popNameFrom(propertyOrFieldName);
@@ -62,11 +71,65 @@ public class PropertyOrFieldSupport {
     return getSimpleValue(propertyOrFieldName, input);
   }
 
-  @SuppressWarnings({ "unchecked", "rawtypes" })
+  /**
+   * Returns a function reading the given property or field like {@link #getValueOf(String, Object)} does, the given name
+   * is parsed once and the way to read each nested property or field is cached per type.
+   *
+   * @param propertyOrFieldName the name of the property or field to read, it may be a nested one like {@code "address.city"}.
+   * @return a function reading the given property or field.
+   */
+  public Function<Object, Object> compilePath(String propertyOrFieldName) {
+    return new PropertyOrFieldPath(this, propertyOrFieldName);
+  }
+
+  static void checkValueOfArguments(String propertyOrFieldName, Object input) {
+    checkArgument(propertyOrFieldName != null, "The name of the property/field to read should not be null");
+    checkArgument(!propertyOrFieldName.isEmpty(), "The name of the property/field to read should not be empty");
+    checkArgument(input != null, "The object to extract property/field from should not be null");
+  }
+
   public Object getSimpleValue(String name, Object input) {
+    return getSimpleValue(name, input, accessorFor(name, input.getClass()));
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  Object getSimpleValue(String name, Object input, PropertyOrFieldAccessor accessor) {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional optional && name.equals("value")) return optional.orElse(null);
 
+    Object value;
+    try {
+      value = accessor.read(input);
+    } catch (IntrospectionError getterInvocationError) {
+      // like the regular introspection, a map key matching the name is preferred to reporting the getter exception
+      if (input instanceof Map<?, ?> map && map.containsKey(name)) return map.get(name);
+      throw getterInvocationError;
+    }
+    if (value != UNREADABLE) return value;
+    // if input is a map and no property or field matches the given name, try to use the name value as a map key
+    if (!accessor.isResolved() && !isNested(name) && input instanceof Map<?, ?> map && map.containsKey(name)) {
+      return map.get(name);
+    }
+    // introspect again to report the error
+    return introspectSimpleValue(name, input);
+  }
+
+  PropertyOrFieldAccessor accessorFor(String name, Class<?> type) {
+    Map<String, PropertyOrFieldAccessor> accessorsByName = accessors.get(type);
+    PropertyOrFieldAccessor accessor = accessorsByName.get(name);
+    if (accessor == null || !isUpToDate(accessor)) {
+      accessor = PropertyOrFieldAccessor.resolve(name, type, canExtractBareNamePropertyMethods(),
+                                                 fieldSupport.isAllowedToUsePrivateFields());
+      accessorsByName.put(name, accessor);
+    }
+    return accessor;
+  }
+
+  boolean isUpToDate(PropertyOrFieldAccessor accessor) {
+    return accessor.isResolvedWith(canExtractBareNamePropertyMethods(), fieldSupport.isAllowedToUsePrivateFields());
+  }
+
+  private Object introspectSimpleValue(String name, Object input) {
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -109,7 +172,7 @@ public class PropertyOrFieldSupport {
     return propertyOrFieldNameChain.substring(propertyOrFieldNameChain.indexOf(SEPARATOR) + 1);
   }
 
-  private boolean isNested(String propertyOrFieldName) {
+  static boolean isNested(String propertyOrFieldName) {
     return propertyOrFieldName.contains(SEPARATOR)
            && !propertyOrFieldName.startsWith(SEPARATOR)
            && !propertyOrFieldName.endsWith(SEPARATOR);
@@ -22,7 +22,9 @@ import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.introspection.Introspection.getPropertyGetter;
+import static org.assertj.core.util.introspection.Introspection.getterInvocationError;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.List;
@@ -154,6 +156,8 @@ public class PropertySupport {
                                                                                                                                 target,
                                                                                                                                 clazz);
       throw new IntrospectionError(msg, e);
+    } catch (InvocationTargetException ex) {
+      throw getterInvocationError(getter.getName(), target, ex, ex.getTargetException());
     } catch (Exception unexpected) {
       String msg = "Unable to obtain the value of the property <'%s'> from <%s>".formatted(propertyName, target);
       throw new IntrospectionError(msg, unexpected);
@@ -208,7 +212,8 @@ public class PropertySupport {
 
   public boolean publicGetterExistsFor(String fieldName, Object actual) {
     try {
-      getPropertyGetter(fieldName, actual);
+      // a getter throwing an exception can't be used to read the property
+      propertyValue(fieldName, Object.class, actual);
     } catch (IntrospectionError e) {
       return false;
     }
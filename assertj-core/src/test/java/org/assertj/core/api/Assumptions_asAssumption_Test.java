@@ -0,0 +1,274 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.AssumptionExceptionFactory.getPreferredAssumptionException;
+import static org.assertj.core.api.Assumptions.asAssumption;
+import static org.assertj.core.api.Assumptions.assertTypesWithAssumptionFactory;
+import static org.assertj.core.api.Assumptions.assumptionConstructor;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.configuration.PreferredAssumptionException.AUTO_DETECT;
+import static org.assertj.core.configuration.PreferredAssumptionException.JUNIT5;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.configuration.PreferredAssumptionException;
+import org.assertj.core.testkit.MutatesGlobalConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Covers each assumption factory used when an assumption method returns another assert, e.g. {@code size()}.
+ */
+@MutatesGlobalConfiguration
+class Assumptions_asAssumption_Test {
+
+  private static final PreferredAssumptionException DEFAULT_PREFERRED_ASSUMPTION_EXCEPTION = getPreferredAssumptionException();
+
+  @AfterEach
+  void afterEachTest() {
+    Assumptions.setPreferredAssumptionException(DEFAULT_PREFERRED_ASSUMPTION_EXCEPTION);
+  }
+
+  @ParameterizedTest
+  @MethodSource("assertions")
+  void should_create_an_assumption_of_the_expected_type_with_the_same_actual(AbstractAssert<?, ?> assertion,
+                                                                             Class<?> expectedAssumptionType) {
+    // WHEN
+    AbstractAssert<?, ?> assumption = asAssumption(assertion);
+    // THEN
+    then(assumption.getClass().getSuperclass()).isEqualTo(expectedAssumptionType);
+    then(assumption.actual).isEqualTo(assertion.actual);
+  }
+
+  @ParameterizedTest
+  @MethodSource("assertions")
+  void should_throw_the_preferred_assumption_exception_when_the_assumption_is_not_met(AbstractAssert<?, ?> assertion) {
+    for (PreferredAssumptionException preferredAssumptionException : List.of(JUNIT5, AUTO_DETECT)) {
+      // GIVEN
+      Assumptions.setPreferredAssumptionException(preferredAssumptionException);
+      AbstractAssert<?, ?> assumption = asAssumption(assertion);
+      // WHEN
+      Throwable thrown = catchThrowable(assumption::isNull);
+      // THEN
+      then(thrown).as(preferredAssumptionException.toString())
+                  .isInstanceOf(TestAbortedException.class)
+                  .cause()
+                  .isInstanceOf(AssertionError.class);
+    }
+  }
+
+  @Test
+  void should_cover_every_assumption_factory() {
+    // WHEN
+    Set<Class<?>> coveredAssertTypes = new HashSet<>();
+    assertions().map(arguments -> (AbstractAssert<?, ?>) arguments.get()[0])
+                .forEach(assertion -> coveredAssertTypes.add(firstAssertTypeWithAssumptionFactory(assertion)));
+    // THEN
+    then(coveredAssertTypes).containsExactlyInAnyOrderElementsOf(assertTypesWithAssumptionFactory());
+  }
+
+  @Test
+  void should_reuse_the_cached_assumption_constructor() {
+    // GIVEN
+    Class<?> assumptionType = asAssumption(assertThat(1)).getClass();
+    Class<?>[] constructorTypes = { Integer.class };
+    // WHEN
+    var assumptionConstructor = assumptionConstructor(assumptionType, constructorTypes);
+    // THEN
+    then(assumptionConstructor(assumptionType, constructorTypes)).isSameAs(assumptionConstructor);
+  }
+
+  private static Class<?> firstAssertTypeWithAssumptionFactory(AbstractAssert<?, ?> assertion) {
+    return assertTypesWithAssumptionFactory().stream()
+                                             .filter(assertType -> assertType.isInstance(assertion))
+                                             .findFirst()
+                                             .orElseThrow();
+  }
+
+  static Stream<Arguments> assertions() {
+    File file = temporaryFile();
+    return Stream.of(arguments(assertThat(new Object[] { "a" }), ObjectArrayAssert.class),
+                     arguments(assertThat(new AtomicBoolean()), AtomicBooleanAssert.class),
+                     arguments(assertThat(new AtomicInteger()), AtomicIntegerAssert.class),
+                     arguments(assertThat(new AtomicIntegerArray(1)), AtomicIntegerArrayAssert.class),
+                     arguments(assertThat(AtomicIntegerFieldUpdater.newUpdater(Counters.class, "intCounter")),
+                               AtomicIntegerFieldUpdaterAssert.class),
+                     arguments(assertThat(new AtomicLong()), AtomicLongAssert.class),
+                     arguments(assertThat(new AtomicLongArray(1)), AtomicLongArrayAssert.class),
+                     arguments(assertThat(AtomicLongFieldUpdater.newUpdater(Counters.class, "longCounter")),
+                               AtomicLongFieldUpdaterAssert.class),
+                     arguments(assertThat(new AtomicMarkableReference<>("a", false)), AtomicMarkableReferenceAssert.class),
+                     arguments(assertThat(new AtomicReference<>("a")), AtomicReferenceAssert.class),
+                     arguments(assertThat(new AtomicReferenceArray<>(1)), AtomicReferenceArrayAssert.class),
+                     arguments(assertThat(AtomicReferenceFieldUpdater.newUpdater(Counters.class, Object.class, "reference")),
+                               AtomicReferenceFieldUpdaterAssert.class),
+                     arguments(assertThat(new AtomicStampedReference<>("a", 0)), AtomicStampedReferenceAssert.class),
+                     arguments(assertThat(BigDecimal.ONE), BigDecimalAssert.class),
+                     arguments(assertThat(BigDecimal.ONE).scale(), BigDecimalScaleAssert.class),
+                     arguments(assertThat(BigInteger.ONE), BigIntegerAssert.class),
+                     arguments(assertThat(true), BooleanAssert.class),
+                     arguments(assertThat(new boolean[][] { { true } }), Boolean2DArrayAssert.class),
+                     arguments(assertThat(new boolean[] { true }), BooleanArrayAssert.class),
+                     arguments(assertThat((byte) 1), ByteAssert.class),
+                     arguments(assertThat(new byte[][] { { 1 } }), Byte2DArrayAssert.class),
+                     arguments(assertThat(new byte[] { 1 }), ByteArrayAssert.class),
+                     arguments(assertThat('a'), CharacterAssert.class),
+                     arguments(assertThat(new char[][] { { 'a' } }), Char2DArrayAssert.class),
+                     arguments(assertThat(new char[] { 'a' }), CharArrayAssert.class),
+                     arguments(assertThat(new StringBuilder("a")), CharSequenceAssert.class),
+                     arguments(assertThat(String.class), ClassAssert.class),
+                     arguments(assertThat((Collection<String>) new ArrayDeque<>(List.of("a"))), CollectionAssert.class),
+                     arguments(assertThat(completedFuture("a")), CompletableFutureAssert.class),
+                     arguments(assertThat(new Date()), DateAssert.class),
+                     arguments(assertThat(1.0), DoubleAssert.class),
+                     arguments(assertThat(new double[][] { { 1.0 } }), Double2DArrayAssert.class),
+                     arguments(assertThat(new double[] { 1.0 }), DoubleArrayAssert.class),
+                     arguments(assertThat((DoublePredicate) value -> true), DoublePredicateAssert.class),
+                     arguments(assertThat(Duration.ZERO), DurationAssert.class),
+                     arguments(assertThat(List.of("a")), ListAssert.class),
+                     arguments(assertThat(file), FileAssert.class),
+                     arguments(assertThat(file).size(), FileSizeAssert.class),
+                     arguments(assertThat(1.0f), FloatAssert.class),
+                     arguments(assertThat(new float[][] { { 1.0f } }), Float2DArrayAssert.class),
+                     arguments(assertThat(new float[] { 1.0f }), FloatArrayAssert.class),
+                     arguments(assertThat((Future<String>) new FutureTask<>(() -> "a")), FutureAssert.class),
+                     arguments(assertThat(new ByteArrayInputStream(new byte[0])), InputStreamAssert.class),
+                     arguments(assertThat(new HashSet<>(Set.of("a"))), HashSetAssert.class),
+                     arguments(assertThat(Instant.EPOCH), InstantAssert.class),
+                     arguments(assertThat(1), IntegerAssert.class),
+                     arguments(assertThat(new int[][] { { 1 } }), Int2DArrayAssert.class),
+                     arguments(assertThat(new int[] { 1 }), IntArrayAssert.class),
+                     arguments(assertThat((IntPredicate) value -> true), IntPredicateAssert.class),
+                     arguments(assertThat((Iterable<String>) Set.of("a")), IterableAssert.class),
+                     arguments(assertThat(List.of("a")).size(), IterableSizeAssert.class),
+                     arguments(assertThat((Iterator<String>) List.of("a").iterator()), IteratorAssert.class),
+                     arguments(assertThat(LocalDate.EPOCH), LocalDateAssert.class),
+                     arguments(assertThat(LocalDateTime.now()), LocalDateTimeAssert.class),
+                     arguments(assertThat(LocalTime.NOON), LocalTimeAssert.class),
+                     arguments(assertThat(new LongAdder()), LongAdderAssert.class),
+                     arguments(assertThat(new long[] { 1L }), LongArrayAssert.class),
+                     arguments(assertThat(new long[][] { { 1L } }), Long2DArrayAssert.class),
+                     arguments(assertThat(1L), LongAssert.class),
+                     arguments(assertThat((LongPredicate) value -> true), LongPredicateAssert.class),
+                     arguments(assertThat(Map.of("a", 1)), MapAssert.class),
+                     arguments(assertThat(Map.of("a", 1)).size(), MapSizeAssert.class),
+                     arguments(assertThat(OffsetDateTime.now()), OffsetDateTimeAssert.class),
+                     arguments(assertThat(OffsetTime.now()), OffsetTimeAssert.class),
+                     arguments(assertThat(new Object()), ObjectAssert.class),
+                     arguments(assertThat(Optional.of("a")), OptionalAssert.class),
+                     arguments(assertThat(OptionalDouble.of(1.0)), OptionalDoubleAssert.class),
+                     arguments(assertThat(OptionalInt.of(1)), OptionalIntAssert.class),
+                     arguments(assertThat(OptionalLong.of(1L)), OptionalLongAssert.class),
+                     arguments(assertThat(file.toPath()), PathAssert.class),
+                     arguments(assertThat(Period.ZERO), PeriodAssert.class),
+                     arguments(assertThat((Predicate<String>) value -> true), PredicateAssert.class),
+                     arguments(assertThat(new Object()).usingRecursiveComparison(), RecursiveComparisonAssert.class),
+                     arguments(assertThat((short) 1), ShortAssert.class),
+                     arguments(assertThat(new short[][] { { 1 } }), Short2DArrayAssert.class),
+                     arguments(assertThat(new short[] { 1 }), ShortArrayAssert.class),
+                     arguments(assertThat(List.of("a").spliterator()), SpliteratorAssert.class),
+                     arguments(assertThat("a"), StringAssert.class),
+                     arguments(assertThat(new Exception()), ThrowableAssert.class),
+                     arguments(assertThat(URI.create("https://assertj.github.io")), UriAssert.class),
+                     arguments(assertThat(url()), UrlAssert.class),
+                     arguments(assertThat(ZonedDateTime.now()), ZonedDateTimeAssert.class),
+                     arguments(assertThat(new Object[][] { { "a" } }), Object2DArrayAssert.class));
+  }
+
+  private static File temporaryFile() {
+    try {
+      Path path = Files.createTempFile("assumptions", ".txt");
+      path.toFile().deleteOnExit();
+      return path.toFile();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static URL url() {
+    try {
+      return URI.create("https://assertj.github.io").toURL();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static class Counters {
+    volatile int intCounter;
+    volatile long longCounter;
+    volatile Object reference;
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class DefaultAssertionErrorCollector_collectAssertionError_concurrently_Test {
+
+  private static final int THREADS = 8;
+  private static final int ERRORS_PER_THREAD = 500;
+
+  @Test
+  void should_collect_all_errors_reported_concurrently_keeping_each_thread_order() throws Exception {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    List<AssertionError> callbackErrors = new ArrayList<>();
+    softly.addAfterAssertionErrorCollected(error -> {
+      synchronized (callbackErrors) {
+        callbackErrors.add(error);
+      }
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    // WHEN
+    try {
+      for (int thread = 0; thread < THREADS; thread++) {
+        int threadNumber = thread;
+        futures.add(executor.submit(() -> {
+          start.await();
+          for (int i = 0; i < ERRORS_PER_THREAD; i++) {
+            softly.collectAssertionError(new AssertionError(threadNumber + ":" + i));
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // THEN
+    List<AssertionError> errors = softly.assertionErrorsCollected();
+    then(errors).hasSize(THREADS * ERRORS_PER_THREAD);
+    then(callbackErrors).hasSize(THREADS * ERRORS_PER_THREAD);
+    int[] nextErrorPerThread = new int[THREADS];
+    for (AssertionError error : errors) {
+      String[] threadAndIndex = error.getMessage().split(":");
+      int thread = Integer.parseInt(threadAndIndex[0]);
+      then(Integer.parseInt(threadAndIndex[1])).isEqualTo(nextErrorPerThread[thread]++);
+    }
+  }
+
+  @Test
+  void should_return_a_snapshot_of_the_errors_collected_so_far() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    softly.collectAssertionError(new AssertionError("first"));
+    List<AssertionError> errorsCollected = softly.assertionErrorsCollected();
+    // WHEN
+    softly.collectAssertionError(new AssertionError("second"));
+    // THEN
+    then(errorsCollected).extracting(Throwable::getMessage).containsExactly("first");
+    then(softly.assertionErrorsCollected()).extracting(Throwable::getMessage).containsExactly("first", "second");
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setMaxCharactersForPrinting method")
+class EntryPointAssertions_setMaxCharactersForPrinting_Test extends EntryPointAssertionsBaseTest {
+
+  private static final int DEFAULT_MAX_CHARACTERS_FOR_PRINTING = StandardRepresentation.getMaxCharactersForPrinting();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    StandardRepresentation.setMaxCharactersForPrinting(DEFAULT_MAX_CHARACTERS_FOR_PRINTING);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxCharactersForPrintingFunctions")
+  void should_set_maxCharactersForPrinting_value(Consumer<Integer> setMaxCharactersForPrintingFunction) {
+    // GIVEN
+    int maxCharactersForPrinting = DEFAULT_MAX_CHARACTERS_FOR_PRINTING + 1;
+    // WHEN
+    setMaxCharactersForPrintingFunction.accept(maxCharactersForPrinting);
+    // THEN
+    then(StandardRepresentation.getMaxCharactersForPrinting()).isEqualTo(maxCharactersForPrinting);
+  }
+
+  private static Stream<Consumer<Integer>> setMaxCharactersForPrintingFunctions() {
+    return Stream.of(Assertions::setMaxCharactersForPrinting,
+                     BDDAssertions::setMaxCharactersForPrinting,
+                     withAssertions::setMaxCharactersForPrinting);
+  }
+
+}
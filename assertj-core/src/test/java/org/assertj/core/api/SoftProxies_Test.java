@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class SoftProxies_Test {
+
+  private static final int THREADS = 16;
+
+  @Test
+  void should_reuse_the_cached_proxy_constructor() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    Class<?> proxyClass = softly.proxy(CachedConstructorAssert.class, Object.class, "foo").getClass();
+    MethodHandle proxyConstructor = SoftProxies.proxyConstructor(proxyClass, Object.class);
+    // WHEN
+    softly.proxy(CachedConstructorAssert.class, Object.class, "bar").isNull();
+    // THEN
+    then(SoftProxies.proxyConstructor(proxyClass, Object.class)).isSameAs(proxyConstructor);
+    then(softly.errorsCollected()).singleElement()
+                                  .extracting(Throwable::getMessage, InstanceOfAssertFactories.STRING)
+                                  .contains("\"bar\"");
+  }
+
+  @Test
+  void should_create_working_proxies_when_first_used_concurrently() throws Exception {
+    // GIVEN
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    List<Future<SoftAssertions>> results = new ArrayList<>();
+    Set<Class<?>> proxyClasses = ConcurrentHashMap.newKeySet();
+    try {
+      for (int i = 0; i < THREADS; i++) {
+        String actual = "actual-" + i;
+        Callable<SoftAssertions> firstUse = () -> {
+          SoftAssertions softly = new SoftAssertions();
+          start.await();
+          ConcurrentlyProxiedAssert proxy = softly.proxy(ConcurrentlyProxiedAssert.class, Object.class, actual);
+          proxyClasses.add(proxy.getClass());
+          proxy.isNull();
+          return softly;
+        };
+        results.add(executor.submit(firstUse));
+      }
+      // WHEN
+      start.countDown();
+      // THEN
+      for (int i = 0; i < THREADS; i++) {
+        SoftAssertions softly = results.get(i).get(10, SECONDS);
+        then(softly.errorsCollected()).singleElement()
+                                      .extracting(Throwable::getMessage, InstanceOfAssertFactories.STRING)
+                                      .contains("\"actual-" + i + "\"");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    then(proxyClasses).singleElement().isNotEqualTo(ConcurrentlyProxiedAssert.class);
+    Class<?> proxyClass = proxyClasses.iterator().next();
+    then(SoftProxies.proxyConstructor(proxyClass, Object.class)).isSameAs(SoftProxies.proxyConstructor(proxyClass, Object.class));
+  }
+
+  // each test uses its own assert class so that its proxy class and constructor are not already cached by other tests
+
+  public static class CachedConstructorAssert extends AbstractObjectAssert<CachedConstructorAssert, Object> {
+    public CachedConstructorAssert(Object actual) {
+      super(actual, CachedConstructorAssert.class);
+    }
+  }
+
+  public static class ConcurrentlyProxiedAssert extends AbstractObjectAssert<ConcurrentlyProxiedAssert, Object> {
+    public ConcurrentlyProxiedAssert(Object actual) {
+      super(actual, ConcurrentlyProxiedAssert.class);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.ConcreteIterableAssert;
+import org.assertj.core.api.IterableAssertBaseTest;
+import org.assertj.core.internal.ParallelEvaluation;
+import org.assertj.core.presentation.PredicateDescription;
+import org.junit.jupiter.api.BeforeEach;
+
+class IterableAssert_allMatch_inParallel_Test extends IterableAssertBaseTest {
+
+  private Predicate<Object> predicate;
+
+  @BeforeEach
+  void beforeOnce() {
+    predicate = o -> o != null;
+  }
+
+  @Override
+  protected ConcreteIterableAssert<Object> invoke_api_method() {
+    return assertions.inParallel(ForkJoinPool.commonPool(), 10).allMatch(predicate);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterables).assertAllMatch(eq(getInfo(assertions)), eq(getActual(assertions)), eq(predicate),
+                                     eq(PredicateDescription.GIVEN), any(ParallelEvaluation.class));
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.iterable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import java.util.function.Consumer;
+
+import org.assertj.core.api.ConcreteIterableAssert;
+import org.assertj.core.api.IterableAssertBaseTest;
+import org.assertj.core.internal.ParallelEvaluation;
+import org.junit.jupiter.api.BeforeEach;
+
+class IterableAssert_allSatisfy_inParallel_Test extends IterableAssertBaseTest {
+
+  private Consumer<Object> restrictions;
+
+  @BeforeEach
+  void beforeOnce() {
+    restrictions = o -> assertThat(o).isNotNull();
+  }
+
+  @Override
+  protected ConcreteIterableAssert<Object> invoke_api_method() {
+    return assertions.inParallel().allSatisfy(restrictions);
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    verify(iterables).assertAllSatisfy(eq(getInfo(assertions)), eq(getActual(assertions)), eq(restrictions),
+                                       any(ParallelEvaluation.class));
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class FieldLocationRulesTest {
+
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+
+  @Test
+  void should_ignore_fields_and_their_children() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(".*\\.zip");
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fieldLocationRules.isIgnored(new FieldLocation("name"))).isTrue();
+    then(fieldLocationRules.isIgnored(new FieldLocation("name.first"))).isTrue();
+    then(fieldLocationRules.isIgnored(new FieldLocation("address.zip.code"))).isTrue();
+    then(fieldLocationRules.isIgnored(new FieldLocation("names"))).isFalse();
+    then(fieldLocationRules.isIgnored(new FieldLocation("address.street"))).isFalse();
+    then(fieldLocationRules.isIgnored(FieldLocation.rootFieldLocation())).isFalse();
+  }
+
+  @Test
+  void should_evaluate_collection_elements_field_rules_like_the_collection_field_rules() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFieldsMatchingRegexes("friends");
+    recursiveComparisonConfiguration.ignoreOverriddenEqualsForFields("friends.address");
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(recursiveComparisonConfiguration);
+    FieldLocation friendAddress = FieldLocation.rootFieldLocation().field("friends").field("[1]").field("address");
+    // WHEN/THEN
+    then(fieldLocationRules.isCollectionOrderIgnored(new FieldLocation("friends"))).isTrue();
+    then(fieldLocationRules.isCollectionOrderIgnored(friendAddress)).isFalse();
+    then(fieldLocationRules.isOverriddenEqualsIgnored(friendAddress)).isTrue();
+  }
+
+  @Test
+  void should_only_compare_compared_fields_their_parents_and_children() {
+    // GIVEN
+    recursiveComparisonConfiguration.compareOnlyFields("address.street");
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fieldLocationRules.isCompared(FieldLocation.rootFieldLocation())).isTrue();
+    then(fieldLocationRules.isCompared(new FieldLocation("address"))).isTrue();
+    then(fieldLocationRules.isCompared(new FieldLocation("address.street"))).isTrue();
+    then(fieldLocationRules.isCompared(new FieldLocation("address.street.number"))).isTrue();
+    then(fieldLocationRules.isCompared(new FieldLocation("address.zip"))).isFalse();
+    then(fieldLocationRules.isCompared(new FieldLocation("name"))).isFalse();
+  }
+
+  @Test
+  void should_find_field_comparators_with_exact_location_taking_precedence_over_regexes() {
+    // GIVEN
+    Comparator<String> exactComparator = String.CASE_INSENSITIVE_ORDER;
+    recursiveComparisonConfiguration.registerComparatorForFields(exactComparator, "name.first");
+    recursiveComparisonConfiguration.registerEqualsForFieldsMatchingRegexes((String s1, String s2) -> true, "name\\..*");
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fieldLocationRules.getComparatorFor(new FieldLocation("name.first"))).isSameAs(exactComparator);
+    then(fieldLocationRules.getComparatorFor(new FieldLocation("name.last"))).isNotNull().isNotSameAs(exactComparator);
+    then(fieldLocationRules.getComparatorFor(new FieldLocation("name"))).isNull();
+  }
+
+  @Test
+  void should_ignore_types_and_types_matching_regexes() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFieldsOfTypes(Integer.class);
+    recursiveComparisonConfiguration.ignoreFieldsOfTypesMatchingRegexes("java\\.time\\..*");
+    FieldLocationRules fieldLocationRules = new FieldLocationRules(recursiveComparisonConfiguration);
+    // WHEN/THEN
+    then(fieldLocationRules.isIgnoredType(Integer.class)).isTrue();
+    then(fieldLocationRules.isIgnoredType(LocalDate.class)).isTrue();
+    then(fieldLocationRules.isIgnoredType(String.class)).isFalse();
+  }
+
+  @Test
+  void should_compile_configuration_rules_once() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    // WHEN
+    FieldLocationRules fieldLocationRules = recursiveComparisonConfiguration.getFieldLocationRules();
+    // THEN
+    then(recursiveComparisonConfiguration.getFieldLocationRules()).isSameAs(fieldLocationRules);
+  }
+
+  @Test
+  void should_compile_configuration_rules_again_when_they_change() {
+    // GIVEN
+    FieldLocationRules fieldLocationRules = recursiveComparisonConfiguration.getFieldLocationRules();
+    then(fieldLocationRules.isIgnored(new FieldLocation("name"))).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("friends");
+    // THEN
+    FieldLocationRules changedFieldLocationRules = recursiveComparisonConfiguration.getFieldLocationRules();
+    then(changedFieldLocationRules).isNotSameAs(fieldLocationRules);
+    then(changedFieldLocationRules.isIgnored(new FieldLocation("name"))).isTrue();
+    then(changedFieldLocationRules.isCollectionOrderIgnored(new FieldLocation("friends"))).isTrue();
+  }
+
+  @Test
+  void should_memoize_decisions_per_comparison_only() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(".*\\.zip");
+    FieldLocationRules fieldLocationRules = recursiveComparisonConfiguration.getFieldLocationRules();
+    FieldLocationRules comparisonRules = fieldLocationRules.forComparison();
+    // WHEN
+    then(comparisonRules.isIgnored(new FieldLocation("address.zip"))).isTrue();
+    then(comparisonRules.isIgnoredType(String.class)).isFalse();
+    then(fieldLocationRules.isIgnored(new FieldLocation("address.zip"))).isTrue();
+    then(fieldLocationRules.isIgnoredType(String.class)).isFalse();
+    // THEN
+    then(comparisonRules.memoizedDecisionsCount()).isEqualTo(4);
+    then(fieldLocationRules.memoizedDecisionsCount()).isZero();
+    then(fieldLocationRules.forComparison().memoizedDecisionsCount()).isZero();
+  }
+
+  @Test
+  void should_not_memoize_compared_map_keys_in_the_configuration_rules() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("name");
+    Map<String, Integer> actual = new HashMap<>();
+    for (int i = 0; i < 100; i++) actual.put("key" + i, i);
+    Map<String, Integer> expected = new HashMap<>(actual);
+    // WHEN
+    assertThat(actual).usingRecursiveComparison(recursiveComparisonConfiguration)
+                      .isEqualTo(expected);
+    // THEN
+    then(recursiveComparisonConfiguration.getFieldLocationRules().memoizedDecisionsCount()).isZero();
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+
+class UnorderedElementsMatcherTest {
+
+  private final List<String> comparedPairs = new ArrayList<>();
+  private final BiPredicate<Object, Object> equalsMatcher = (actual, expected) -> {
+    comparedPairs.add(actual + "/" + expected);
+    return Objects.equals(actual, expected);
+  };
+
+  @Test
+  void should_match_expected_elements_in_actual_elements_with_the_same_hash_code_first() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(list("a", "b", "c"), list("c", "a"), equalsMatcher);
+    // WHEN
+    boolean cMatched = matcher.hasMatchFor("c");
+    boolean aMatched = matcher.hasMatchFor("a");
+    // THEN
+    then(cMatched).isTrue();
+    then(aMatched).isTrue();
+    then(comparedPairs).containsExactly("c/c", "a/a");
+  }
+
+  @Test
+  void should_not_match_expected_element_absent_from_actual_elements() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(list("a", "b"), list("z"), equalsMatcher);
+    // WHEN
+    boolean matched = matcher.hasMatchFor("z");
+    // THEN
+    then(matched).isFalse();
+    then(comparedPairs).containsExactly("a/z", "b/z");
+  }
+
+  @Test
+  void should_prefer_actual_elements_not_matched_yet() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(list("a", "a"), list("a", "a"), (actual, expected) -> {
+      comparedPairs.add(actual + "/" + expected);
+      return true;
+    });
+    // WHEN
+    matcher.hasMatchFor("a");
+    matcher.hasMatchFor("a");
+    // THEN
+    then(comparedPairs).containsExactly("a/a", "a/a");
+  }
+
+  @Test
+  void should_match_actual_element_already_matched_when_no_other_element_matches() {
+    // GIVEN
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(list("a", "b"), list("a", "a"), equalsMatcher);
+    // WHEN
+    boolean firstMatched = matcher.hasMatchFor("a");
+    boolean secondMatched = matcher.hasMatchFor("a");
+    // THEN
+    then(firstMatched).isTrue();
+    then(secondMatched).isTrue();
+    // second "a" has no unmatched element left in its bucket and reuses the cached verdict of the first "a"
+    then(comparedPairs).containsExactly("a/a");
+  }
+
+  @Test
+  void should_match_repeated_expected_elements_with_already_matched_elements_of_their_bucket_first() {
+    // GIVEN
+    List<Point> actual = list(new Point(0));
+    List<Point> expected = new ArrayList<>();
+    for (int i = 1; i <= 1000; i++) {
+      actual.add(new Point(i));
+      expected.add(new Point(0));
+    }
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(actual, expected, equalsMatcher);
+    // WHEN
+    boolean allMatched = expected.stream().allMatch(matcher::hasMatchFor);
+    // THEN
+    then(allMatched).isTrue();
+    // each expected point is only compared to the actual point sharing its hash code, not to the 1000 other ones
+    then(comparedPairs).hasSize(1000);
+  }
+
+  @Test
+  void should_look_for_matches_in_other_hash_code_buckets() {
+    // GIVEN
+    BiPredicate<Object, Object> ignoringCaseMatcher = (actual, expected) -> ((String) actual).equalsIgnoreCase((String) expected);
+    UnorderedElementsMatcher matcher = new UnorderedElementsMatcher(list("A", "b"), list("B", "a"), ignoringCaseMatcher);
+    // WHEN
+    boolean bMatched = matcher.hasMatchFor("B");
+    boolean aMatched = matcher.hasMatchFor("a");
+    // THEN
+    then(bMatched).isTrue();
+    then(aMatched).isTrue();
+  }
+
+  private record Point(int x) {
+  }
+}
@@ -67,4 +67,79 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_dual_values_with_same_values_but_different_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("a"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesAtOtherLocation = new DualValue(list("b"), actual, expected);
+    // WHEN
+    var optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesAtOtherLocation);
+    // THEN
+    then(optionalComparisonDifferences).contains(list(comparisonDifference));
+  }
+
+  @Test
+  void should_not_return_the_registered_differences_of_equal_but_not_same_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list(""), list(1), list(2));
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    DualValue equalValues = new DualValue(list(""), list(1), list(2));
+    // WHEN
+    var optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(equalValues);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
+
+  @Test
+  void should_count_visited_dual_values() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    // WHEN
+    visitedDualValues.countVisitedDualValue();
+    visitedDualValues.countVisitedDualValue();
+    // THEN
+    then(visitedDualValues.visitedDualValuesCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_return_the_registered_differences_of_the_parent_visited_dual_values() {
+    // GIVEN
+    VisitedDualValues parent = new VisitedDualValues();
+    DualValue dualValue = new DualValue(list(""), "abc", "abd");
+    parent.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    parent.registerComparisonDifference(dualValue, comparisonDifference);
+    VisitedDualValues nested = new VisitedDualValues(parent);
+    // WHEN
+    var optionalComparisonDifferences = nested.registeredComparisonDifferencesOf(dualValue);
+    // THEN
+    then(optionalComparisonDifferences).contains(list(comparisonDifference));
+  }
+
+  @Test
+  void should_merge_nested_visited_dual_values() {
+    // GIVEN
+    VisitedDualValues parent = new VisitedDualValues();
+    parent.countVisitedDualValue();
+    VisitedDualValues nested = new VisitedDualValues(parent);
+    DualValue dualValue = new DualValue(list(""), "abc", "abd");
+    nested.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    nested.registerComparisonDifference(dualValue, comparisonDifference);
+    nested.countVisitedDualValue();
+    nested.countVisitedDualValue();
+    // WHEN
+    parent.merge(nested);
+    // THEN
+    then(parent.registeredComparisonDifferencesOf(dualValue)).contains(list(comparisonDifference));
+    then(parent.visitedDualValuesCount()).isEqualTo(3);
+  }
 }
@@ -16,14 +16,18 @@
 package org.assertj.core.error;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldContainExactly.elementsDifferAtIndex;
+import static org.assertj.core.error.ShouldContainExactly.shouldContainExactly;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.description.TextDescription;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.Test;
@@ -90,6 +94,69 @@ class AssertionErrorCreator_assertionError_Test {
     then(assertionFailedError.getExpected().toString()).contains("expected");
   }
 
+  @Test
+  void should_reuse_the_actual_and_expected_representations_of_the_error_message() {
+    // GIVEN
+    List<String> actual = List.of("Luke", "Yoda");
+    List<String> expected = List.of("Luke", "Leia");
+    ErrorMessageFactory messageFactory = shouldContainExactly(actual, expected, List.of("Leia"), List.of("Yoda"));
+    CountingRepresentation representation = new CountingRepresentation();
+    String message = messageFactory.create(new TextDescription("Test"), representation);
+    // WHEN
+    var assertionError = assertionErrorCreator.assertionError(message, messageFactory, actual, expected, representation);
+    // THEN
+    then(representation.representedValues).filteredOn(value -> value == actual).hasSize(1);
+    then(representation.representedValues).filteredOn(value -> value == expected).hasSize(1);
+    var assertionFailedError = (AssertionFailedError) assertionError;
+    then(assertionFailedError.getActual().getValue()).isSameAs(actual);
+    then(assertionFailedError.getActual().getStringRepresentation()).isEqualTo("[\"Luke\", \"Yoda\"]");
+    then(assertionFailedError.getExpected().getValue()).isSameAs(expected);
+    then(assertionFailedError.getExpected().getStringRepresentation()).isEqualTo("[\"Luke\", \"Leia\"]");
+  }
+
+  @Test
+  void should_represent_actual_and_expected_when_the_error_message_was_built_with_another_representation() {
+    // GIVEN
+    Item actual = new Item("actual");
+    Item expected = new Item("expected");
+    ErrorMessageFactory messageFactory = shouldContainExactly(actual, List.of(expected), List.of(expected), List.of());
+    String message = messageFactory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = assertionErrorCreator.assertionError(message, messageFactory, actual, List.of(expected),
+                                                              new ItemRepresentation());
+    // THEN
+    var assertionFailedError = (AssertionFailedError) assertionError;
+    then(assertionFailedError.getActual().getStringRepresentation()).isEqualTo("actual");
+    then(assertionFailedError.getExpected().getStringRepresentation()).isEqualTo("[expected]");
+  }
+
+  @Test
+  void should_represent_actual_and_expected_when_the_error_message_only_represents_the_elements_differing() {
+    // GIVEN
+    List<String> actual = List.of("Yoda", "Luke");
+    List<String> expected = List.of("Luke", "Yoda");
+    ErrorMessageFactory messageFactory = elementsDifferAtIndex("Yoda", "Luke", 0);
+    String message = messageFactory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = assertionErrorCreator.assertionError(message, messageFactory, actual, expected,
+                                                              STANDARD_REPRESENTATION);
+    // THEN
+    var assertionFailedError = (AssertionFailedError) assertionError;
+    then(assertionFailedError.getActual().getStringRepresentation()).isEqualTo("[\"Yoda\", \"Luke\"]");
+    then(assertionFailedError.getExpected().getStringRepresentation()).isEqualTo("[\"Luke\", \"Yoda\"]");
+  }
+
+  private static class CountingRepresentation extends StandardRepresentation {
+
+    private final List<Object> representedValues = new ArrayList<>();
+
+    @Override
+    public String toStringOf(Object object) {
+      representedValues.add(object);
+      return super.toStringOf(object);
+    }
+  }
+
   record Item(String name) {
 
     @Override
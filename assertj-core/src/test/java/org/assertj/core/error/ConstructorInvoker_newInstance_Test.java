@@ -15,6 +15,7 @@
  */
 package org.assertj.core.error;
 
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
 
@@ -43,4 +44,23 @@ class ConstructorInvoker_newInstance_Test {
     then(o).asInstanceOf(THROWABLE)
            .hasMessage("Hi");
   }
+
+  @Test
+  void should_create_Object_again_with_the_cached_constructor() throws Exception {
+    // GIVEN
+    invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Hi");
+    // WHEN
+    Object o = invoker.newInstance("java.lang.Exception", new Class<?>[] { String.class }, "Bye");
+    // THEN
+    then(o).asInstanceOf(THROWABLE)
+           .hasMessage("Bye");
+  }
+
+  @Test
+  void should_fail_if_class_is_not_found() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> invoker.newInstance("org.example.Unknown", new Class<?>[0]));
+    // THEN
+    then(throwable).isInstanceOf(ClassNotFoundException.class);
+  }
 }
@@ -18,6 +18,7 @@ package org.assertj.core.error;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNullPointerException;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -25,6 +26,7 @@ import static org.mockito.Mockito.verify;
 import java.util.stream.Stream;
 import org.assertj.core.description.Description;
 import org.assertj.core.description.TextDescription;
+import org.assertj.core.testkit.CountingToString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -68,6 +70,30 @@ class MessageFormatter_format_Test {
     verify(descriptionFormatter).format(description);
   }
 
+  @Test
+  void should_represent_elements_found_in_several_arguments_only_once() {
+    // GIVEN
+    CountingToString luke = new CountingToString("Luke");
+    CountingToString yoda = new CountingToString("Yoda");
+    // WHEN
+    String s = messageFormatter.format(null, STANDARD_REPRESENTATION, "%s %s %s", list(luke, yoda), list(yoda), list(luke, yoda));
+    // THEN
+    then(s).isEqualTo("[Luke, Yoda] [Yoda] [Luke, Yoda]");
+    then(luke.toStringCalls()).isEqualTo(1);
+    then(yoda.toStringCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_reuse_elements_representations_across_messages() {
+    // GIVEN
+    CountingToString luke = new CountingToString("Luke");
+    // WHEN
+    messageFormatter.format(null, STANDARD_REPRESENTATION, "%s", list(luke));
+    messageFormatter.format(null, STANDARD_REPRESENTATION, "%s", list(luke));
+    // THEN
+    then(luke.toStringCalls()).isEqualTo(2);
+  }
+
   @ParameterizedTest
   @MethodSource("messages")
   void should_format_message_and_correctly_escape_percentage(String input, String formatted) {
@@ -24,6 +24,8 @@ import java.util.stream.Stream;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.TestDescription;
+import org.assertj.core.testkit.CountingToString;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.opentest4j.AssertionFailedError;
@@ -54,4 +56,22 @@ class ShouldBeEqual_newAssertionError_Test {
   public static Stream<String> parameters() {
     return Stream.of("[Jedi]", "[Jedi]  ");
   }
+
+  @Test
+  void should_represent_actual_and_expected_only_once() {
+    // GIVEN
+    CountingToString actual = new CountingToString("Luke");
+    CountingToString expected = new CountingToString("Yoda");
+    var shouldBeEqual = shouldBeEqual(actual, expected, STANDARD_REPRESENTATION);
+    // WHEN
+    var assertionError = shouldBeEqual.toAssertionError(new TestDescription("Jedi"), STANDARD_REPRESENTATION);
+    // THEN
+    then(assertionError).isInstanceOf(AssertionFailedError.class)
+                        .hasMessage(format("[Jedi] %n" +
+                                           "expected: Yoda%n" +
+                                           " but was: Luke"));
+    then(actual.toStringCalls()).isEqualTo(1);
+    then(expected.toStringCalls()).isEqualTo(1);
+  }
+
 }
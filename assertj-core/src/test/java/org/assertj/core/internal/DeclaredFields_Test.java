@@ -0,0 +1,94 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DeclaredFields_Test {
+
+  @Test
+  void should_return_non_static_fields_of_class_then_of_its_superclasses_in_declaration_order() {
+    // WHEN
+    List<Field> fields = DeclaredFields.of(Child.class).includingInherited();
+    // THEN
+    then(fields).extracting(Field::getName).containsExactly("childField", "otherChildField", "parentField");
+  }
+
+  @Test
+  void should_look_fields_up_once_per_class() {
+    // WHEN
+    List<Field> fields = DeclaredFields.of(Child.class).includingInherited();
+    // THEN
+    then(DeclaredFields.of(Child.class)).isSameAs(DeclaredFields.of(Child.class));
+    then(DeclaredFields.of(Child.class).includingInherited()).isSameAs(fields);
+  }
+
+  @Test
+  void should_return_unmodifiable_fields() {
+    // GIVEN
+    List<Field> fields = DeclaredFields.of(Child.class).includingInherited();
+    // WHEN
+    Throwable thrown = catchThrowable(fields::clear);
+    // THEN
+    then(thrown).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_return_field_declared_by_the_class_with_the_given_name() {
+    // WHEN
+    Field field = DeclaredFields.of(Child.class).named("childField");
+    // THEN
+    then(field.getName()).isEqualTo("childField");
+    then(field.getDeclaringClass()).isEqualTo(Child.class);
+  }
+
+  @Test
+  void should_not_return_fields_declared_by_superclasses_by_name() {
+    // WHEN
+    Field field = DeclaredFields.of(Child.class).named("parentField");
+    // THEN
+    then(field).isNull();
+  }
+
+  @Test
+  void should_fail_if_class_is_null() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> DeclaredFields.of(null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("expecting Class parameter not to be null");
+  }
+
+  @SuppressWarnings("unused")
+  private static class Parent {
+    private static int staticParentField;
+    private int parentField;
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Parent {
+    private static final String CONSTANT = "constant";
+    private String childField;
+    private String otherChildField;
+  }
+
+}
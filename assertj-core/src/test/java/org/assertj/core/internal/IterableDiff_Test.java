@@ -23,6 +23,7 @@ import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.api.comparisonstrategy.ComparisonStrategy;
@@ -147,9 +148,100 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_not_report_any_differences_between_two_iterables_of_arrays_with_the_same_content() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "a" }, null);
+    List<Object> expected = newArrayList(null, new String[] { "a" }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_match_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    EqualsWithoutHashCode bar1 = new EqualsWithoutHashCode("bar");
+    EqualsWithoutHashCode bar2 = new EqualsWithoutHashCode("bar");
+    EqualsWithoutHashCode baz = new EqualsWithoutHashCode("baz");
+    List<EqualsWithoutHashCode> actual = newArrayList(bar1, baz, bar1);
+    List<EqualsWithoutHashCode> expected = newArrayList(bar2, bar2, new EqualsWithoutHashCode("qux"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).extracting("value").containsExactly("qux");
+    assertThat(diff.unexpected).containsExactly(baz);
+  }
+
+  @Test
+  void should_match_lists_of_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<EqualsWithoutHashCode> bars1 = newArrayList(new EqualsWithoutHashCode("bar"), new EqualsWithoutHashCode("bar"));
+    List<EqualsWithoutHashCode> bars2 = newArrayList(new EqualsWithoutHashCode("bar"), new EqualsWithoutHashCode("bar"));
+    List<EqualsWithoutHashCode> baz = newArrayList(new EqualsWithoutHashCode("baz"));
+    List<EqualsWithoutHashCode> qux = newArrayList(new EqualsWithoutHashCode("qux"));
+    List<List<EqualsWithoutHashCode>> actual = newArrayList(bars1, baz);
+    List<List<EqualsWithoutHashCode>> expected = newArrayList(qux, bars2);
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(qux);
+    assertThat(diff.unexpected).containsExactly(baz);
+  }
+
+  @Test
+  void should_match_arrays_and_optionals_of_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    Object[] bars1 = { new EqualsWithoutHashCode("bar") };
+    Object[] bars2 = { new EqualsWithoutHashCode("bar") };
+    Optional<EqualsWithoutHashCode> baz1 = Optional.of(new EqualsWithoutHashCode("baz"));
+    Optional<EqualsWithoutHashCode> baz2 = Optional.of(new EqualsWithoutHashCode("baz"));
+    List<Object> actual = newArrayList(bars1, baz1, "foo");
+    List<Object> expected = newArrayList(baz2, bars2, "qux");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("qux");
+    assertThat(diff.unexpected).containsExactly("foo");
+  }
+
+  @Test
+  void should_report_differences_in_original_order_between_two_large_iterables() {
+    // GIVEN
+    List<Integer> actual = newArrayList();
+    List<Integer> expected = newArrayList();
+    for (int i = 0; i < 100_000; i++) {
+      actual.add(i);
+      expected.add(99_999 - i + 2);
+    }
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly(100_001, 100_000);
+    assertThat(diff.unexpected).containsExactly(0, 1);
+  }
+
   private class Foo {
   }
 
+  private static class EqualsWithoutHashCode {
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualsWithoutHashCode other && value.equals(other.value);
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelEvaluation_failures_Test {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+  private final List<Integer> elements = IntStream.range(0, 10_000).boxed().collect(toList());
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void should_return_failures_in_elements_order() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, Integer.MAX_VALUE);
+    // WHEN
+    List<String> failures = underTest.failures(elements, element -> element % 1000 == 0 ? "failure " + element : null);
+    // THEN
+    then(failures).containsExactly("failure 0", "failure 1000", "failure 2000", "failure 3000", "failure 4000",
+                                   "failure 5000", "failure 6000", "failure 7000", "failure 8000", "failure 9000");
+  }
+
+  @Test
+  void should_return_the_first_failures_up_to_the_maximum_number_of_reported_failures() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, 3);
+    // WHEN
+    List<Integer> failures = underTest.failingElements(elements, element -> element % 7 != 6);
+    // THEN
+    then(failures).containsExactly(6, 13, 20);
+  }
+
+  @Test
+  void should_stop_evaluating_elements_once_enough_failures_have_been_found() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, 1);
+    AtomicInteger evaluations = new AtomicInteger();
+    // WHEN
+    List<Integer> failures = underTest.failingElements(elements, element -> evaluations.incrementAndGet() < 0);
+    // THEN
+    then(failures).containsExactly(0);
+    then(evaluations).hasValueLessThan(elements.size());
+  }
+
+  @Test
+  void should_evaluate_elements_of_any_iterable() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    LinkedHashSet<Integer> iterable = new LinkedHashSet<>(elements);
+    // WHEN
+    List<Integer> failures = underTest.failingElements(iterable, element -> element < 9_998);
+    // THEN
+    then(failures).containsExactly(9_998, 9_999);
+  }
+
+  @Test
+  void should_keep_null_failing_elements() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, Integer.MAX_VALUE);
+    List<String> iterable = new ArrayList<>(List.of("a", "b"));
+    iterable.add(null);
+    // WHEN
+    List<String> failures = underTest.failingElements(iterable, "a"::equals);
+    // THEN
+    then(failures).containsExactly("b", null);
+  }
+
+  @Test
+  void should_return_null_when_any_element_passes_the_check() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, Integer.MAX_VALUE);
+    // WHEN
+    List<String> failures = underTest.failuresUnlessAnyPasses(elements, element -> element == 5_000 ? null : "failure");
+    // THEN
+    then(failures).isNull();
+  }
+
+  @Test
+  void should_return_failures_up_to_the_maximum_number_of_reported_failures_when_no_element_passes_the_check() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, 2);
+    // WHEN
+    List<String> failures = underTest.failuresUnlessAnyPasses(elements, element -> "failure " + element);
+    // THEN
+    then(failures).containsExactly("failure 0", "failure 1");
+  }
+
+  @Test
+  void should_rethrow_the_first_exception_in_elements_order() {
+    // GIVEN
+    ParallelEvaluation underTest = new ParallelEvaluation(executor, Integer.MAX_VALUE);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.failures(elements, element -> {
+      if (element % 1000 == 999) throw new IllegalStateException("boom " + element);
+      return null;
+    }));
+    // THEN
+    then(thrown).isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom 999");
+  }
+
+  @Test
+  void should_fail_if_maximum_number_of_reported_failures_is_not_positive() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> new ParallelEvaluation(executor, 0));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The maximum number of reported failures must be greater than 0 but was 0");
+  }
+
+}
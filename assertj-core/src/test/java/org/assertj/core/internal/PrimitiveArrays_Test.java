@@ -0,0 +1,99 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.PrimitiveArrays.diff;
+import static org.assertj.core.internal.PrimitiveArrays.duplicatesOf;
+import static org.assertj.core.internal.PrimitiveArrays.elementsNotIn;
+import static org.assertj.core.internal.PrimitiveArrays.indexOfFirstUnsortedElement;
+import static org.assertj.core.internal.PrimitiveArrays.valuesFoundIn;
+import static org.assertj.core.internal.PrimitiveArrays.valuesNotFoundIn;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrays_Test {
+
+  @Test
+  void should_return_values_not_found_in_order_with_duplicates() {
+    // GIVEN
+    int[] actual = { 1, 2, 3 };
+    int[] values = { 4, 1, 5, 4 };
+    // WHEN/THEN
+    then(valuesNotFoundIn(values, actual)).containsExactly(4, 5, 4);
+    then(valuesFoundIn(values, actual)).containsExactly(1);
+  }
+
+  @Test
+  void should_look_up_values_in_arrays_larger_than_a_chunk() {
+    // GIVEN
+    long[] actual = new long[5000];
+    for (int i = 0; i < actual.length; i++) actual[i] = i * 2L;
+    long[] values = { 9998L, 9999L, 0L };
+    // WHEN/THEN
+    then(valuesNotFoundIn(values, actual)).containsExactly(9999L);
+  }
+
+  @Test
+  void should_compare_floating_point_elements_like_their_boxed_values() {
+    // GIVEN
+    double[] actual = { Double.NaN, 0.0 };
+    double[] values = { Double.NaN, -0.0 };
+    // WHEN/THEN
+    then(valuesNotFoundIn(values, actual)).containsExactly(-0.0);
+    then(elementsNotIn(actual, values)).containsExactly(0.0);
+  }
+
+  @Test
+  void should_compute_the_same_diff_as_iterable_diff() {
+    // GIVEN
+    char[] actual = { 'a', 'b', 'a', 'c', 'a' };
+    char[] expected = { 'a', 'd', 'a', 'b', 'd' };
+    // WHEN
+    PrimitiveArrays.Diff diff = diff(actual, expected);
+    // THEN
+    then(diff.differencesFound()).isTrue();
+    then(diff.unexpected()).containsExactly('c', 'a');
+    then(diff.missing()).containsExactly('d', 'd');
+  }
+
+  @Test
+  void should_not_find_differences_between_arrays_with_the_same_elements_in_a_different_order() {
+    // GIVEN
+    boolean[] actual = { true, false, true };
+    boolean[] expected = { true, true, false };
+    // WHEN
+    PrimitiveArrays.Diff diff = diff(actual, expected);
+    // THEN
+    then(diff.differencesFound()).isFalse();
+  }
+
+  @Test
+  void should_return_duplicates_in_the_order_of_their_second_occurrence() {
+    // GIVEN
+    short[] array = { 3, 1, 2, 1, 3, 3 };
+    // WHEN/THEN
+    then(duplicatesOf(array)).containsExactly((short) 1, (short) 3);
+    then(duplicatesOf(new byte[] { 1, 2, 3 })).isEmpty();
+  }
+
+  @Test
+  void should_return_the_index_of_the_first_unsorted_element() {
+    then(indexOfFirstUnsortedElement(new float[] { 1f, 2f, 2f, Float.NaN })).isEqualTo(-1);
+    then(indexOfFirstUnsortedElement(new double[] { 0.0, -0.0 })).isZero();
+    then(indexOfFirstUnsortedElement(new boolean[] { false, true, false })).isEqualTo(1);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SequenceMatcher_Test {
+
+  private static final BiPredicate<Object, Object> EQUALS = Objects::equals;
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void should_find_the_first_occurrence_of_the_sequence(boolean transitiveEquality) {
+    // GIVEN
+    SequenceMatcher underTest = new SequenceMatcher(new Object[] { "a", "a", "b" }, EQUALS, transitiveEquality);
+    // WHEN
+    int index = underTest.indexIn(List.of("a", "a", "a", "b", "a", "a", "b").iterator());
+    // THEN
+    then(index).isEqualTo(1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void should_not_find_a_sequence_longer_than_the_elements(boolean transitiveEquality) {
+    // GIVEN
+    SequenceMatcher underTest = new SequenceMatcher(new Object[] { "a", "b", "c" }, EQUALS, transitiveEquality);
+    // WHEN
+    int index = underTest.indexIn(List.of("a", "b").iterator());
+    // THEN
+    then(index).isEqualTo(-1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void should_find_the_same_occurrence_as_a_naive_search(boolean transitiveEquality) {
+    Random random = new Random(42);
+    for (int run = 0; run < 1_000; run++) {
+      // GIVEN
+      List<Integer> elements = randomElements(random, random.nextInt(30));
+      Object[] sequence = randomElements(random, 1 + random.nextInt(4)).toArray();
+      SequenceMatcher underTest = new SequenceMatcher(sequence, EQUALS, transitiveEquality);
+      // WHEN
+      int index = underTest.indexIn(elements.iterator());
+      // THEN
+      then(index).as("%s in %s", List.of(sequence), elements).isEqualTo(naiveIndexOf(sequence, elements));
+      then(underTest.isSuffixOf(elements.iterator())).as("%s suffix of %s", List.of(sequence), elements)
+                                                     .isEqualTo(naiveIsSuffixOf(sequence, elements));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = { true, false })
+  void should_tell_whether_elements_end_with_the_sequence(boolean transitiveEquality) {
+    // GIVEN
+    SequenceMatcher underTest = new SequenceMatcher(new Object[] { "b", "c" }, EQUALS, transitiveEquality);
+    // WHEN/THEN
+    then(underTest.isSuffixOf(List.of("a", "b", "c").iterator())).isTrue();
+    then(underTest.isSuffixOf(List.of("b", "c", "a").iterator())).isFalse();
+    then(underTest.isSuffixOf(List.of("c").iterator())).isFalse();
+  }
+
+  @Test
+  void should_find_the_sequence_by_comparing_each_window_when_equality_is_not_transitive() {
+    // GIVEN
+    BiPredicate<Object, Object> closeEnough = (element, sequenceElement) -> Math.abs((int) element - (int) sequenceElement) <= 1;
+    SequenceMatcher underTest = new SequenceMatcher(new Object[] { 0, 2, 3 }, closeEnough, false);
+    // WHEN
+    // 1 is close to 0 and 2, a Knuth-Morris-Pratt search would skip the occurrence starting at the second element
+    int index = underTest.indexIn(List.of(0, 1, 1, 2).iterator());
+    // THEN
+    then(index).isEqualTo(1);
+  }
+
+  private static List<Integer> randomElements(Random random, int size) {
+    List<Integer> elements = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      // few distinct values to get many partial matches
+      elements.add(random.nextInt(3));
+    }
+    return elements;
+  }
+
+  private static int naiveIndexOf(Object[] sequence, List<Integer> elements) {
+    for (int start = 0; start + sequence.length <= elements.size(); start++) {
+      if (elements.subList(start, start + sequence.length).equals(List.of(sequence))) return start;
+    }
+    return -1;
+  }
+
+  private static boolean naiveIsSuffixOf(Object[] sequence, List<Integer> elements) {
+    return elements.size() >= sequence.length
+           && elements.subList(elements.size() - sequence.length, elements.size()).equals(List.of(sequence));
+  }
+
+}
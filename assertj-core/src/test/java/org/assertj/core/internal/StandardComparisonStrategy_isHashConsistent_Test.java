@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.comparisonstrategy.IterableElementComparisonStrategy;
+import org.assertj.core.api.comparisonstrategy.StandardComparisonStrategy;
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StandardComparisonStrategy#isHashConsistent()}.
+ */
+class StandardComparisonStrategy_isHashConsistent_Test extends AbstractTest_StandardComparisonStrategy {
+
+  @Test
+  void should_be_hash_consistent() {
+    assertThat(standardComparisonStrategy.isHashConsistent()).isTrue();
+  }
+
+  @Test
+  void should_not_be_hash_consistent_for_subclasses() {
+    assertThat(new IterableElementComparisonStrategy<>(CaseInsensitiveStringComparator.INSTANCE).isHashConsistent()).isFalse();
+  }
+
+}
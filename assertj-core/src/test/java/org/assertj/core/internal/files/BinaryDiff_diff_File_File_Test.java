@@ -0,0 +1,116 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  // larger than the chunks compared at once
+  private static final int CONTENT_SIZE = 200_000;
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  @TempDir
+  File tempDir;
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    // GIVEN
+    File actual = write("actual", content(CONTENT_SIZE));
+    File expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_are_empty() throws IOException {
+    // GIVEN
+    File actual = write("actual", new byte[0]);
+    File expected = write("expected", new byte[0]);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte_after_the_first_chunk() throws IOException {
+    // GIVEN
+    byte[] expectedContent = content(CONTENT_SIZE);
+    expectedContent[150_000] = (byte) 0xFF;
+    File actual = write("actual", content(CONTENT_SIZE));
+    File expected = write("expected", expectedContent);
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(150_000);
+    then(result.actual).isEqualTo("0x%X".formatted(150_000 % 251));
+    then(result.expected).isEqualTo("0xFF");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    // GIVEN
+    File actual = write("actual", content(CONTENT_SIZE - 1));
+    File expected = write("expected", content(CONTENT_SIZE));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(CONTENT_SIZE - 1);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x%X".formatted((CONTENT_SIZE - 1) % 251));
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    // GIVEN
+    File actual = write("actual", content(CONTENT_SIZE));
+    File expected = write("expected", content(65_536));
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(65_536);
+    then(result.actual).isEqualTo("0x%X".formatted(65_536 % 251));
+    then(result.expected).isEqualTo("EOF");
+  }
+
+  private File write(String fileName, byte[] content) throws IOException {
+    return Files.write(tempDir.toPath().resolve(fileName), content).toFile();
+  }
+
+  private static byte[] content(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) (i % 251);
+    }
+    return content;
+  }
+}
@@ -146,6 +146,44 @@ class Diff_diff_File_Test {
                                                    + "  [\"line_1\"]%n"));
   }
 
+  @Test
+  void should_report_the_line_numbers_of_differences_after_common_first_and_last_lines() throws IOException {
+    // GIVEN
+    writer.write(actual, "line0", "line1", "line_2", "line3", "line4");
+    writer.write(expected, "line0", "line1", "line2", "line2bis", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).singleElement().hasToString(format("Changed content at line 3:%n"
+                                                   + "expecting:%n"
+                                                   + "  [\"line2\",%n"
+                                                   + "   \"line2bis\"]%n"
+                                                   + "but was:%n"
+                                                   + "  [\"line_2\"]%n"));
+  }
+
+  @Test
+  void should_only_consider_the_last_equal_lines_as_common_last_lines() throws IOException {
+    // GIVEN
+    writer.write(actual, "line0", "line_1", "line2", "line_3", "line4");
+    writer.write(expected, "line0", "line1", "line2", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).extracting(Delta::lineNumber).containsExactly(2, 4);
+  }
+
+  @Test
+  void should_report_at_most_the_given_number_of_deltas() throws IOException {
+    // GIVEN
+    writer.write(actual, "line_0", "line1", "line_2", "line3", "line_4");
+    writer.write(expected, "line0", "line1", "line2", "line3", "line4");
+    // WHEN
+    List<Delta<String>> diffs = new Diff(2).diff(actual, defaultCharset(), expected, defaultCharset());
+    // THEN
+    then(diffs).extracting(Delta::lineNumber).containsExactly(1, 3);
+  }
+
   @Test
   void should_return_diffs_if_content_of_actual_is_longer_than_content_of_expected() throws IOException {
     // GIVEN
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.internal.iterables;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.testkit.TestData.someInfo;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.IterablesBaseTest;
+import org.assertj.core.internal.ParallelEvaluation;
+import org.junit.jupiter.api.Test;
+
+class Iterables_assertAllSatisfy_inParallel_Test extends IterablesBaseTest {
+
+  private final List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(toList());
+
+  @Test
+  void should_pass_if_all_elements_satisfy_requirements() {
+    iterables.assertAllSatisfy(someInfo(), numbers, number -> assertThat(number).isNotNegative(), parallelEvaluation(100));
+  }
+
+  @Test
+  void should_report_the_first_elements_not_satisfying_requirements_in_order() {
+    // GIVEN
+    Consumer<Integer> requirements = number -> assertThat(number % 1_000).isNotZero();
+    // WHEN
+    var error = expectAssertionError(() -> iterables.assertAllSatisfy(someInfo(), numbers, requirements,
+                                                                      parallelEvaluation(2)));
+    // THEN
+    then(error.getMessage()).containsSubsequence("0%nerror: ".formatted(), "1000%nerror: ".formatted())
+                            .doesNotContain("2000%nerror: ".formatted());
+  }
+
+  private static ParallelEvaluation parallelEvaluation(int maxReportedFailures) {
+    return new ParallelEvaluation(ForkJoinPool.commonPool(), maxReportedFailures);
+  }
+}
@@ -100,6 +100,16 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
     iterables.assertContainsExactlyInAnyOrder(info, actual, expected);
   }
 
+  @Test
+  void should_pass_if_actual_contains_lists_of_elements_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    Iterable<Object> actualLists = newArrayList(newArrayList(new EqualsWithoutHashCode("Luke")),
+                                                newArrayList(new EqualsWithoutHashCode("Yoda")));
+    Object[] expected = { newArrayList(new EqualsWithoutHashCode("Yoda")), newArrayList(new EqualsWithoutHashCode("Luke")) };
+    // WHEN/THEN
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), actualLists, expected);
+  }
+
   @Test
   void should_fail_if_actual_contains_duplicates_and_expected_does_not() {
     AssertionInfo info = someInfo();
@@ -174,4 +184,16 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
                                                                   comparisonStrategy));
   }
 
+  private static class EqualsWithoutHashCode {
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualsWithoutHashCode other && value.equals(other.value);
+    }
+  }
 }
@@ -30,8 +30,10 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.api.comparisonstrategy.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -191,4 +193,14 @@ class Iterables_assertContainsSequence_Test extends IterablesBaseTest {
                                                                           array("YODA", "luke", "lEIA", "Obi-wan"));
   }
 
+  @Test
+  void should_pass_if_actual_contains_sequence_according_to_custom_comparison_strategy_with_non_transitive_equality() {
+    // GIVEN
+    Comparator<Integer> closeEnough = (i1, i2) -> Math.abs(i1 - i2) <= 1 ? 0 : i1.compareTo(i2);
+    Iterables iterablesWithTolerance = new Iterables(new ComparatorBasedComparisonStrategy(closeEnough));
+    // WHEN/THEN
+    // 1 is close to 0 and 2, a Knuth-Morris-Pratt search would skip the occurrence starting at the second element
+    iterablesWithTolerance.assertContainsSequence(someInfo(), list(0, 1, 1, 2), array(0, 2, 3));
+  }
+
 }
@@ -131,6 +131,12 @@ class Iterables_assertEndsWith_Test extends IterablesBaseTest {
     iterables.assertEndsWith(someInfo(), actual, array("Yoda", "Luke", "Leia", "Obi-Wan"));
   }
 
+  @Test
+  void should_pass_if_actual_is_a_singly_traversable_sequence_and_ends_with_sequence() {
+    Iterable<String> actual = SinglyIterableFactory.createSinglyIterable(newArrayList("Leia", "Luke", "Yoda", "Obi-Wan"));
+    iterables.assertEndsWith(someInfo(), actual, array("Yoda", "Obi-Wan"));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.testkit;
+
+/**
+ * Counts how many times it was represented with {@code toString}.
+ */
+public class CountingToString {
+
+  private final String value;
+  private int toStringCalls;
+
+  public CountingToString(String value) {
+    this.value = value;
+  }
+
+  public int toStringCalls() {
+    return toStringCalls;
+  }
+
+  @Override
+  public String toString() {
+    toStringCalls++;
+    return value;
+  }
+}
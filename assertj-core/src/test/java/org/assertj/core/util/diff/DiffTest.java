@@ -19,8 +19,10 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -81,4 +83,21 @@ class DiffTest {
     assertThat(deltas.size()).isEqualTo(1);
     assertThat(deltas.get(0)).isInstanceOf(InsertDelta.class);
   }
+
+  @Test
+  void testDiff_LargeLists() {
+    List<String> original = new ArrayList<>();
+    IntStream.range(0, 200_000).forEach(i -> original.add("line " + i));
+    List<String> revised = new ArrayList<>(original);
+    revised.set(100_000, "changed");
+    revised.remove(150_000);
+
+    Patch<String> patch = DiffUtils.diff(original, revised);
+
+    List<Delta<String>> deltas = patch.getDeltas();
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(100_000, newArrayList("line 100000")),
+                                                         new Chunk<>(100_000, newArrayList("changed"))),
+                                       new DeleteDelta<>(new Chunk<>(150_000, newArrayList("line 150000")),
+                                                         new Chunk<>(150_000, emptyList())));
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_find_inserted_deleted_and_changed_elements() {
+    // GIVEN
+    List<String> original = list("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = list("000", "aaa", "zzz", "ccc", "eee", "fff");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(0, emptyList()), new Chunk<>(0, list("000"))),
+                                                  new ChangeDelta<>(new Chunk<>(1, list("bbb")), new Chunk<>(2, list("zzz"))),
+                                                  new DeleteDelta<>(new Chunk<>(3, list("ddd")), new Chunk<>(4, emptyList())),
+                                                  new InsertDelta<>(new Chunk<>(5, emptyList()), new Chunk<>(5, list("fff"))));
+  }
+
+  @Test
+  void should_return_an_empty_patch_for_equal_sequences() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(list("aaa", "bbb"), list("aaa", "bbb"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_return_a_single_change_for_sequences_without_common_elements() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(list("aaa", "bbb"), list("ccc", "ddd", "eee"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(0, list("aaa", "bbb")),
+                                                                    new Chunk<>(0, list("ccc", "ddd", "eee"))));
+  }
+
+  @Test
+  void should_compute_minimal_patches_like_MyersDiff() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      // GIVEN
+      List<Integer> original = randomSequence(random, random.nextInt(60));
+      List<Integer> revised = randomSequence(random, random.nextInt(60));
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(editCostOf(patch)).isEqualTo(editCostOf(new MyersDiff<Integer>().diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_compute_valid_patches_when_maximum_edit_cost_is_reached() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      // GIVEN
+      List<Integer> original = randomSequence(random, random.nextInt(100));
+      List<Integer> revised = randomSequence(random, random.nextInt(100));
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>(1 + random.nextInt(3)).diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+    }
+  }
+
+  @Test
+  void should_compare_large_sequences_with_many_differences() {
+    // GIVEN
+    List<Integer> original = IntStream.range(0, 1_000_000).boxed().collect(toList());
+    List<Integer> revised = new ArrayList<>(original);
+    for (int i = 0; i < revised.size(); i += 1000) {
+      revised.set(i, -i - 1);
+    }
+    // WHEN
+    Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>().diff(original, revised);
+    // THEN
+    List<Delta<Integer>> deltas = patch.getDeltas();
+    assertThat(deltas).hasSize(1000);
+    assertThat(deltas.get(500)).isEqualTo(new ChangeDelta<>(new Chunk<>(500_000, list(500_000)),
+                                                            new Chunk<>(500_000, list(-500_001))));
+  }
+
+  @Test
+  void should_only_compute_the_first_deltas_when_maximum_number_of_deltas_is_reached() {
+    Random random = new Random(42);
+    for (int run = 0; run < 500; run++) {
+      // GIVEN
+      List<Integer> original = randomSequence(random, random.nextInt(60));
+      List<Integer> revised = randomSequence(random, random.nextInt(60));
+      int maxDeltas = 1 + random.nextInt(3);
+      List<Delta<Integer>> deltas = new LinearSpaceMyersDiff<Integer>().diff(original, revised).getDeltas();
+      // WHEN
+      Patch<Integer> patch = new LinearSpaceMyersDiff<Integer>(Integer.MAX_VALUE, maxDeltas).diff(original, revised);
+      // THEN
+      assertThat(patch.getDeltas()).isEqualTo(deltas.subList(0, Math.min(maxDeltas, deltas.size())));
+    }
+  }
+
+  @Test
+  void should_fail_if_maximum_number_of_deltas_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new LinearSpaceMyersDiff<>(1, 0))
+                                        .withMessage("maxDeltas must be greater than 0 but was 0");
+  }
+
+  @Test
+  void should_fail_if_maximum_edit_cost_is_not_positive() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new LinearSpaceMyersDiff<>(0))
+                                        .withMessage("maxEditCost must be greater than 0 but was 0");
+  }
+
+  private static List<Integer> randomSequence(Random random, int size) {
+    // few distinct values to get common subsequences
+    return random.ints(size, 0, 4).boxed().collect(toList());
+  }
+
+  private static int editCostOf(Patch<Integer> patch) {
+    return patch.getDeltas().stream().mapToInt(delta -> delta.getOriginal().size() + delta.getRevised().size()).sum();
+  }
+}
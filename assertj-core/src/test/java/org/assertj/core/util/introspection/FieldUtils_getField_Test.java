@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+
+import org.assertj.core.internal.DeclaredFields;
+import org.assertj.core.testkit.Jedi;
+import org.junit.jupiter.api.Test;
+
+class FieldUtils_getField_Test {
+
+  @Test
+  void should_not_make_the_shared_declared_field_accessible_when_forcing_access() throws Exception {
+    // GIVEN
+    Jedi jedi = new Jedi("Yoda", "Green");
+    Field sharedField = DeclaredFields.of(Jedi.class).named("strangeNotReadablePrivateField");
+    // WHEN
+    Field field = FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", true);
+    // THEN
+    then(field).isNotSameAs(sharedField)
+               .isEqualTo(sharedField);
+    then(field.canAccess(jedi)).isTrue();
+    then(sharedField.canAccess(jedi)).isFalse();
+  }
+
+  @Test
+  void should_return_a_copy_of_the_shared_declared_field_of_a_superclass() throws Exception {
+    // GIVEN
+    Field sharedField = DeclaredFields.of(Jedi.class.getSuperclass()).named("name");
+    // WHEN
+    Field field = FieldUtils.getField(Jedi.class, "name", true);
+    // THEN
+    then(field).isNotSameAs(sharedField)
+               .isEqualTo(sharedField);
+  }
+
+}
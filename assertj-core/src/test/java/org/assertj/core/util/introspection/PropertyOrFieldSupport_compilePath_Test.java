@@ -0,0 +1,140 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.assertj.core.testkit.Employee;
+import org.assertj.core.testkit.Name;
+import org.junit.jupiter.api.Test;
+
+class PropertyOrFieldSupport_compilePath_Test {
+
+  private final PropertyOrFieldSupport underTest = PropertyOrFieldSupport.EXTRACTION;
+  private final Employee yoda = new Employee(1L, new Name("Yoda"), 800);
+
+  @Test
+  void should_extract_nested_property_field_combinations() {
+    // GIVEN
+    Employee luke = new Employee(2L, new Name("Luke", "Skywalker"), 26);
+    yoda.setRelation("padawan", luke);
+    Function<Object, Object> path = underTest.compilePath("relations.padawan.name.last");
+    // WHEN
+    Object value = path.apply(yoda);
+    // THEN
+    then(value).isEqualTo("Skywalker");
+  }
+
+  @Test
+  void should_return_null_if_one_of_nested_property_or_field_value_is_null() {
+    // GIVEN
+    Function<Object, Object> path = underTest.compilePath("surname.first");
+    // WHEN
+    Object value = path.apply(yoda);
+    // THEN
+    then(value).isNull();
+  }
+
+  @Test
+  void should_extract_values_from_more_types_than_cached_ones() {
+    // GIVEN
+    Function<Object, Object> path = underTest.compilePath("value");
+    Object[] inputs = { Optional.of("optional"), Map.of("value", "map"), new StringHolder("field"), new Getter("getter"),
+        new StringHolder("field 2"), new ValueRecord("record"), Map.of("value", "map 2") };
+    // WHEN/THEN
+    for (Object input : inputs) {
+      then(path.apply(input)).isEqualTo(underTest.getValueOf("value", input));
+    }
+  }
+
+  @Test
+  void should_fail_like_getValueOf_when_given_name_is_not_found() {
+    // GIVEN
+    Function<Object, Object> path = underTest.compilePath("name.unknown");
+    // WHEN
+    Throwable thrown = catchThrowable(() -> path.apply(yoda));
+    // THEN
+    then(thrown).isInstanceOf(IntrospectionError.class)
+                .hasMessage(catchThrowable(() -> underTest.getValueOf("name.unknown", yoda)).getMessage());
+  }
+
+  @Test
+  void should_throw_exception_when_given_name_is_null() {
+    // GIVEN
+    Function<Object, Object> path = underTest.compilePath(null);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> path.apply(yoda));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The name of the property/field to read should not be null");
+  }
+
+  @Test
+  void should_honor_bare_name_property_setting_changes_after_having_read_a_value() {
+    // GIVEN
+    Function<Object, Object> path = underTest.compilePath("value");
+    BareNameAndField input = new BareNameAndField();
+    boolean bareNamePropertyMethods = Introspection.canExtractBareNamePropertyMethods();
+    try {
+      Introspection.setExtractBareNamePropertyMethods(false);
+      then(path.apply(input)).isEqualTo("field");
+      Introspection.setExtractBareNamePropertyMethods(true);
+      // WHEN
+      Object value = path.apply(input);
+      // THEN
+      then(value).isEqualTo("bare name");
+    } finally {
+      Introspection.setExtractBareNamePropertyMethods(bareNamePropertyMethods);
+    }
+  }
+
+  static class StringHolder {
+    private final String value;
+
+    StringHolder(String value) {
+      this.value = value;
+    }
+  }
+
+  static class Getter {
+    private final String text;
+
+    Getter(String text) {
+      this.text = text;
+    }
+
+    public String getValue() {
+      return text;
+    }
+  }
+
+  record ValueRecord(String value) {
+  }
+
+  static class BareNameAndField {
+    private final String value = "field";
+
+    public String value() {
+      return "bare name";
+    }
+  }
+
+}
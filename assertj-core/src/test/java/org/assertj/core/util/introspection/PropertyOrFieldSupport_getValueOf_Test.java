@@ -240,6 +240,57 @@ class PropertyOrFieldSupport_getValueOf_Test {
     then(value).isEqualTo("New York");
   }
 
+  @Test
+  void should_invoke_getter_only_once() {
+    // GIVEN
+    CountingEmployee employee = new CountingEmployee();
+    // WHEN
+    Object value = underTest.getValueOf("city", employee);
+    // THEN
+    then(value).isEqualTo("Paris");
+    then(employee.getCityCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_invoke_failing_getter_only_once_when_falling_back_to_field() {
+    // GIVEN
+    FailingGetterEmployee employee = new FailingGetterEmployee();
+    // WHEN
+    Object value = underTest.getValueOf("city", employee);
+    // THEN
+    then(value).isEqualTo("Madrid");
+    then(employee.getCityCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_invoke_failing_getter_only_once_when_reporting_its_exception() {
+    // GIVEN
+    FailingGetterEmployee employee = new FailingGetterEmployee();
+    // WHEN
+    Throwable thrown = catchThrowable(() -> underTest.getValueOf("country", employee));
+    // THEN
+    then(thrown).isInstanceOf(IntrospectionError.class)
+                .hasMessage("Unable to invoke getter getCountry in FailingGetterEmployee, exception: java.lang.IllegalStateException: boom");
+    then(((IntrospectionError) thrown).getterInvocationException()).containsInstanceOf(IllegalStateException.class);
+    then(employee.getCountryCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_honor_private_fields_setting_changes_after_having_read_a_field() {
+    // GIVEN
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.EXTRACTION);
+    then(underTest.getValueOf("city", yoda)).isEqualTo("New York");
+    try {
+      underTest.setAllowUsingPrivateFields(false);
+      // WHEN
+      Throwable thrown = catchThrowable(() -> underTest.getValueOf("city", yoda));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class);
+    } finally {
+      underTest.setAllowUsingPrivateFields(true);
+    }
+  }
+
   private Employee employeeWithBrokenName(String name) {
     return new Employee(1L, new Name(name), 0) {
       @Override
@@ -292,4 +343,29 @@ class PropertyOrFieldSupport_getValueOf_Test {
     public void getCity() {}
   }
 
+  static class CountingEmployee {
+    int getCityCalls;
+
+    public String getCity() {
+      getCityCalls++;
+      return "Paris";
+    }
+  }
+
+  static class FailingGetterEmployee {
+    private final String city = "Madrid";
+    int getCityCalls;
+    int getCountryCalls;
+
+    public String getCity() {
+      getCityCalls++;
+      throw new IllegalStateException("boom");
+    }
+
+    public String getCountry() {
+      getCountryCalls++;
+      throw new IllegalStateException("boom");
+    }
+  }
+
 }
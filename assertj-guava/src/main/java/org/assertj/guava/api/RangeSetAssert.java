@@ -15,9 +15,7 @@
  */
 package org.assertj.guava.api;
 
-import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 import static org.assertj.core.error.ShouldBeEmpty.shouldBeEmpty;
 import static org.assertj.core.error.ShouldBeNullOrEmpty.shouldBeNullOrEmpty;
 import static org.assertj.core.error.ShouldContain.shouldContain;
@@ -34,6 +32,7 @@ import static org.assertj.guava.error.RangeSetShouldIntersectAnyOf.shouldInterse
 import static org.assertj.guava.error.RangeSetShouldNotEnclose.shouldNotEnclose;
 import static org.assertj.guava.error.RangeSetShouldNotIntersect.shouldNotIntersect;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.api.AbstractAssert;
@@ -154,7 +153,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private void assertRangeSetContainsGivenValues(RangeSet actual, Comparable[] values) {
-    List<?> elementsNotFound = stream(values).filter(value -> !actual.contains(value)).collect(toList());
+    List<?> elementsNotFound = filter(values, RangeSetSweep.contains(actual, values), false);
     if (!elementsNotFound.isEmpty()) throwAssertionError(shouldContain(actual, values, elementsNotFound));
   }
 
@@ -228,7 +227,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private void assertRangeSetContainsAnyGivenValues(RangeSet actual, Comparable[] values) {
-    boolean match = stream(values).anyMatch(actual::contains);
+    boolean match = anyMatch(RangeSetSweep.contains(actual, values));
     if (!match) throwAssertionError(shouldContainAnyOf(actual, values));
   }
 
@@ -299,7 +298,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
 
   @SuppressWarnings({ "rawtypes", "unchecked" })
   private void assertRangeSetDoesNotContainGivenValues(RangeSet actual, Comparable[] values) {
-    List<?> elementsFound = stream(values).filter(actual::contains).collect(toList());
+    List<?> elementsFound = filter(values, RangeSetSweep.contains(actual, values), true);
     if (!elementsFound.isEmpty()) throwAssertionError(shouldNotContain(actual, values, elementsFound));
   }
 
@@ -482,7 +481,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetIntersectsGivenValues(Range<T>[] ranges) {
-    List<?> notIntersected = stream(ranges).filter(range -> !actual.intersects(range)).collect(toList());
+    List<?> notIntersected = filter(ranges, RangeSetSweep.intersects(actual, ranges), false);
     if (!notIntersected.isEmpty()) throwAssertionError(shouldIntersect(actual, ranges, notIntersected));
   }
 
@@ -595,7 +594,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetIntersectsAnyOfGivenValues(Range<T>[] ranges) {
-    boolean intersects = stream(ranges).anyMatch(actual::intersects);
+    boolean intersects = anyMatch(RangeSetSweep.intersects(actual, ranges));
     if (!intersects) throwAssertionError(shouldIntersectAnyOf(actual, ranges));
   }
 
@@ -703,7 +702,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetDoesNotIntersectGivenValues(Range<T>[] ranges) {
-    List<?> intersected = stream(ranges).filter(actual::intersects).collect(toList());
+    List<?> intersected = filter(ranges, RangeSetSweep.intersects(actual, ranges), true);
     if (!intersected.isEmpty()) throwAssertionError(shouldNotIntersect(actual, ranges, intersected));
   }
 
@@ -814,7 +813,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetEnclosesGivenValues(Range<T>[] ranges) {
-    List<?> notEnclosed = stream(ranges).filter(range -> !actual.encloses(range)).collect(toList());
+    List<?> notEnclosed = filter(ranges, RangeSetSweep.encloses(actual, ranges), false);
     if (!notEnclosed.isEmpty()) throwAssertionError(shouldEnclose(actual, ranges, notEnclosed));
   }
 
@@ -931,7 +930,7 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetEnclosesAnyOfGivenValues(Range<T>[] ranges) {
-    boolean match = stream(ranges).anyMatch(actual::encloses);
+    boolean match = anyMatch(RangeSetSweep.encloses(actual, ranges));
     if (!match) throwAssertionError(shouldEncloseAnyOf(actual, ranges));
   }
 
@@ -1045,10 +1044,26 @@ public class RangeSetAssert<T extends Comparable<T>> extends AbstractAssert<Rang
   }
 
   private void assertRangeSetDoesNotEncloseGivenValues(Range<T>[] ranges) {
-    List<?> enclosed = stream(ranges).filter(actual::encloses).collect(toList());
+    List<?> enclosed = filter(ranges, RangeSetSweep.encloses(actual, ranges), true);
     if (!enclosed.isEmpty()) throwAssertionError(shouldNotEnclose(actual, ranges, enclosed));
   }
 
+  // elements are kept in the given order to report them as they were given
+  private static <E> List<E> filter(E[] elements, boolean[] matches, boolean match) {
+    List<E> filtered = new ArrayList<>();
+    for (int i = 0; i < elements.length; i++) {
+      if (matches[i] == match) filtered.add(elements[i]);
+    }
+    return filtered;
+  }
+
+  private static boolean anyMatch(boolean[] matches) {
+    for (boolean match : matches) {
+      if (match) return true;
+    }
+    return false;
+  }
+
   private static <T> void failIfEmpty(T[] array, String label) {
     if (array.length == 0) throw new IllegalArgumentException("Expecting " + label + " not to be empty");
   }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.guava.api;
+
+import static com.google.common.collect.BoundType.OPEN;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.function.BiPredicate;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
+/**
+ * Checks many values or ranges against a {@link RangeSet} with a single merged sweep over the (sorted) ranges of the
+ * {@code RangeSet} and the given values or ranges sorted by lower bound, instead of querying the {@code RangeSet} once per
+ * value or range.
+ * <p>
+ * The results are indexed like the given values or ranges so that failures can be reported in the order they were given.
+ */
+final class RangeSetSweep {
+
+  private RangeSetSweep() {}
+
+  /**
+   * Returns, for each given value, whether it is contained in the given {@code RangeSet}.
+   */
+  static <T extends Comparable<? super T>> boolean[] contains(RangeSet<T> rangeSet, T[] values) {
+    boolean[] contained = new boolean[values.length];
+    if (values.length == 0) return contained;
+    Integer[] indexes = sortedIndexes(values.length, (index1, index2) -> values[index1].compareTo(values[index2]));
+    Range<T> span = Range.closed(values[indexes[0]], values[indexes[indexes.length - 1]]);
+    Iterator<Range<T>> ranges = rangeSet.subRangeSet(span).asRanges().iterator();
+    Range<T> range = nextNonEmpty(ranges);
+    for (int index : indexes) {
+      T value = values[index];
+      // the ranges of a RangeSet are disconnected and sorted, and values are sorted: ranges ending before a value can't
+      // contain it nor any of the following values
+      while (range != null && endsBefore(range, value)) range = nextNonEmpty(ranges);
+      if (range == null) break;
+      contained[index] = range.contains(value);
+    }
+    return contained;
+  }
+
+  /**
+   * Returns, for each given range, whether the given {@code RangeSet} intersects it, with the semantics of
+   * {@link RangeSet#intersects(Range)}.
+   */
+  static <T extends Comparable<? super T>> boolean[] intersects(RangeSet<T> rangeSet, Range<T>[] ranges) {
+    return sweep(rangeSet, ranges, (range, other) -> range.isConnected(other) && !range.intersection(other).isEmpty(),
+                 RangeSet::intersects);
+  }
+
+  /**
+   * Returns, for each given range, whether the given {@code RangeSet} encloses it, with the semantics of
+   * {@link RangeSet#encloses(Range)}.
+   */
+  static <T extends Comparable<? super T>> boolean[] encloses(RangeSet<T> rangeSet, Range<T>[] ranges) {
+    return sweep(rangeSet, ranges, Range::encloses, RangeSet::encloses);
+  }
+
+  private static <T extends Comparable<? super T>> boolean[] sweep(RangeSet<T> rangeSet, Range<T>[] ranges,
+                                                                   BiPredicate<Range<T>, Range<T>> rangeMatches,
+                                                                   BiPredicate<RangeSet<T>, Range<T>> rangeSetMatches) {
+    boolean[] matches = new boolean[ranges.length];
+    // empty ranges have no values to sweep over, they are rare enough to be checked directly against the RangeSet
+    Range<T> span = null;
+    for (int index = 0; index < ranges.length; index++) {
+      Range<T> range = ranges[index];
+      if (range.isEmpty()) {
+        matches[index] = rangeSetMatches.test(rangeSet, range);
+      } else {
+        span = span == null ? range : span.span(range);
+      }
+    }
+    if (span == null) return matches;
+    Integer[] indexes = sortedIndexes(ranges.length, (index1, index2) -> compareLowerBounds(ranges[index1], ranges[index2]));
+    Iterator<Range<T>> rangeSetRanges = rangeSet.subRangeSet(span).asRanges().iterator();
+    Range<T> rangeSetRange = nextNonEmpty(rangeSetRanges);
+    for (int index : indexes) {
+      Range<T> range = ranges[index];
+      if (range.isEmpty()) continue;
+      // the ranges of a RangeSet are disconnected and sorted, the given ranges are sorted by lower bound: a RangeSet range
+      // ending before a given range can't match it nor any of the following ranges, and the first one not ending before is
+      // the only one that can intersect or enclose it
+      while (rangeSetRange != null && endsBefore(rangeSetRange, range)) rangeSetRange = nextNonEmpty(rangeSetRanges);
+      if (rangeSetRange == null) break;
+      matches[index] = rangeMatches.test(rangeSetRange, range);
+    }
+    return matches;
+  }
+
+  private static Integer[] sortedIndexes(int size, Comparator<Integer> comparator) {
+    Integer[] indexes = new Integer[size];
+    Arrays.setAll(indexes, index -> index);
+    Arrays.sort(indexes, comparator);
+    return indexes;
+  }
+
+  private static <T extends Comparable<? super T>> Range<T> nextNonEmpty(Iterator<Range<T>> ranges) {
+    while (ranges.hasNext()) {
+      Range<T> range = ranges.next();
+      if (!range.isEmpty()) return range;
+    }
+    return null;
+  }
+
+  private static <T extends Comparable<? super T>> boolean endsBefore(Range<T> range, T value) {
+    if (!range.hasUpperBound()) return false;
+    int comparison = range.upperEndpoint().compareTo(value);
+    return comparison < 0 || comparison == 0 && range.upperBoundType() == OPEN;
+  }
+
+  private static <T extends Comparable<? super T>> boolean endsBefore(Range<T> range, Range<T> other) {
+    if (!range.hasUpperBound() || !other.hasLowerBound()) return false;
+    int comparison = range.upperEndpoint().compareTo(other.lowerEndpoint());
+    return comparison < 0 || comparison == 0 && (range.upperBoundType() == OPEN || other.lowerBoundType() == OPEN);
+  }
+
+  private static <T extends Comparable<? super T>> int compareLowerBounds(Range<T> range1, Range<T> range2) {
+    if (!range1.hasLowerBound()) return range2.hasLowerBound() ? -1 : 0;
+    if (!range2.hasLowerBound()) return 1;
+    int comparison = range1.lowerEndpoint().compareTo(range2.lowerEndpoint());
+    if (comparison != 0) return comparison;
+    // [a starts before (a
+    return compareLowerBoundTypes(range1.lowerBoundType(), range2.lowerBoundType());
+  }
+
+  private static int compareLowerBoundTypes(BoundType boundType1, BoundType boundType2) {
+    if (boundType1 == boundType2) return 0;
+    return boundType1 == OPEN ? 1 : -1;
+  }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the {@link GCProfiler} to report allocations along with timings, it accepts the standard JMH
+ * command line options.
+ * <p>
+ * Benchmarks are built and run with:
+ * <pre><code class='bash'> ./mvnw -P benchmarks -pl assertj-tests/assertj-benchmarks -am package -DskipTests
+ * java -jar assertj-tests/assertj-benchmarks/target/benchmarks.jar -rf json -rff results.json</code></pre>
+ * <p>
+ * Results of two runs can be compared by uploading their JSON files to a JMH results visualizer, only results measured
+ * on the same machine are comparable. A baseline is checked in {@code assertj-tests/assertj-benchmarks/baseline} along with
+ * the machine and options it was measured with.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    if (commandLineOptions.shouldHelp()) {
+      commandLineOptions.showHelp();
+      return;
+    }
+    if (commandLineOptions.shouldList()) {
+      new Runner(commandLineOptions).list();
+      return;
+    }
+    Options options = new OptionsBuilder().parent(commandLineOptions)
+                                          .addProfiler(GCProfiler.class)
+                                          .build();
+    new Runner(options).run();
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractPathAssert;
+import org.assertj.core.api.AbstractStringAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures string assertions and file content comparisons on texts of {@code lines} lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentComparisonBenchmark {
+
+  @Param({ "100", "100000" })
+  public int lines;
+
+  private String text;
+  private String textWithOtherWhitespaces;
+  private String lastLineInUpperCase;
+  private Path file;
+  private Path sameContentFile;
+
+  @Setup
+  public void setup() throws IOException {
+    StringBuilder textBuilder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      textBuilder.append("line ").append(i).append(" of the text").append(System.lineSeparator());
+    }
+    text = textBuilder.toString();
+    textWithOtherWhitespaces = text.replace(" ", "\t ");
+    lastLineInUpperCase = ("line " + (lines - 1) + " of the text").toUpperCase();
+    file = Files.createTempFile("assertj-benchmark", ".txt");
+    Files.writeString(file, text);
+    sameContentFile = Files.createTempFile("assertj-benchmark", ".txt");
+    Files.writeString(sameContentFile, text);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+    Files.deleteIfExists(sameContentFile);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> string_isEqualTo() {
+    return assertThat(text).isEqualTo(new String(text));
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> string_isEqualToIgnoringWhitespace() {
+    return assertThat(text).isEqualToIgnoringWhitespace(textWithOtherWhitespaces);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> string_containsIgnoringCase() {
+    return assertThat(text).containsIgnoringCase(lastLineInUpperCase);
+  }
+
+  @Benchmark
+  public AbstractPathAssert<?> path_hasContent() {
+    return assertThat(file).hasContent(text);
+  }
+
+  @Benchmark
+  public AbstractPathAssert<?> path_hasSameTextualContentAs() {
+    return assertThat(file).hasSameTextualContentAs(sameContentFile);
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.ListAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IterableAssertionsBenchmark {
+
+  @Param({ "1000", "100000", "10000000" })
+  public int size;
+
+  private List<Integer> actual;
+  private Integer[] sameElements;
+  private Integer[] shuffledElements;
+  private Integer[] lastElements;
+
+  @Setup
+  public void setup() {
+    actual = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      actual.add(i);
+    }
+    sameElements = actual.toArray(new Integer[0]);
+    List<Integer> shuffled = new ArrayList<>(actual);
+    Collections.shuffle(shuffled, new Random(42));
+    shuffledElements = shuffled.toArray(new Integer[0]);
+    lastElements = actual.subList(size - 10, size).toArray(new Integer[0]);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> containsExactly() {
+    return assertThat(actual).containsExactly(sameElements);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(shuffledElements);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> containsOnly() {
+    return assertThat(actual).containsOnly(shuffledElements);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> containsSequence() {
+    return assertThat(actual).containsSequence(lastElements);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> endsWith() {
+    return assertThat(actual).endsWith(lastElements);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> doesNotHaveDuplicates() {
+    return assertThat(actual).doesNotHaveDuplicates();
+  }
+
+  @Benchmark
+  public ListAssert<Integer> isSorted() {
+    return assertThat(actual).isSorted();
+  }
+
+  @Benchmark
+  public ListAssert<Integer> allMatch() {
+    return assertThat(actual).allMatch(element -> element >= 0);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> allSatisfy() {
+    return assertThat(actual).allSatisfy(element -> assertThat(element).isNotNegative());
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.AbstractIntArrayAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PrimitiveArrayAssertionsBenchmark {
+
+  @Param({ "1000", "100000", "10000000" })
+  public int size;
+
+  private int[] actual;
+  private int[] sameValues;
+  private int[] shuffledValues;
+  private int[] absentValues;
+
+  @Setup
+  public void setup() {
+    actual = IntStream.range(0, size).toArray();
+    sameValues = actual.clone();
+    shuffledValues = actual.clone();
+    Random random = new Random(42);
+    for (int i = shuffledValues.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int value = shuffledValues[i];
+      shuffledValues[i] = shuffledValues[j];
+      shuffledValues[j] = value;
+    }
+    absentValues = IntStream.range(size, size + 1000).toArray();
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> isEqualTo() {
+    return assertThat(actual).isEqualTo(sameValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsExactly() {
+    return assertThat(actual).containsExactly(sameValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> contains() {
+    return assertThat(actual).contains(shuffledValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsOnly() {
+    return assertThat(actual).containsOnly(shuffledValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> containsExactlyInAnyOrder() {
+    return assertThat(actual).containsExactlyInAnyOrder(shuffledValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> doesNotContain() {
+    return assertThat(actual).doesNotContain(absentValues);
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> doesNotHaveDuplicates() {
+    return assertThat(actual).doesNotHaveDuplicates();
+  }
+
+  @Benchmark
+  public AbstractIntArrayAssert<?> isSorted() {
+    return assertThat(actual).isSorted();
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractListAssert;
+import org.assertj.core.api.ListAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyExtractionBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int size;
+
+  private List<Person> persons;
+
+  @Setup
+  public void setup() {
+    persons = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      persons.add(new Person("person " + i, i % 100, new Address("city " + i % 10)));
+    }
+  }
+
+  @Benchmark
+  public AbstractListAssert<?, List<?>, Object, ?> extracting_property() {
+    return assertThat(persons).extracting("name");
+  }
+
+  @Benchmark
+  public AbstractListAssert<?, List<?>, Object, ?> extracting_nested_property() {
+    return assertThat(persons).extracting("address.city");
+  }
+
+  @Benchmark
+  public AbstractListAssert<?, List<?>, Object, ?> extracting_field() {
+    return assertThat(persons).extracting("age");
+  }
+
+  @Benchmark
+  public AbstractListAssert<?, List<? extends String>, String, ?> extracting_function() {
+    return assertThat(persons).extracting(Person::getName);
+  }
+
+  @Benchmark
+  public ListAssert<Person> filteredOn_property() {
+    return assertThat(persons).filteredOn("address.city", "city 1");
+  }
+
+  public static class Person {
+
+    private final String name;
+    // read directly as a field, there is no getter
+    private final int age;
+    private final Address address;
+
+    Person(String name, int age, Address address) {
+      this.name = name;
+      this.age = age;
+      this.address = address;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Address getAddress() {
+      return address;
+    }
+
+  }
+
+  public static class Address {
+
+    private final String city;
+
+    Address(String city) {
+      this.city = city;
+    }
+
+    public String getCity() {
+      return city;
+    }
+
+  }
+
+}
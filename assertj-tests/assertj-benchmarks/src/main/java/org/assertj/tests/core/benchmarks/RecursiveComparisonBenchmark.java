@@ -0,0 +1,135 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.RecursiveComparisonAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares graphs of {@code nodes} nodes with the recursive comparison, deep graphs are chains of nodes whereas wide
+ * graphs are a root node with all the other nodes as children.
+ * <p>
+ * The field locations of a deep graph get longer with each level, comparing the deepest graphs needs a bigger heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RecursiveComparisonBenchmark {
+
+  @Param({ "100", "10000" })
+  public int nodes;
+
+  private Node deepActual;
+  private Node deepExpected;
+  private Node wideActual;
+  private Node wideExpected;
+  private Node wideShuffledExpected;
+
+  @Setup
+  public void setup() {
+    deepActual = deepGraph(nodes);
+    deepExpected = deepGraph(nodes);
+    wideActual = wideGraph(nodes, false);
+    wideExpected = wideGraph(nodes, false);
+    wideShuffledExpected = wideGraph(nodes, true);
+  }
+
+  @Benchmark
+  public RecursiveComparisonAssert<?> deepGraph_isEqualTo() {
+    return assertThat(deepActual).usingRecursiveComparison()
+                                 .isEqualTo(deepExpected);
+  }
+
+  @Benchmark
+  public RecursiveComparisonAssert<?> wideGraph_isEqualTo() {
+    return assertThat(wideActual).usingRecursiveComparison()
+                                 .isEqualTo(wideExpected);
+  }
+
+  @Benchmark
+  public RecursiveComparisonAssert<?> wideGraph_isEqualTo_ignoringCollectionOrder() {
+    return assertThat(wideActual).usingRecursiveComparison()
+                                 .ignoringCollectionOrder()
+                                 .isEqualTo(wideShuffledExpected);
+  }
+
+  private static Node deepGraph(int nodes) {
+    Node node = new Node("node " + nodes, nodes, new ArrayList<>());
+    for (int i = nodes - 1; i > 0; i--) {
+      List<Node> children = new ArrayList<>();
+      children.add(node);
+      node = new Node("node " + i, i, children);
+    }
+    return node;
+  }
+
+  private static Node wideGraph(int nodes, boolean shuffleChildren) {
+    List<Node> children = new ArrayList<>(nodes);
+    for (int i = 1; i < nodes; i++) {
+      children.add(new Node("node " + i, i, new ArrayList<>()));
+    }
+    if (shuffleChildren) Collections.shuffle(children, new Random(42));
+    return new Node("root", 0, children);
+  }
+
+  public static class Node {
+
+    private final String name;
+    private final int value;
+    private final List<Node> children;
+
+    Node(String name, int value, List<Node> children) {
+      this.name = name;
+      this.value = value;
+      this.children = children;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getValue() {
+      return value;
+    }
+
+    public List<Node> getChildren() {
+      return children;
+    }
+
+  }
+
+}
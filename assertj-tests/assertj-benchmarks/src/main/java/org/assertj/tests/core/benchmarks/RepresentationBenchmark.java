@@ -0,0 +1,104 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.presentation.StandardRepresentation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures representing large values and building the error messages of assertions failing on large values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepresentationBenchmark {
+
+  @Param({ "1000", "100000" })
+  public int size;
+
+  private final StandardRepresentation representation = new StandardRepresentation();
+  private List<String> list;
+  private List<String> otherList;
+  private Map<String, Integer> map;
+  private int[] array;
+
+  @Setup
+  public void setup() {
+    list = new ArrayList<>(size);
+    otherList = new ArrayList<>(size);
+    map = new HashMap<>();
+    array = new int[size];
+    for (int i = 0; i < size; i++) {
+      list.add("element " + i);
+      otherList.add("element " + (size - i));
+      map.put("key " + i, i);
+      array[i] = i;
+    }
+  }
+
+  @Benchmark
+  public String list_toStringOf() {
+    return representation.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map_toStringOf() {
+    return representation.toStringOf(map);
+  }
+
+  @Benchmark
+  public String array_toStringOf() {
+    return representation.toStringOf(array);
+  }
+
+  @Benchmark
+  public String list_unambiguousToStringOf() {
+    return representation.unambiguousToStringOf(list);
+  }
+
+  @Benchmark
+  public Throwable containsExactly_failure() {
+    return catchThrowable(() -> assertThat(list).containsExactlyElementsOf(otherList));
+  }
+
+  @Benchmark
+  public Throwable isEqualTo_failure() {
+    return catchThrowable(() -> assertThat(list).isEqualTo(otherList));
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoftAssertionsBenchmark {
+
+  private static final List<String> NAMES = List.of("Frodo", "Sam", "Merry", "Pippin");
+
+  @Benchmark
+  public SoftAssertions singlePassingAssertion() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(NAMES).contains("Sam");
+    softly.assertAll();
+    return softly;
+  }
+
+  @Benchmark
+  public SoftAssertions tenPassingAssertions() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < 10; i++) {
+      softly.assertThat(i).isNotNegative();
+      softly.assertThat(NAMES).hasSize(4);
+    }
+    softly.assertAll();
+    return softly;
+  }
+
+  @Benchmark
+  public List<AssertionError> tenFailingAssertions() {
+    SoftAssertions softly = new SoftAssertions();
+    for (int i = 0; i < 10; i++) {
+      softly.assertThat(NAMES).contains("Gandalf");
+    }
+    return softly.assertionErrorsCollected();
+  }
+
+  @Benchmark
+  public SoftAssertions navigatingAssertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(NAMES).first().asString().startsWith("F");
+    softly.assertThat(NAMES).extracting(String::length).contains(3);
+    softly.assertAll();
+    return softly;
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_BaseTest {
+
+  private final RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+
+  record Person(String name, Address address, List<Address> previousAddresses) {
+  }
+
+  record Address(String street, int number) {
+  }
+
+  @Test
+  void should_pass_when_large_lists_are_equal() {
+    // GIVEN
+    List<Person> actual = persons(1000);
+    List<Person> expected = persons(1000);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons(1000);
+    List<Person> expected = persons(1000);
+    expected.set(10, new Person("Jack", actual.get(10).address(), actual.get(10).previousAddresses()));
+    expected.get(500).previousAddresses().set(300, new Address("Main street", -1));
+    expected.set(999, new Person(actual.get(999).name(), new Address("Main street", 0), actual.get(999).previousAddresses()));
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected, configWithParallelism(4));
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       new RecursiveComparisonConfiguration());
+    then(parallelDifferences).extracting(ComparisonDifference::getConcatenatedPath)
+                             .containsExactly("[10].name", "[500].previousAddresses[300].number", "[999].address.number");
+    then(parallelDifferences).isEqualTo(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_for_arrays_and_maps() {
+    // GIVEN
+    Map<String, Person[]> actual = new TreeMap<>();
+    Map<String, Person[]> expected = new TreeMap<>();
+    for (int i = 0; i < 256; i++) {
+      actual.put("key" + i, persons(256).toArray(new Person[0]));
+      expected.put("key" + i, persons(256).toArray(new Person[0]));
+    }
+    expected.get("key42")[42] = new Person("Jack", new Address("Main street", 42), new ArrayList<>());
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected, configWithParallelism(3));
+    // THEN
+    then(parallelDifferences).isEqualTo(calculator.determineDifferences(actual, expected, new RecursiveComparisonConfiguration()));
+    then(parallelDifferences).extracting(ComparisonDifference::getConcatenatedPath)
+                             .containsExactly("key42[42].name", "key42[42].previousAddresses");
+  }
+
+  @Test
+  void should_report_shared_values_as_already_visited_like_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons(1000);
+    List<Person> expected = persons(1000);
+    // elements far apart, thus compared in different chunks, share the same previous addresses of different sizes
+    List<Address> sharedActualAddresses = List.of(new Address("Main street", 1));
+    List<Address> sharedExpectedAddresses = List.of();
+    for (int i : new int[] { 0, 500, 999 }) {
+      actual.set(i, new Person("person " + i, actual.get(i).address(), sharedActualAddresses));
+      expected.set(i, new Person("person " + i, expected.get(i).address(), sharedExpectedAddresses));
+    }
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = calculator.determineDifferences(actual, expected, configWithParallelism(4));
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       new RecursiveComparisonConfiguration());
+    then(parallelDifferences).isEqualTo(sequentialDifferences)
+                             .extracting(ComparisonDifference::getConcatenatedPath)
+                             .containsExactly("[0].previousAddresses", "[500].previousAddresses", "[999].previousAddresses");
+    then(parallelDifferences).extracting(ComparisonDifference::getAdditionalInformation)
+                             .containsExactly(Optional.of("already visited node but now location is: <previousAddresses>"),
+                                              Optional.of("already visited node but now location is: <previousAddresses>"),
+                                              Optional.of("actual and expected values are collections of different size, actual size=1 when expected size=0"));
+  }
+
+  @Test
+  void should_visit_the_same_number_of_dual_values_as_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons(1000);
+    List<Person> expected = persons(1000);
+    Address sharedAddress = new Address("Main street", 1);
+    actual.set(0, new Person("person 0", sharedAddress, actual.get(0).previousAddresses()));
+    actual.set(999, new Person("person 999", sharedAddress, actual.get(999).previousAddresses()));
+    expected.set(0, new Person("person 0", sharedAddress, expected.get(0).previousAddresses()));
+    expected.set(999, new Person("person 999", sharedAddress, expected.get(999).previousAddresses()));
+    // WHEN
+    int parallelVisitedDualValues = calculator.compare(actual, expected, configWithParallelism(4)).getVisitedDualValuesCount();
+    // THEN
+    then(parallelVisitedDualValues).isEqualTo(calculator.compare(actual, expected, new RecursiveComparisonConfiguration())
+                                                        .getVisitedDualValuesCount());
+  }
+
+  @Test
+  void should_only_compare_again_the_elements_sharing_values_with_elements_merged_before() {
+    // GIVEN
+    List<Person> actual = persons(1000);
+    List<Person> expected = persons(1000);
+    Address sharedAddress = new Address("Main street", 1);
+    actual.set(0, new Person("person 0", sharedAddress, actual.get(0).previousAddresses()));
+    actual.set(999, new Person("person 999", sharedAddress, actual.get(999).previousAddresses()));
+    expected.set(0, new Person("person 0", sharedAddress, expected.get(0).previousAddresses()));
+    expected.set(999, new Person("person 999", sharedAddress, expected.get(999).previousAddresses()));
+    AtomicInteger sequentialStringComparisons = new AtomicInteger();
+    calculator.determineDifferences(actual, expected,
+                                    countingStringComparisons(new RecursiveComparisonConfiguration(), sequentialStringComparisons));
+    AtomicInteger parallelStringComparisons = new AtomicInteger();
+    // WHEN
+    calculator.determineDifferences(actual, expected, countingStringComparisons(configWithParallelism(4), parallelStringComparisons));
+    // THEN
+    then(parallelStringComparisons.get()).isLessThan(sequentialStringComparisons.get() * 3 / 2);
+  }
+
+  @Test
+  void should_fail_with_the_differences_found_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons(500);
+    List<Person> expected = persons(500);
+    expected.set(400, new Person("Jack", actual.get(400).address(), actual.get(400).previousAddresses()));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withParallelism(2)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContainingAll("field/property '[400].name' differ:",
+                                                 "- actual value  : \"person 400\"",
+                                                 "- expected value: \"Jack\"");
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_positive() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> assertThat(persons(1)).usingRecursiveComparison().withParallelism(-1));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was -1");
+  }
+
+  private static RecursiveComparisonConfiguration configWithParallelism(int parallelism) {
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.setParallelism(parallelism);
+    return configuration;
+  }
+
+  private static RecursiveComparisonConfiguration countingStringComparisons(RecursiveComparisonConfiguration configuration,
+                                                                           AtomicInteger stringComparisons) {
+    configuration.registerEqualsForType((String s1, String s2) -> {
+      stringComparisons.incrementAndGet();
+      return s1.equals(s2);
+    }, String.class);
+    return configuration;
+  }
+
+  private static List<Person> persons(int count) {
+    List<Person> persons = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      List<Address> previousAddresses = new ArrayList<>();
+      for (int j = 0; j < (i == 500 ? 400 : 3); j++) {
+        previousAddresses.add(new Address("Main street", j));
+      }
+      persons.add(new Person("person " + i, new Address("Main street", i), previousAddresses));
+    }
+    return persons;
+  }
+}
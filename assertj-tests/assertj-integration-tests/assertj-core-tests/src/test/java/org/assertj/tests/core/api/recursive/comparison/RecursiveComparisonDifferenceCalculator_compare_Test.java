@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonResult;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonDifferenceCalculator_compare_Test {
+
+  private final RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+
+  record Person(String name, Address address) {
+  }
+
+  record Address(String street, int number) {
+  }
+
+  @Test
+  void should_report_visited_dual_values_count_of_equivalent_objects() {
+    // GIVEN
+    Person actual = new Person("Jack", new Address("Main street", 10));
+    Person expected = new Person("Jack", new Address("Main street", 10));
+    // WHEN
+    RecursiveComparisonResult result = calculator.compare(actual, expected, new RecursiveComparisonConfiguration());
+    // THEN
+    then(result.hasNoDifferences()).isTrue();
+    then(result.getDifferences()).isEmpty();
+    // person, name, address, street, number
+    then(result.getVisitedDualValuesCount()).isEqualTo(5);
+  }
+
+  @Test
+  void should_report_differences_and_visited_dual_values_count() {
+    // GIVEN
+    Person actual = new Person("Jack", new Address("Main street", 10));
+    Person expected = new Person("Jack", new Address("Main street", 11));
+    // WHEN
+    RecursiveComparisonResult result = calculator.compare(actual, expected, new RecursiveComparisonConfiguration());
+    // THEN
+    then(result.hasNoDifferences()).isFalse();
+    then(result.getDifferences()).extracting(ComparisonDifference::getConcatenatedPath)
+                                 .containsExactly("address.number");
+    then(result.getVisitedDualValuesCount()).isEqualTo(5);
+  }
+
+  @Test
+  void should_count_dual_values_visited_when_comparing_unordered_collections() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    configuration.ignoreCollectionOrder(true);
+    // WHEN
+    RecursiveComparisonResult result = calculator.compare(list("a", "b"), list("b", "a"), configuration);
+    // THEN
+    then(result.hasNoDifferences()).isTrue();
+    // the lists and the ("b", "b") and ("a", "a") element pairs
+    then(result.getVisitedDualValuesCount()).isEqualTo(3);
+  }
+
+}
@@ -433,6 +433,34 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.isTreatingNullAndEmptyIterablesAsEqualEnabled()).isTrue();
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_not_be_equal_to_a_configuration_with_a_different_parallelism() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    RecursiveComparisonConfiguration otherConfiguration = configBuilder().withParallelism(2).build();
+    // WHEN/THEN
+    then(configuration).isNotEqualTo(otherConfiguration)
+                       .isEqualTo(configBuilder().withParallelism(4).build())
+                       .hasSameHashCodeAs(configBuilder().withParallelism(4).build());
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_positive() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
+
   private static Builder configBuilder() {
     return RecursiveComparisonConfiguration.builder();
   }
@@ -452,6 +452,16 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_the_parallelism() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains("- the elements of large containers were compared with a parallelism of 4%n".formatted());
+  }
+
   @Test
   void should_show_ignoreNonExistentFields_in_the_description() {
     // GIVEN
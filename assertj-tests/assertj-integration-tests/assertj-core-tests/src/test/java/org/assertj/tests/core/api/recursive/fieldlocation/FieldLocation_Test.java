@@ -33,10 +33,27 @@ class FieldLocation_Test {
   @Test
   void should_honor_equals_contract() {
     // WHEN/THEN
+    // the path of a location is derived from its parent location and its field name, its hash code is cached
     EqualsVerifier.forClass(FieldLocation.class)
+                  .withPrefabValues(FieldLocation.class, new FieldLocation("person"), new FieldLocation("person.name"))
+                  .withCachedHashCode("hashCode", "computeHashCode", new FieldLocation(list("person", "[0]", "name")))
+                  .withIgnoredFields("root", "decomposedPath", "pathToUseInRules", "pathsHierarchyToUseInRules")
                   .verify();
   }
 
+  @Test
+  void should_be_equal_to_the_same_location_built_from_its_path() {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation(list("person", "[0]", "name"));
+    FieldLocation sameLinkedFieldLocation = new FieldLocation(list("person")).field("[0]").field("name");
+    FieldLocation otherFieldLocation = new FieldLocation(list("person")).field("[1]").field("name");
+    // WHEN/THEN
+    then(fieldLocation).isEqualTo(sameLinkedFieldLocation)
+                       .hasSameHashCodeAs(sameLinkedFieldLocation)
+                       .isNotEqualTo(otherFieldLocation);
+    then(sameLinkedFieldLocation).isEqualTo(fieldLocation);
+  }
+
   @Test
   void compareTo_should_order_field_location_by_alphabetical_path() {
     // GIVEN
@@ -46,4 +46,47 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_be_equal_to_the_field_location_built_from_the_whole_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("children").field("[2]").field("name");
+    // THEN
+    FieldLocation expected = new FieldLocation(list("person", "children", "[2]", "name"));
+    then(childFieldLocation).isEqualTo(expected)
+                            .hasSameHashCodeAs(expected)
+                            .isNotEqualTo(parentFieldLocation.field("children").field("[1]").field("name"));
+    then(childFieldLocation.getPathToUseInErrorReport()).isEqualTo("person.children.[2].name");
+  }
+
+  @Test
+  void should_build_root_field_location_for_root_elements() {
+    // GIVEN
+    FieldLocation rootFieldLocation = FieldLocation.rootFieldLocation();
+    // WHEN
+    FieldLocation elementFieldLocation = rootFieldLocation.field("[0]");
+    // THEN
+    then(elementFieldLocation.isRoot()).isTrue();
+    then(elementFieldLocation.getPathToUseInRules()).isEmpty();
+    then(elementFieldLocation.field("name").isRoot()).isFalse();
+    then(elementFieldLocation.field("name").isTopLevelField()).isTrue();
+  }
+
+  @Test
+  void should_handle_very_deep_field_locations() {
+    // GIVEN
+    FieldLocation deepFieldLocation = FieldLocation.rootFieldLocation();
+    FieldLocation otherDeepFieldLocation = FieldLocation.rootFieldLocation();
+    for (int i = 0; i < 100_000; i++) {
+      deepFieldLocation = deepFieldLocation.field("next");
+      otherDeepFieldLocation = otherDeepFieldLocation.field("next");
+    }
+    // WHEN/THEN
+    then(deepFieldLocation).isEqualTo(otherDeepFieldLocation)
+                           .hasSameHashCodeAs(otherDeepFieldLocation);
+    then(deepFieldLocation.getDecomposedPath()).hasSize(100_000);
+    then(deepFieldLocation.getPathToUseInRules()).startsWith("next.next").endsWith("next.next");
+  }
 }
@@ -48,6 +48,7 @@ class Configuration_apply_Test {
     // a bit dodgy but since our custom representation inherits StandardRepresentation, changing maxElementsForPrinting and
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
+    then(StandardRepresentation.getMaxCharactersForPrinting()).isEqualTo(configuration.maxCharactersForPrinting());
     then(StandardRepresentation.getMaxStackTraceElementsDisplayed()).isEqualTo(configuration.maxStackTraceElementsDisplayed());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
@@ -54,6 +54,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxElementsForPrinting() + 1;
   }
 
+  @Override
+  public int maxCharactersForPrinting() {
+    return super.maxCharactersForPrinting() + 1;
+  }
+
   @Override
   public int maxLengthForSingleLineDescription() {
     return super.maxLengthForSingleLineDescription() + 1;
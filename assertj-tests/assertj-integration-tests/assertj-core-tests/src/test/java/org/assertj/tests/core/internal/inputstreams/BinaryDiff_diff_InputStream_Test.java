@@ -82,6 +82,26 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_if_inputstreams_differ_after_several_partial_reads() throws IOException {
+    byte[] contents = new byte[100_000];
+    byte[] otherContents = contents.clone();
+    otherContents[99_999] = 1;
+    actual = new ByteArrayInputStream(contents) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        // return fewer bytes than requested like network streams do
+        return super.read(b, off, Math.min(len, 10));
+      }
+    };
+    expected = new ByteArrayInputStream(otherContents);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasDiff()).isTrue();
+    assertThat(result.offset).isEqualTo(99_999);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0x1");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
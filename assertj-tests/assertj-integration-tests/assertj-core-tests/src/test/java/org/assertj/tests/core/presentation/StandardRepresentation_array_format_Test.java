@@ -299,6 +299,37 @@ class StandardRepresentation_array_format_Test extends AbstractBaseRepresentatio
                                                                                                                     "    20]>"));
   }
 
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] array, Object root) {
+        return "single line " + super.singleLineFormat(array, root);
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array("a", "b"));
+    // THEN
+    then(formatted).isEqualTo("single line [\"a\", \"b\"]");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Object[] array, Object root) {
+        return "multi line " + super.multiLineFormat(array, root);
+      }
+    };
+    String element = "a".repeat(60);
+    // WHEN
+    String formatted = representation.toStringOf(array(element, element));
+    // THEN
+    then(formatted).isEqualTo(format("multi line [\"%s\",%n    \"%s\"]", element, element));
+  }
+
   private record Person(String name) {
 
     @Override
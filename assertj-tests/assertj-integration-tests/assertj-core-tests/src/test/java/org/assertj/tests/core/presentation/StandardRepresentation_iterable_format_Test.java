@@ -18,6 +18,7 @@ package org.assertj.tests.core.presentation;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.StringUtils.countMatches;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
@@ -275,6 +276,91 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(countMatches(formatted, "0")).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING * elementsPerArray);
   }
 
+  @Test
+  void should_format_iterable_up_to_the_maximum_allowed_characters() {
+    // GIVEN
+    List<List<Integer>> lists = list(list(1, 2, 3), list(4, 5, 6), list(7, 8, 9));
+    StandardRepresentation.setMaxCharactersForPrinting(5);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(formatted).isEqualTo("[[1, 2, 3], ...]");
+  }
+
+  @Test
+  void should_share_the_maximum_allowed_characters_with_nested_iterables() {
+    // GIVEN
+    List<List<Integer>> lists = list(list(1, 2, 3), list(4, 5, 6), list(7, 8, 9));
+    StandardRepresentation.setMaxCharactersForPrinting(2);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(lists);
+    // THEN
+    then(formatted).isEqualTo("[[1, 2, ...], ...]");
+  }
+
+  @Test
+  void should_truncate_an_element_representation_to_the_remaining_allowed_characters() {
+    // GIVEN
+    List<String> elements = list("abc", stringOfLength(1_000_000), "def");
+    StandardRepresentation.setMaxCharactersForPrinting(10);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(elements);
+    // THEN
+    then(formatted).isEqualTo("[\"abc\", \"aaaa..., ...]");
+  }
+
+  @Test
+  void should_represent_each_element_once_when_formatted_on_multiple_lines() {
+    // GIVEN
+    List<CountingToString> elements = Stream.generate(CountingToString::new).limit(50).collect(toList());
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(elements);
+    // THEN
+    then(formatted).contains(format(",%n    "));
+    then(elements).allSatisfy(element -> then(element.toStringCalls).isEqualTo(1));
+  }
+
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line " + super.singleLineFormat(iterable, start, end);
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(list(1, 2, 3));
+    // THEN
+    then(formatted).isEqualTo("single line [1, 2, 3]");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return "multi line " + super.multiLineFormat(iterable);
+      }
+    };
+    List<String> elements = list(stringOfLength(60), stringOfLength(60));
+    // WHEN
+    String formatted = representation.toStringOf(elements);
+    // THEN
+    then(formatted).isEqualTo(format("multi line [\"%s\",%n    \"%s\"]", elements.get(0), elements.get(1)));
+  }
+
+  private static class CountingToString {
+    private int toStringCalls;
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return "element with a long enough representation";
+    }
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
@@ -77,6 +77,20 @@ class StandardRepresentation_map_format_Test extends AbstractBaseRepresentationT
     then(mapRepresentation).isEqualTo("{'A'=1, 'B'=2, ...}");
   }
 
+  @Test
+  void should_format_Map_up_to_the_maximum_allowed_characters() {
+    // GIVEN
+    Map<Character, Integer> map = new HashMap<>();
+    map.put('C', 3);
+    map.put('B', 2);
+    map.put('A', 1);
+    StandardRepresentation.setMaxCharactersForPrinting(10);
+    // WHEN
+    String mapRepresentation = STANDARD_REPRESENTATION.toStringOf(map);
+    // THEN
+    then(mapRepresentation).isEqualTo("{'A'=1, 'B'=2, ...}");
+  }
+
   @Test
   void should_format_Map_containing_itself() {
     // GIVEN
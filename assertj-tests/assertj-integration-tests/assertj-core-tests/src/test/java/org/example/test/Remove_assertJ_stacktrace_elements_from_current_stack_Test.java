@@ -0,0 +1,109 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.fail;
+import static org.assertj.core.api.Assertions.setRemoveAssertJRelatedElementsFromStackTrace;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Throwables.removeAssertJRelatedElementsFromStackTrace;
+import static org.assertj.tests.core.testkit.StackTraceUtils.checkNoAssertjStackTraceElementIn;
+import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opentest4j.TestAbortedException;
+
+class Remove_assertJ_stacktrace_elements_from_current_stack_Test {
+
+  private boolean initialRemoveAssertJRelatedElementsFromStackTraceValue;
+
+  @BeforeEach
+  public void beforeTest() {
+    initialRemoveAssertJRelatedElementsFromStackTraceValue = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
+  }
+
+  @AfterEach
+  public void afterTest() {
+    setRemoveAssertJRelatedElementsFromStackTrace(initialRemoveAssertJRelatedElementsFromStackTraceValue);
+  }
+
+  @ParameterizedTest
+  @MethodSource("failing_assertions")
+  void should_filter_the_current_stack_like_the_stack_trace_of_the_error(ThrowingCallable failingAssertion) {
+    // GIVEN errors created from the same frames, the first one filtered while walking the current stack
+    List<AssertionError> errors = Stream.of(true, false).map(remove -> assertionError(failingAssertion, remove)).toList();
+    AssertionError unfilteredError = errors.get(1);
+    // WHEN
+    removeAssertJRelatedElementsFromStackTrace(unfilteredError);
+    // THEN
+    then(errors.get(0).getStackTrace()).containsExactly(unfilteredError.getStackTrace());
+  }
+
+  @Test
+  void should_filter_the_stack_trace_of_collected_soft_assertion_errors() {
+    // GIVEN
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(0).isEqualTo(1);
+    softly.assertThat("abc").contains("d");
+    // THEN
+    then(softly.errorsCollected()).hasSize(2)
+                                  .allSatisfy(Remove_assertJ_stacktrace_elements_from_current_stack_Test::checkStackTraceStartsInTestClass);
+  }
+
+  @Test
+  void should_filter_the_stack_trace_of_the_error_causing_an_assumption_not_to_be_met() {
+    // GIVEN
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> assumeThat("abc").contains("d"));
+    // THEN
+    then(thrown).isInstanceOf(TestAbortedException.class)
+                .cause()
+                .satisfies(Remove_assertJ_stacktrace_elements_from_current_stack_Test::checkStackTraceStartsInTestClass);
+  }
+
+  private static void checkStackTraceStartsInTestClass(Throwable error) {
+    checkNoAssertjStackTraceElementIn(error);
+    then(error.getStackTrace()[0].getClassName()).isEqualTo(Remove_assertJ_stacktrace_elements_from_current_stack_Test.class.getName());
+  }
+
+  private static AssertionError assertionError(ThrowingCallable failingAssertion, boolean removeAssertJRelatedElementsFromStackTrace) {
+    setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
+    return expectAssertionError(failingAssertion);
+  }
+
+  static Stream<ThrowingCallable> failing_assertions() {
+    return Stream.of(() -> assertThat(0).isEqualTo(1),
+                     () -> assertThat("abc").contains("d"),
+                     () -> assertThat(0).satisfies(x -> assertThat(x).isEqualTo(1)),
+                     () -> assertThat(0).as("number").withFailMessage("boom").isEqualTo(1),
+                     () -> fail("boom"));
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.guava.api;
+
+import static com.google.common.collect.Range.closed;
+import static com.google.common.collect.Range.closedOpen;
+import static com.google.common.collect.Range.greaterThan;
+import static com.google.common.collect.Range.lessThan;
+import static com.google.common.collect.Range.open;
+import static com.google.common.collect.Range.openClosed;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenCode;
+import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldNotContain.shouldNotContain;
+import static org.assertj.guava.api.Assertions.assertThat;
+import static org.assertj.guava.error.RangeSetShouldEnclose.shouldEnclose;
+import static org.assertj.guava.error.RangeSetShouldIntersect.shouldIntersect;
+import static org.assertj.guava.error.RangeSetShouldNotEnclose.shouldNotEnclose;
+import static org.assertj.guava.error.RangeSetShouldNotIntersect.shouldNotIntersect;
+import static org.assertj.tests.guava.testkit.AssertionErrors.expectAssertionError;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that multi values/ranges assertions, which sweep over the actual and given ranges, report the same values or
+ * ranges as querying the actual {@code RangeSet} for each of them.
+ */
+class RangeSetAssert_with_many_values_and_ranges_Test {
+
+  @Test
+  void should_report_failing_ranges_in_the_given_order_when_ranges_are_unsorted_and_overlapping() {
+    // GIVEN
+    RangeSet<Integer> actual = ImmutableRangeSet.<Integer> builder()
+                                                .add(closed(0, 10))
+                                                .add(closedOpen(20, 30))
+                                                .add(greaterThan(40))
+                                                .build();
+    List<Range<Integer>> ranges = List.of(closed(50, 60), closed(30, 35), closed(5, 25), closed(25, 29), open(10, 20),
+                                          closedOpen(10, 10), closed(-5, 0));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).enclosesAll(ranges));
+    // THEN
+    then(error).hasMessage(shouldEnclose(actual, ranges, List.of(closed(30, 35), closed(5, 25), open(10, 20),
+                                                                 closed(-5, 0))).create());
+  }
+
+  @Test
+  void should_not_intersect_ranges_only_touching_actual_ranges() {
+    // GIVEN
+    RangeSet<Integer> actual = ImmutableRangeSet.<Integer> builder()
+                                                .add(closedOpen(0, 10))
+                                                .add(openClosed(20, 30))
+                                                .build();
+    List<Range<Integer>> ranges = List.of(closed(10, 20), closed(30, 40), lessThan(0), openClosed(9, 10), closedOpen(-5, 0),
+                                          closed(-1, 0));
+    // WHEN
+    var error = expectAssertionError(() -> assertThat(actual).intersectsAll(ranges));
+    // THEN
+    then(error).hasMessage(shouldIntersect(actual, ranges, List.of(closed(10, 20), lessThan(0), closedOpen(-5, 0))).create());
+  }
+
+  @RepeatedTest(20)
+  void should_report_the_same_ranges_as_querying_each_range(RepetitionInfo repetitionInfo) {
+    // GIVEN
+    Random random = new Random(repetitionInfo.getCurrentRepetition());
+    RangeSet<Integer> actual = TreeRangeSet.create(randomRanges(random, 50));
+    List<Range<Integer>> ranges = randomRanges(random, 100);
+    @SuppressWarnings("unchecked")
+    Range<Integer>[] rangesArray = ranges.toArray(new Range[0]);
+    List<Range<Integer>> notIntersected = filter(ranges, range -> !actual.intersects(range));
+    List<Range<Integer>> intersected = filter(ranges, actual::intersects);
+    List<Range<Integer>> notEnclosed = filter(ranges, range -> !actual.encloses(range));
+    List<Range<Integer>> enclosed = filter(ranges, actual::encloses);
+    // WHEN/THEN
+    thenFailsWith(() -> assertThat(actual).intersectsAll(ranges),
+                  notIntersected.isEmpty() ? null : shouldIntersect(actual, ranges, notIntersected).create());
+    thenFailsWith(() -> assertThat(actual).intersects(rangesArray),
+                  notIntersected.isEmpty() ? null : shouldIntersect(actual, rangesArray, notIntersected).create());
+    thenFailsWith(() -> assertThat(actual).doesNotIntersectAnyRangeFrom(ranges),
+                  intersected.isEmpty() ? null : shouldNotIntersect(actual, ranges, intersected).create());
+    thenFailsWith(() -> assertThat(actual).enclosesAll(ranges),
+                  notEnclosed.isEmpty() ? null : shouldEnclose(actual, ranges, notEnclosed).create());
+    thenFailsWith(() -> assertThat(actual).doesNotEncloseAnyRangesOf(ranges),
+                  enclosed.isEmpty() ? null : shouldNotEnclose(actual, ranges, enclosed).create());
+  }
+
+  @RepeatedTest(20)
+  void should_report_the_same_values_as_querying_each_value(RepetitionInfo repetitionInfo) {
+    // GIVEN
+    Random random = new Random(repetitionInfo.getCurrentRepetition());
+    RangeSet<Integer> actual = TreeRangeSet.create(randomRanges(random, 50));
+    List<Integer> values = new ArrayList<>();
+    for (int i = 0; i < 200; i++) values.add(random.nextInt(250) - 25);
+    Integer[] valuesArray = values.toArray(new Integer[0]);
+    List<Integer> notFound = filter(values, value -> !actual.contains(value));
+    List<Integer> found = filter(values, actual::contains);
+    // WHEN/THEN
+    thenFailsWith(() -> assertThat(actual).containsAll(values),
+                  notFound.isEmpty() ? null : shouldContain(actual, valuesArray, notFound).create());
+    thenFailsWith(() -> assertThat(actual).doesNotContainAll(values),
+                  found.isEmpty() ? null : shouldNotContain(actual, valuesArray, found).create());
+  }
+
+  private static void thenFailsWith(ThrowingCallable assertion, String expectedErrorMessage) {
+    if (expectedErrorMessage == null) thenCode(assertion).doesNotThrowAnyException();
+    else then(expectAssertionError(assertion)).hasMessage(expectedErrorMessage);
+  }
+
+  private static <E> List<E> filter(List<E> elements, Predicate<E> predicate) {
+    return elements.stream().filter(predicate).toList();
+  }
+
+  // random ranges over [-20, 220] including unbounded, empty and singleton ranges
+  private static List<Range<Integer>> randomRanges(Random random, int count) {
+    List<Range<Integer>> ranges = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int lower = random.nextInt(240) - 20;
+      int upper = lower + random.nextInt(10);
+      BoundType lowerBoundType = random.nextBoolean() ? BoundType.OPEN : BoundType.CLOSED;
+      // (a, a) is not a valid range
+      BoundType upperBoundType = random.nextBoolean() && lower != upper ? BoundType.OPEN : BoundType.CLOSED;
+      switch (random.nextInt(20)) {
+      case 0 -> ranges.add(Range.upTo(upper, upperBoundType));
+      case 1 -> ranges.add(Range.downTo(lower, lowerBoundType));
+      default -> ranges.add(Range.range(lower, lowerBoundType, upper, upperBoundType));
+      }
+    }
+    return ranges;
+  }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that primitive array assertions looking up values in the actual array are close to O(N*log(N))
+ * operations and do not box the array elements. Each value used to be looked up by scanning the whole actual array,
+ * looking up 1 million values in an array of 1 million elements is O(1000 billion) which takes hours.
+ */
+class PrimitiveArrayAssertionsPerfTest {
+
+  private static final int[] ACTUAL = IntStream.range(0, 1_000_000).toArray();
+  private static final int[] SHUFFLED = shuffled(ACTUAL);
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_1mValues() {
+    assertThat(ACTUAL).contains(SHUFFLED);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_1mValues() {
+    assertThat(ACTUAL).containsOnly(SHUFFLED);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mValues() {
+    assertThat(ACTUAL).containsExactlyInAnyOrder(SHUFFLED);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_1mValues() {
+    assertThat(ACTUAL).doesNotContain(IntStream.range(1_000_000, 2_000_000).toArray());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotHaveDuplicates_1mElements() {
+    assertThat(SHUFFLED).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSorted_1mElements() {
+    assertThat(ACTUAL).isSorted();
+  }
+
+  private static int[] shuffled(int[] array) {
+    int[] shuffled = array.clone();
+    Random random = new Random(42);
+    for (int i = shuffled.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int element = shuffled[i];
+      shuffled[i] = shuffled[j];
+      shuffled[j] = element;
+    }
+    return shuffled;
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.assertj.tests.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * These tests ensure that comparing collections ignoring their order with the recursive comparison is close to an O(N)
+ * operation when elements hash codes are meaningful. Actual elements used to be grouped by hash code for each expected
+ * element, comparing two collections of 50k elements meant grouping 50k elements 50k times which took minutes.
+ * <p>
+ * Comparing elements field by field also requires looking up the already visited dual values in constant time.
+ */
+class RecursiveComparisonIgnoringCollectionOrderPerfTest {
+
+  record Person(String name, int age) {
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_ignoringCollectionOrder_50kElements() {
+    // GIVEN
+    List<String> actual = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      actual.add("element " + i);
+    }
+    List<String> expected = new ArrayList<>(actual.size());
+    actual.forEach(element -> expected.add(new String(element)));
+    Collections.shuffle(expected, new Random(42));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_ignoringCollectionOrder_50kElements_with_duplicates() {
+    // GIVEN
+    List<String> actual = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      actual.add("element " + i % 10);
+    }
+    List<String> expected = new ArrayList<>(actual);
+    Collections.shuffle(expected, new Random(42));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_ignoringCollectionOrder_20kElements_compared_field_by_field() {
+    // GIVEN
+    List<Person> actual = new ArrayList<>();
+    for (int i = 0; i < 20_000; i++) {
+      actual.add(new Person("person " + i, i % 100));
+    }
+    List<Person> expected = new ArrayList<>(actual.size());
+    actual.forEach(person -> expected.add(new Person(person.name(), person.age())));
+    Collections.shuffle(expected, new Random(42));
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .ignoringCollectionOrder()
+                      .isEqualTo(expected);
+  }
+
+}